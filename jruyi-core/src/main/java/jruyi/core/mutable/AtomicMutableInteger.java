@@ -0,0 +1,143 @@
+package jruyi.core.mutable;
+
+import java.io.Serial;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * <h2>线程安全的可变 Integer</h2>
+ *
+ * <p>
+ * 通过 {@link VarHandle} 访问值，{@link #get()}、{@link #set(Integer)} 等默认方法使用 volatile 语义，
+ * 另外提供 acquire/release、opaque 与 plain 访问模式以及 CAS 操作
+ * </p>
+ *
+ * <p>与 {@link java.util.concurrent.atomic.AtomicInteger} 一致，不重写 equals 与 hashCode</p>
+ *
+ * @Date 2026-10-18 17:10
+ */
+public class AtomicMutableInteger extends Number implements Mutable.OfInt
+{
+    @Serial private static final long serialVersionUID = 1L;
+
+    private static final VarHandle value_handle;
+
+    static
+    {
+        try { value_handle = MethodHandles.lookup().findVarHandle(AtomicMutableInteger.class, "value", int.class); }
+        catch (ReflectiveOperationException e) { throw new ExceptionInInitializerError(e); }
+    }
+
+    private volatile int value;
+
+    private AtomicMutableInteger(int value) { this.value = value; }
+
+    public static AtomicMutableInteger of(int value) { return new AtomicMutableInteger(value); }
+
+    // PART ----- ACCESS MODE -----
+
+    @Override public int getAsInt() { return value; }
+
+    @Override public void setInt(int value) { this.value = value; }
+
+    public int getPlain() { return (int) value_handle.get(this); }
+
+    public void setPlain(int value) { value_handle.set(this, value); }
+
+    public int getOpaque() { return (int) value_handle.getOpaque(this); }
+
+    public void setOpaque(int value) { value_handle.setOpaque(this, value); }
+
+    public int getAcquire() { return (int) value_handle.getAcquire(this); }
+
+    public void setRelease(int value) { value_handle.setRelease(this, value); }
+
+    // PART ----- ATOMIC -----
+
+    public boolean compareAndSet(int expected, int value)
+    {
+        return value_handle.compareAndSet(this, expected, value);
+    }
+
+    /**
+     * 可能虚假失败的 CAS，适合在循环中使用
+     */
+    public boolean weakCompareAndSet(int expected, int value)
+    {
+        return value_handle.weakCompareAndSet(this, expected, value);
+    }
+
+    public int getAndSet(int value) { return (int) value_handle.getAndSet(this, value); }
+
+    public int getAndIncrement() { return (int) value_handle.getAndAdd(this, 1); }
+
+    public int getAndDecrement() { return (int) value_handle.getAndAdd(this, -1); }
+
+    public int getAndAdd(int delta) { return (int) value_handle.getAndAdd(this, delta); }
+
+    public int incrementAndGet() { return (int) value_handle.getAndAdd(this, 1) + 1; }
+
+    public int decrementAndGet() { return (int) value_handle.getAndAdd(this, -1) - 1; }
+
+    public int addAndGet(int delta) { return (int) value_handle.getAndAdd(this, delta) + delta; }
+
+    /**
+     * @param updater 无副作用的更新函数，竞争时可能被多次调用
+     * @return 更新前的值
+     */
+    public int getAndUpdate(IntUnaryOperator updater)
+    {
+        int prev = value, next = 0;
+        for (var haveNext = false; ; )
+        {
+            if (!haveNext) next = updater.applyAsInt(prev);
+            if (weakCompareAndSet(prev, next)) return prev;
+            haveNext = prev == (prev = value);
+        }
+    }
+
+    /**
+     * @param updater 无副作用的更新函数，竞争时可能被多次调用
+     * @return 更新后的值
+     */
+    public int updateAndGet(IntUnaryOperator updater)
+    {
+        int prev = value, next = 0;
+        for (var haveNext = false; ; )
+        {
+            if (!haveNext) next = updater.applyAsInt(prev);
+            if (weakCompareAndSet(prev, next)) return next;
+            haveNext = prev == (prev = value);
+        }
+    }
+
+    /**
+     * @param x           参与计算的值
+     * @param accumulator 无副作用的计算函数，竞争时可能被多次调用
+     * @return 更新后的值
+     */
+    public int accumulateAndGet(int x, IntBinaryOperator accumulator)
+    {
+        int prev = value, next = 0;
+        for (var haveNext = false; ; )
+        {
+            if (!haveNext) next = accumulator.applyAsInt(prev, x);
+            if (weakCompareAndSet(prev, next)) return next;
+            haveNext = prev == (prev = value);
+        }
+    }
+
+    // PART ----- OBJECT -----
+
+    @Override public String toString() { return Integer.toString(value); }
+
+    @Override public int intValue() { return value; }
+
+    @Override public long longValue() { return value; }
+
+    @Override public float floatValue() { return value; }
+
+    @Override public double doubleValue() { return value; }
+}
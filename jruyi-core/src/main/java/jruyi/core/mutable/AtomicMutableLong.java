@@ -0,0 +1,143 @@
+package jruyi.core.mutable;
+
+import java.io.Serial;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * <h2>线程安全的可变 Long</h2>
+ *
+ * <p>
+ * 通过 {@link VarHandle} 访问值，{@link #get()}、{@link #set(Long)} 等默认方法使用 volatile 语义，
+ * 另外提供 acquire/release、opaque 与 plain 访问模式以及 CAS 操作
+ * </p>
+ *
+ * <p>与 {@link java.util.concurrent.atomic.AtomicLong} 一致，不重写 equals 与 hashCode</p>
+ *
+ * @Date 2026-10-18 17:10
+ */
+public class AtomicMutableLong extends Number implements Mutable.OfLong
+{
+    @Serial private static final long serialVersionUID = 1L;
+
+    private static final VarHandle value_handle;
+
+    static
+    {
+        try { value_handle = MethodHandles.lookup().findVarHandle(AtomicMutableLong.class, "value", long.class); }
+        catch (ReflectiveOperationException e) { throw new ExceptionInInitializerError(e); }
+    }
+
+    private volatile long value;
+
+    private AtomicMutableLong(long value) { this.value = value; }
+
+    public static AtomicMutableLong of(long value) { return new AtomicMutableLong(value); }
+
+    // PART ----- ACCESS MODE -----
+
+    @Override public long getAsLong() { return value; }
+
+    @Override public void setLong(long value) { this.value = value; }
+
+    public long getPlain() { return (long) value_handle.get(this); }
+
+    public void setPlain(long value) { value_handle.set(this, value); }
+
+    public long getOpaque() { return (long) value_handle.getOpaque(this); }
+
+    public void setOpaque(long value) { value_handle.setOpaque(this, value); }
+
+    public long getAcquire() { return (long) value_handle.getAcquire(this); }
+
+    public void setRelease(long value) { value_handle.setRelease(this, value); }
+
+    // PART ----- ATOMIC -----
+
+    public boolean compareAndSet(long expected, long value)
+    {
+        return value_handle.compareAndSet(this, expected, value);
+    }
+
+    /**
+     * 可能虚假失败的 CAS，适合在循环中使用
+     */
+    public boolean weakCompareAndSet(long expected, long value)
+    {
+        return value_handle.weakCompareAndSet(this, expected, value);
+    }
+
+    public long getAndSet(long value) { return (long) value_handle.getAndSet(this, value); }
+
+    public long getAndIncrement() { return (long) value_handle.getAndAdd(this, 1L); }
+
+    public long getAndDecrement() { return (long) value_handle.getAndAdd(this, -1L); }
+
+    public long getAndAdd(long delta) { return (long) value_handle.getAndAdd(this, delta); }
+
+    public long incrementAndGet() { return (long) value_handle.getAndAdd(this, 1L) + 1; }
+
+    public long decrementAndGet() { return (long) value_handle.getAndAdd(this, -1L) - 1; }
+
+    public long addAndGet(long delta) { return (long) value_handle.getAndAdd(this, delta) + delta; }
+
+    /**
+     * @param updater 无副作用的更新函数，竞争时可能被多次调用
+     * @return 更新前的值
+     */
+    public long getAndUpdate(LongUnaryOperator updater)
+    {
+        long prev = value, next = 0;
+        for (var haveNext = false; ; )
+        {
+            if (!haveNext) next = updater.applyAsLong(prev);
+            if (weakCompareAndSet(prev, next)) return prev;
+            haveNext = prev == (prev = value);
+        }
+    }
+
+    /**
+     * @param updater 无副作用的更新函数，竞争时可能被多次调用
+     * @return 更新后的值
+     */
+    public long updateAndGet(LongUnaryOperator updater)
+    {
+        long prev = value, next = 0;
+        for (var haveNext = false; ; )
+        {
+            if (!haveNext) next = updater.applyAsLong(prev);
+            if (weakCompareAndSet(prev, next)) return next;
+            haveNext = prev == (prev = value);
+        }
+    }
+
+    /**
+     * @param x           参与计算的值
+     * @param accumulator 无副作用的计算函数，竞争时可能被多次调用
+     * @return 更新后的值
+     */
+    public long accumulateAndGet(long x, LongBinaryOperator accumulator)
+    {
+        long prev = value, next = 0;
+        for (var haveNext = false; ; )
+        {
+            if (!haveNext) next = accumulator.applyAsLong(prev, x);
+            if (weakCompareAndSet(prev, next)) return next;
+            haveNext = prev == (prev = value);
+        }
+    }
+
+    // PART ----- OBJECT -----
+
+    @Override public String toString() { return Long.toString(value); }
+
+    @Override public int intValue() { return (int) value; }
+
+    @Override public long longValue() { return value; }
+
+    @Override public float floatValue() { return value; }
+
+    @Override public double doubleValue() { return value; }
+}
@@ -0,0 +1,133 @@
+package jruyi.core.mutable;
+
+import jakarta.annotation.Nullable;
+
+import java.io.Serial;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
+
+/**
+ * <h2>线程安全的可变对象</h2>
+ *
+ * <p>
+ * 通过 {@link VarHandle} 访问值，{@link #get()}、{@link #set(Object)} 使用 volatile 语义，
+ * 另外提供 acquire/release、opaque 与 plain 访问模式以及 CAS 操作，CAS 按引用比较
+ * </p>
+ *
+ * @param <V> 被包装类型
+ * @Date 2026-10-18 17:10
+ */
+public final class AtomicMutableObject<V> implements Mutable<V>
+{
+    @Serial private static final long serialVersionUID = 1L;
+
+    private static final VarHandle value_handle;
+
+    static
+    {
+        try { value_handle = MethodHandles.lookup().findVarHandle(AtomicMutableObject.class, "value", Object.class); }
+        catch (ReflectiveOperationException e) { throw new ExceptionInInitializerError(e); }
+    }
+
+    @Nullable private volatile V value;
+
+    private AtomicMutableObject(@Nullable V value) { this.value = value; }
+
+    public static <D> AtomicMutableObject<D> of(@Nullable D value) { return new AtomicMutableObject<>(value); }
+
+    // PART ----- ACCESS MODE -----
+
+    @Override @Nullable public V get() { return value; }
+
+    @Override public void set(@Nullable V value) { this.value = value; }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V getPlain() { return (V) value_handle.get(this); }
+
+    public void setPlain(@Nullable V value) { value_handle.set(this, value); }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V getOpaque() { return (V) value_handle.getOpaque(this); }
+
+    public void setOpaque(@Nullable V value) { value_handle.setOpaque(this, value); }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V getAcquire() { return (V) value_handle.getAcquire(this); }
+
+    public void setRelease(@Nullable V value) { value_handle.setRelease(this, value); }
+
+    // PART ----- ATOMIC -----
+
+    public boolean compareAndSet(@Nullable V expected, @Nullable V value)
+    {
+        return value_handle.compareAndSet(this, expected, value);
+    }
+
+    /**
+     * 可能虚假失败的 CAS，适合在循环中使用
+     */
+    public boolean weakCompareAndSet(@Nullable V expected, @Nullable V value)
+    {
+        return value_handle.weakCompareAndSet(this, expected, value);
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V getAndSet(@Nullable V value) { return (V) value_handle.getAndSet(this, value); }
+
+    /**
+     * @param updater 无副作用的更新函数，竞争时可能被多次调用
+     * @return 更新前的值
+     */
+    @Nullable
+    public V getAndUpdate(UnaryOperator<V> updater)
+    {
+        V prev = value, next = null;
+        for (var haveNext = false; ; )
+        {
+            if (!haveNext) next = updater.apply(prev);
+            if (weakCompareAndSet(prev, next)) return prev;
+            haveNext = prev == (prev = value);
+        }
+    }
+
+    /**
+     * @param updater 无副作用的更新函数，竞争时可能被多次调用
+     * @return 更新后的值
+     */
+    @Nullable
+    public V updateAndGet(UnaryOperator<V> updater)
+    {
+        V prev = value, next = null;
+        for (var haveNext = false; ; )
+        {
+            if (!haveNext) next = updater.apply(prev);
+            if (weakCompareAndSet(prev, next)) return next;
+            haveNext = prev == (prev = value);
+        }
+    }
+
+    /**
+     * @param x           参与计算的值
+     * @param accumulator 无副作用的计算函数，竞争时可能被多次调用
+     * @return 更新后的值
+     */
+    @Nullable
+    public V accumulateAndGet(@Nullable V x, BinaryOperator<V> accumulator)
+    {
+        V prev = value, next = null;
+        for (var haveNext = false; ; )
+        {
+            if (!haveNext) next = accumulator.apply(prev, x);
+            if (weakCompareAndSet(prev, next)) return next;
+            haveNext = prev == (prev = value);
+        }
+    }
+
+    @Override public String toString() { return String.valueOf(value); }
+}
@@ -0,0 +1,128 @@
+package jruyi.core.mutable;
+
+import jakarta.annotation.Nullable;
+import jruyi.util.Assert;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * <h2>派生值</h2>
+ *
+ * <p>
+ * 由其他 {@link Versioned} 数据计算得到的值，计算期间读取的 {@link VersionedMutable}、{@link Derived} 自动登记为依赖；
+ * 读取时只有依赖的版本戳发生变化才重新计算，否则返回缓存的值
+ * </p>
+ *
+ * <p>
+ * 全局时钟自上次校验后没有前进时（即任何数据都没有变化），读取不检查依赖；
+ * 重新计算的结果与之前相等时不更新版本戳，依赖它的派生值也不会重新计算
+ * </p>
+ *
+ * <p>非线程安全；每次计算重新收集依赖，条件分支中读取的数据只在实际读取时才成为依赖</p>
+ *
+ * @param <V> 值类型
+ * @Date 2026-10-18 18:20
+ */
+public final class Derived<V> implements Supplier<V>, Versioned
+{
+    private static final Versioned[] empty_sources = new Versioned[0];
+
+    private final Supplier<? extends V> compute;
+
+    @Nullable private V value;
+    private long stamp;
+    private boolean computed;
+    private boolean computing;
+
+    /**
+     * 上次校验时的全局时钟
+     */
+    private long checkedAt;
+
+    private Versioned[] sources = empty_sources;
+    private long[] sourceStamps = new long[0];
+
+    private Derived(Supplier<? extends V> compute) { this.compute = compute; }
+
+    /**
+     * @param compute 计算函数，应只依赖通过 {@link Versioned} 数据读取的输入
+     */
+    public static <D> Derived<D> of(Supplier<? extends D> compute)
+    {
+        Assert.paramNotNull(compute, "compute");
+        return new Derived<>(compute);
+    }
+
+    @Override
+    @Nullable
+    public V get()
+    {
+        refresh();
+        Tracking.record(this, stamp);
+        return value;
+    }
+
+    /**
+     * @return 必要时重新计算后的版本戳
+     */
+    @Override
+    public long stamp()
+    {
+        refresh();
+        return stamp;
+    }
+
+    /**
+     * @return 上次计算后依赖是否发生了变化，即下次读取是否会重新计算
+     */
+    public boolean isStale() { return !computed || Tracking.now() != checkedAt && sourcesChanged(); }
+
+    /**
+     * 丢弃缓存的值，下次读取时重新计算
+     */
+    public void invalidate() { computed = false; }
+
+    private void refresh()
+    {
+        Assert.state(!computing, "circular dependency detected in derived value");
+        var now = Tracking.now();
+        if (computed && checkedAt == now) return;
+        if (!computed || sourcesChanged()) recompute();
+        checkedAt = Tracking.now();
+    }
+
+    private boolean sourcesChanged()
+    {
+        for (int i = 0; i < sources.length; i++)
+            if (sources[i].stamp() != sourceStamps[i]) return true;
+        return false;
+    }
+
+    private void recompute()
+    {
+        computing = true;
+        var frame = Tracking.begin();
+        V next;
+        try { next = compute.get(); }
+        finally
+        {
+            Tracking.end(frame);
+            computing = false;
+        }
+
+        var reads = frame.reads;
+        sources = reads.keySet().toArray(empty_sources);
+        sourceStamps = new long[sources.length];
+        for (int i = 0; i < sources.length; i++) sourceStamps[i] = reads.get(sources[i]);
+
+        if (!computed || !Objects.equals(value, next))
+        {
+            value = next;
+            stamp = Tracking.next();
+        }
+        computed = true;
+    }
+
+    @Override public String toString() { return computed ? STR."Derived[\{value}]" : "Derived[uncomputed]"; }
+}
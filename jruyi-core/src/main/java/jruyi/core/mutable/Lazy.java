@@ -0,0 +1,124 @@
+package jruyi.core.mutable;
+
+import jakarta.annotation.Nullable;
+import jruyi.util.Assert;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * <h2>延迟初始化值</h2>
+ *
+ * <p>
+ * 首次调用 {@link #get()} 时计算值，之后直接返回；值通过 {@link VarHandle} 的 release 写入、acquire 读取发布，
+ * 初始化后的读取不加锁；初始化在锁内进行，并发调用时只计算一次，允许计算结果为 null
+ * </p>
+ *
+ * <p>计算抛出异常时，可选择下次调用重新计算，或记录该异常并在之后每次调用时重新抛出</p>
+ *
+ * @param <T> 值类型
+ * @Date 2026-10-18 17:40
+ */
+public final class Lazy<T> implements Supplier<T>
+{
+    private static final Object unset = new Object();
+
+    private static final VarHandle value_handle;
+
+    static
+    {
+        try { value_handle = MethodHandles.lookup().findVarHandle(Lazy.class, "value", Object.class); }
+        catch (ReflectiveOperationException e) { throw new ExceptionInInitializerError(e); }
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final boolean retryOnFailure;
+
+    @Nullable private Supplier<? extends T> supplier;
+    @Nullable private Object value = unset;
+
+    private Lazy(Supplier<? extends T> supplier, boolean retryOnFailure)
+    {
+        this.supplier = supplier;
+        this.retryOnFailure = retryOnFailure;
+    }
+
+    /**
+     * 计算失败时不记录异常，下次调用重新计算
+     *
+     * @param supplier 值的计算函数
+     */
+    public static <T> Lazy<T> of(Supplier<? extends T> supplier) { return of(supplier, true); }
+
+    /**
+     * @param supplier       值的计算函数，初始化完成后释放引用
+     * @param retryOnFailure 为 true 时计算失败后下次调用重新计算，否则之后每次调用都抛出同一异常
+     */
+    public static <T> Lazy<T> of(Supplier<? extends T> supplier, boolean retryOnFailure)
+    {
+        Assert.paramNotNull(supplier, "supplier");
+        return new Lazy<>(supplier, retryOnFailure);
+    }
+
+    /**
+     * @return 计算后的值
+     */
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public T get()
+    {
+        var v = value_handle.getAcquire(this);
+        if (v == unset) v = initialize();
+        if (v instanceof Failure f) throw f.rethrow();
+        return (T) v;
+    }
+
+    /**
+     * @return 是否已初始化，记录了计算异常时同样视为已初始化
+     */
+    public boolean isInitialized() { return value_handle.getAcquire(this) != unset; }
+
+    private Object initialize()
+    {
+        lock.lock();
+        try
+        {
+            var v = value;
+            if (v != unset) return v;
+            try { v = supplier.get(); }
+            catch (RuntimeException | Error e)
+            {
+                if (retryOnFailure) throw e;
+                v = new Failure(e);
+            }
+            value_handle.setRelease(this, v);
+            supplier = null;
+            return v;
+        }
+        finally { lock.unlock(); }
+    }
+
+    @Override
+    public String toString()
+    {
+        var v = value_handle.getAcquire(this);
+        if (v == unset) return "Lazy[uninitialized]";
+        if (v instanceof Failure f) return STR."Lazy[failed: \{f.cause}]";
+        return STR."Lazy[\{v}]";
+    }
+
+    /**
+     * 记录的计算异常
+     */
+    private record Failure(Throwable cause)
+    {
+        RuntimeException rethrow()
+        {
+            if (cause instanceof Error e) throw e;
+            return (RuntimeException) cause;
+        }
+    }
+}
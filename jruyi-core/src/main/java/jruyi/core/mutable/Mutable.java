@@ -19,4 +19,68 @@ public interface Mutable<V> extends Serializable
      * 设置 value
      */
     void set(V v);
-}
\ No newline at end of file
+
+    /**
+     * <h2>int 可变数据</h2>
+     *
+     * <p>通过 {@link #getAsInt()}、{@link #setInt(int)} 访问时不装箱</p>
+     */
+    interface OfInt extends Mutable<Integer>
+    {
+        int getAsInt();
+
+        void setInt(int v);
+
+        @Override default Integer get() { return getAsInt(); }
+
+        @Override default void set(Integer v) { setInt(v); }
+    }
+
+    /**
+     * <h2>long 可变数据</h2>
+     *
+     * <p>通过 {@link #getAsLong()}、{@link #setLong(long)} 访问时不装箱</p>
+     */
+    interface OfLong extends Mutable<Long>
+    {
+        long getAsLong();
+
+        void setLong(long v);
+
+        @Override default Long get() { return getAsLong(); }
+
+        @Override default void set(Long v) { setLong(v); }
+    }
+
+    /**
+     * <h2>double 可变数据</h2>
+     *
+     * <p>通过 {@link #getAsDouble()}、{@link #setDouble(double)} 访问时不装箱</p>
+     */
+    interface OfDouble extends Mutable<Double>
+    {
+        double getAsDouble();
+
+        void setDouble(double v);
+
+        @Override default Double get() { return getAsDouble(); }
+
+        @Override default void set(Double v) { setDouble(v); }
+    }
+
+    /**
+     * <h2>boolean 可变数据</h2>
+     *
+     * <p>通过 {@link #getAsBoolean()}、{@link #setBoolean(boolean)} 访问时不装箱</p>
+     */
+    interface OfBoolean extends Mutable<Boolean>
+    {
+        boolean getAsBoolean();
+
+        void setBoolean(boolean v);
+
+        @Override default Boolean get() { return getAsBoolean(); }
+
+        @Override default void set(Boolean v) { setBoolean(v); }
+    }
+}
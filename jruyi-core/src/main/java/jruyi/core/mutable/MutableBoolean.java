@@ -0,0 +1,62 @@
+package jruyi.core.mutable;
+
+import jakarta.annotation.Nullable;
+
+import java.io.Serial;
+
+/**
+ * <h2>可变 Boolean</h2>
+ *
+ * @Date 2026-10-18 16:50
+ */
+public class MutableBoolean implements Mutable.OfBoolean, Comparable<MutableBoolean>
+{
+    @Serial private static final long serialVersionUID = 1L;
+
+    private boolean value;
+
+    private MutableBoolean(boolean value) { this.value = value; }
+
+    public static MutableBoolean of(boolean value) { return new MutableBoolean(value); }
+
+    public static MutableBoolean of(Boolean value) { return new MutableBoolean(value); }
+
+    @Override public boolean getAsBoolean() { return value; }
+
+    @Override public void setBoolean(boolean value) { this.value = value; }
+
+    // PART ----- LOGIC -----
+
+    /**
+     * 取反
+     */
+    public void negate() { value = !value; }
+
+    public boolean negateAndGet() { return value = !value; }
+
+    public boolean getAndSet(boolean value)
+    {
+        var prev = this.value;
+        this.value = value;
+        return prev;
+    }
+
+    // PART ----- OBJECT -----
+
+    @Override
+    public boolean equals(@Nullable Object o)
+    {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        MutableBoolean that = (MutableBoolean) o;
+
+        return value == that.value;
+    }
+
+    @Override public int hashCode() { return Boolean.hashCode(value); }
+
+    @Override public String toString() { return Boolean.toString(value); }
+
+    @Override public int compareTo(MutableBoolean o) { return Boolean.compare(value, o.value); }
+}
@@ -0,0 +1,83 @@
+package jruyi.core.mutable;
+
+import jakarta.annotation.Nullable;
+
+import java.io.Serial;
+
+/**
+ * <h2>可变 Double</h2>
+ *
+ * <p>算术方法原地修改值，不创建对象</p>
+ *
+ * @Date 2026-10-18 16:50
+ */
+public class MutableDouble extends Number implements Mutable.OfDouble, Comparable<MutableDouble>
+{
+    @Serial private static final long serialVersionUID = 1L;
+
+    private double value;
+
+    private MutableDouble(double value) { this.value = value; }
+
+    public static MutableDouble of(double value) { return new MutableDouble(value); }
+
+    public static MutableDouble of(Double value) { return new MutableDouble(value); }
+
+    @Override public double getAsDouble() { return value; }
+
+    @Override public void setDouble(double value) { this.value = value; }
+
+    // PART ----- ARITHMETIC -----
+
+    public void increment() { value++; }
+
+    public void decrement() { value--; }
+
+    public void add(double delta) { value += delta; }
+
+    public double addAndGet(double delta) { return value += delta; }
+
+    public double getAndAdd(double delta)
+    {
+        var prev = value;
+        value += delta;
+        return prev;
+    }
+
+    public double getAndSet(double value)
+    {
+        var prev = this.value;
+        this.value = value;
+        return prev;
+    }
+
+    // PART ----- OBJECT -----
+
+    /**
+     * 与 {@link Double#equals(Object)} 一致，按位比较
+     */
+    @Override
+    public boolean equals(@Nullable Object o)
+    {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        MutableDouble that = (MutableDouble) o;
+
+        return Double.doubleToLongBits(value) == Double.doubleToLongBits(that.value);
+    }
+
+    @Override public int hashCode() { return Double.hashCode(value); }
+
+    @Override public String toString() { return Double.toString(value); }
+
+    @Override public int intValue() { return (int) value; }
+
+    @Override public long longValue() { return (long) value; }
+
+    @Override public float floatValue() { return (float) value; }
+
+    @Override public double doubleValue() { return value; }
+
+    @Override public int compareTo(MutableDouble o) { return Double.compare(value, o.value); }
+}
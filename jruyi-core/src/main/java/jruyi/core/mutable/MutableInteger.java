@@ -2,13 +2,19 @@ package jruyi.core.mutable;
 
 import jakarta.annotation.Nullable;
 
+import java.io.Serial;
+
 /**
  * <h2>可变 Integer</h2>
  *
+ * <p>算术方法原地修改值，不创建对象</p>
+ *
  * @Date 2024-04-02 20:27
  */
-public class MutableInteger extends Number implements Mutable<Integer>, Comparable<MutableInteger>
+public class MutableInteger extends Number implements Mutable.OfInt, Comparable<MutableInteger>
 {
+    @Serial private static final long serialVersionUID = 1L;
+
     private int value;
 
     private MutableInteger(int value) { this.value = value; }
@@ -17,9 +23,43 @@ public class MutableInteger extends Number implements Mutable<Integer>, Comparab
 
     public static MutableInteger of(Integer value) { return new MutableInteger(value); }
 
-    @Override public Integer get() { return value; }
+    @Override public int getAsInt() { return value; }
+
+    @Override public void setInt(int value) { this.value = value; }
+
+    // PART ----- ARITHMETIC -----
+
+    public void increment() { value++; }
+
+    public void decrement() { value--; }
+
+    public void add(int delta) { value += delta; }
+
+    public int incrementAndGet() { return ++value; }
+
+    public int decrementAndGet() { return --value; }
+
+    public int getAndIncrement() { return value++; }
+
+    public int getAndDecrement() { return value--; }
+
+    public int addAndGet(int delta) { return value += delta; }
+
+    public int getAndAdd(int delta)
+    {
+        var prev = value;
+        value += delta;
+        return prev;
+    }
+
+    public int getAndSet(int value)
+    {
+        var prev = this.value;
+        this.value = value;
+        return prev;
+    }
 
-    @Override public void set(Integer value) { this.value = value; }
+    // PART ----- OBJECT -----
 
     @Override
     public boolean equals(@Nullable Object o)
@@ -45,4 +85,4 @@ public class MutableInteger extends Number implements Mutable<Integer>, Comparab
     @Override public double doubleValue() { return value; }
 
     @Override public int compareTo(MutableInteger o) { return Integer.compare(value, o.value); }
-}
\ No newline at end of file
+}
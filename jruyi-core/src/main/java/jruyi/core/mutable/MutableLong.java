@@ -0,0 +1,88 @@
+package jruyi.core.mutable;
+
+import jakarta.annotation.Nullable;
+
+import java.io.Serial;
+
+/**
+ * <h2>可变 Long</h2>
+ *
+ * <p>算术方法原地修改值，不创建对象</p>
+ *
+ * @Date 2026-10-18 16:50
+ */
+public class MutableLong extends Number implements Mutable.OfLong, Comparable<MutableLong>
+{
+    @Serial private static final long serialVersionUID = 1L;
+
+    private long value;
+
+    private MutableLong(long value) { this.value = value; }
+
+    public static MutableLong of(long value) { return new MutableLong(value); }
+
+    public static MutableLong of(Long value) { return new MutableLong(value); }
+
+    @Override public long getAsLong() { return value; }
+
+    @Override public void setLong(long value) { this.value = value; }
+
+    // PART ----- ARITHMETIC -----
+
+    public void increment() { value++; }
+
+    public void decrement() { value--; }
+
+    public void add(long delta) { value += delta; }
+
+    public long incrementAndGet() { return ++value; }
+
+    public long decrementAndGet() { return --value; }
+
+    public long getAndIncrement() { return value++; }
+
+    public long getAndDecrement() { return value--; }
+
+    public long addAndGet(long delta) { return value += delta; }
+
+    public long getAndAdd(long delta)
+    {
+        var prev = value;
+        value += delta;
+        return prev;
+    }
+
+    public long getAndSet(long value)
+    {
+        var prev = this.value;
+        this.value = value;
+        return prev;
+    }
+
+    // PART ----- OBJECT -----
+
+    @Override
+    public boolean equals(@Nullable Object o)
+    {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        MutableLong that = (MutableLong) o;
+
+        return value == that.value;
+    }
+
+    @Override public int hashCode() { return Long.hashCode(value); }
+
+    @Override public String toString() { return Long.toString(value); }
+
+    @Override public int intValue() { return (int) value; }
+
+    @Override public long longValue() { return value; }
+
+    @Override public float floatValue() { return value; }
+
+    @Override public double doubleValue() { return value; }
+
+    @Override public int compareTo(MutableLong o) { return Long.compare(value, o.value); }
+}
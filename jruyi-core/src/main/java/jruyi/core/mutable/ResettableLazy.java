@@ -0,0 +1,154 @@
+package jruyi.core.mutable;
+
+import jakarta.annotation.Nullable;
+import jruyi.util.Assert;
+
+import java.lang.invoke.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * <h2>可重置的延迟初始化值</h2>
+ *
+ * <p>
+ * 初始化后将值作为常量安装到 {@link MutableCallSite} 上，并由 {@link SwitchPoint} 保护，
+ * {@link #reset()} 使 SwitchPoint 失效并触发反优化，之后的调用重新计算
+ * </p>
+ *
+ * <p>
+ * JIT 只把 static final 字段、record 的字段等视为常量，普通类的 final 实例字段不被信任，
+ * 因此通过 {@link #get()} 读取时不会折叠为常量；需要常量折叠时将 {@link #invoker()} 保存在 static final 字段中调用：
+ * </p>
+ *
+ * <pre>{@code
+ * static final ResettableLazy<Config> config = ResettableLazy.of(Config::load);
+ * static final MethodHandle config_invoker = config.invoker();
+ *
+ * Config current() throws Throwable { return (Config) (Object) config_invoker.invokeExact(); }
+ * }</pre>
+ *
+ * <p>
+ * 计算失败时不记录异常，下次调用重新计算；重置代价较高（需要反优化依赖该值的已编译代码），
+ * 适合很少变化的配置等场景，频繁变化的值应使用 {@link AtomicMutableObject}
+ * </p>
+ *
+ * @param <T> 值类型
+ * @Date 2026-10-18 17:55
+ */
+public final class ResettableLazy<T> implements Supplier<T>
+{
+    private static final MethodHandle compute_handle;
+
+    static
+    {
+        try
+        {
+            compute_handle = MethodHandles.lookup().findVirtual(
+                    ResettableLazy.class, "compute", MethodType.methodType(Object.class)
+            );
+        }
+        catch (ReflectiveOperationException e) { throw new ExceptionInInitializerError(e); }
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Supplier<? extends T> supplier;
+    private final MethodHandle slowPath;
+    private final MutableCallSite site;
+    private final MethodHandle invoker;
+
+    /**
+     * 当前值的保护开关，仅在持有锁时访问，未初始化时为 null
+     */
+    @Nullable private SwitchPoint switchPoint;
+    @Nullable private volatile Object value;
+    private volatile boolean initialized;
+
+    private ResettableLazy(Supplier<? extends T> supplier)
+    {
+        this.supplier = supplier;
+        this.slowPath = compute_handle.bindTo(this);
+        this.site = new MutableCallSite(slowPath);
+        this.invoker = site.dynamicInvoker();
+    }
+
+    /**
+     * @param supplier 值的计算函数，每次重置后重新调用
+     */
+    public static <T> ResettableLazy<T> of(Supplier<? extends T> supplier)
+    {
+        Assert.paramNotNull(supplier, "supplier");
+        return new ResettableLazy<>(supplier);
+    }
+
+    /**
+     * @return 计算后的值
+     */
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public T get()
+    {
+        try { return (T) (Object) invoker.invokeExact(); }
+        catch (RuntimeException | Error e) { throw e; }
+        catch (Throwable e) { throw new IllegalStateException(e); }
+    }
+
+    /**
+     * <p>
+     * 类型为 {@code ()Object} 的调用点方法句柄，与 {@link #get()} 返回同一个值；
+     * 保存在 static final 字段中并通过 {@code invokeExact} 调用时，JIT 可以将初始化后的值折叠为常量
+     * </p>
+     *
+     * @return 调用点方法句柄
+     */
+    public MethodHandle invoker() { return invoker; }
+
+    /**
+     * @return 是否已初始化
+     */
+    public boolean isInitialized() { return initialized; }
+
+    /**
+     * 丢弃当前值，下次调用 {@link #get()} 时重新计算；未初始化时无操作
+     */
+    public void reset()
+    {
+        lock.lock();
+        try
+        {
+            if (switchPoint == null) return;
+            initialized = false;
+            value = null;
+            SwitchPoint.invalidateAll(new SwitchPoint[]{switchPoint});
+            switchPoint = null;
+            // 失效的目标仍引用旧值，恢复为慢路径使旧值可被回收
+            site.setTarget(slowPath);
+        }
+        finally { lock.unlock(); }
+    }
+
+    /**
+     * 调用点的慢路径：未初始化或 SwitchPoint 失效后进入，必要时计算并安装新的常量
+     */
+    @Nullable
+    private Object compute()
+    {
+        lock.lock();
+        try
+        {
+            // 其他线程已安装新值，但本线程仍看到旧的调用点目标
+            if (initialized) return value;
+            Object v = supplier.get();
+            var sp = new SwitchPoint();
+            site.setTarget(sp.guardWithTest(MethodHandles.constant(Object.class, v), slowPath));
+            switchPoint = sp;
+            value = v;
+            initialized = true;
+            return v;
+        }
+        finally { lock.unlock(); }
+    }
+
+    @Override
+    public String toString() { return initialized ? STR."ResettableLazy[\{value}]" : "ResettableLazy[uninitialized]"; }
+}
@@ -0,0 +1,77 @@
+package jruyi.core.mutable;
+
+import java.io.Serial;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <h2>分段计数的可变 Long</h2>
+ *
+ * <p>
+ * 基于 {@link LongAdder}，写入竞争时分散到多个按缓存行填充的单元，避免伪共享，
+ * 适合写多读少的计数器；读取需要汇总所有单元
+ * </p>
+ *
+ * <p>
+ * 读取与 {@link #setLong(long)} 不是原子操作：并发更新时读取到的值不是某一时刻的快照，
+ * 与设置值并发的更新可能丢失
+ * </p>
+ *
+ * @Date 2026-10-18 17:30
+ */
+public class StripedMutableLong extends Number implements Mutable.OfLong
+{
+    @Serial private static final long serialVersionUID = 1L;
+
+    private final LongAdder adder = new LongAdder();
+
+    private StripedMutableLong() { }
+
+    public static StripedMutableLong of(long value)
+    {
+        var instance = new StripedMutableLong();
+        instance.adder.add(value);
+        return instance;
+    }
+
+    /**
+     * @return 所有单元之和
+     */
+    @Override public long getAsLong() { return adder.sum(); }
+
+    /**
+     * 重置后加上指定值，非原子操作
+     */
+    @Override
+    public void setLong(long value)
+    {
+        adder.reset();
+        adder.add(value);
+    }
+
+    // PART ----- ARITHMETIC -----
+
+    public void increment() { adder.increment(); }
+
+    public void decrement() { adder.decrement(); }
+
+    public void add(long delta) { adder.add(delta); }
+
+    /**
+     * 读取所有单元之和并重置为 0，非原子操作
+     *
+     * @return 重置前的值
+     */
+    public long sumThenReset() { return adder.sumThenReset(); }
+
+    // PART ----- OBJECT -----
+
+    @Override public String toString() { return Long.toString(adder.sum()); }
+
+    @Override public int intValue() { return (int) adder.sum(); }
+
+    @Override public long longValue() { return adder.sum(); }
+
+    @Override public float floatValue() { return (float) adder.sum(); }
+
+    @Override public double doubleValue() { return (double) adder.sum(); }
+}
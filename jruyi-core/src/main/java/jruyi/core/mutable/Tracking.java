@@ -0,0 +1,59 @@
+package jruyi.core.mutable;
+
+import jakarta.annotation.Nullable;
+
+import java.util.IdentityHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h2>版本时钟与依赖收集</h2>
+ *
+ * <p>{@link Derived} 计算期间读取的 {@link Versioned} 数据被记录到当前线程的收集帧中</p>
+ *
+ * @Date 2026-10-18 18:10
+ */
+abstract class Tracking
+{
+    private static final AtomicLong clock = new AtomicLong();
+    private static final ThreadLocal<Frame> current = new ThreadLocal<>();
+
+    static long now() { return clock.get(); }
+
+    static long next() { return clock.incrementAndGet(); }
+
+    /**
+     * 记录一次读取，不在收集期间时无操作
+     *
+     * @param source 被读取的数据
+     * @param stamp  读取时的版本戳
+     */
+    static void record(Versioned source, long stamp)
+    {
+        var frame = current.get();
+        if (frame != null) frame.reads.putIfAbsent(source, stamp);
+    }
+
+    /**
+     * 开始收集，返回的帧需要传给 {@link #end(Frame)}
+     */
+    static Frame begin()
+    {
+        var frame = new Frame(current.get());
+        current.set(frame);
+        return frame;
+    }
+
+    static void end(Frame frame)
+    {
+        if (frame.parent == null) current.remove();
+        else current.set(frame.parent);
+    }
+
+    static final class Frame
+    {
+        @Nullable final Frame parent;
+        final IdentityHashMap<Versioned, Long> reads = new IdentityHashMap<>();
+
+        Frame(@Nullable Frame parent) { this.parent = parent; }
+    }
+}
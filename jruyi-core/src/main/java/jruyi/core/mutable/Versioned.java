@@ -0,0 +1,30 @@
+package jruyi.core.mutable;
+
+/**
+ * <h2>带版本戳的数据</h2>
+ *
+ * <p>
+ * 版本戳取自全局单调递增的时钟，数据发生变化时更新为新的时钟值；
+ * 保存某一时刻的版本戳，之后通过 {@link #changedSince(long)} 即可判断数据是否变化
+ * </p>
+ *
+ * @Date 2026-10-18 18:10
+ */
+public interface Versioned
+{
+    /**
+     * @return 最后一次变化时的版本戳，从未变化时为 0
+     */
+    long stamp();
+
+    /**
+     * @param stamp 之前保存的版本戳
+     * @return 在该版本戳之后是否发生过变化
+     */
+    default boolean changedSince(long stamp) { return stamp() > stamp; }
+
+    /**
+     * @return 全局时钟的当前值，可作为"此刻"的版本戳保存
+     */
+    static long currentStamp() { return Tracking.now(); }
+}
@@ -0,0 +1,56 @@
+package jruyi.core.mutable;
+
+import jakarta.annotation.Nullable;
+
+import java.io.Serial;
+import java.util.Objects;
+
+/**
+ * <h2>带版本戳的可变对象</h2>
+ *
+ * <p>
+ * 设置的值与当前值不相等（{@link Objects#equals(Object, Object)}）时更新版本戳，设置相等的值不视为变化；
+ * 在 {@link Derived} 计算期间读取时自动登记为其依赖
+ * </p>
+ *
+ * <p>非线程安全，与 {@link MutableObject} 一致</p>
+ *
+ * @param <V> 被包装类型
+ * @Date 2026-10-18 18:10
+ */
+public final class VersionedMutable<V> implements Mutable<V>, Versioned
+{
+    @Serial private static final long serialVersionUID = 1L;
+
+    @Nullable private V value;
+    private long stamp;
+
+    private VersionedMutable(@Nullable V value) { this.value = value; }
+
+    public static <D> VersionedMutable<D> of(@Nullable D value) { return new VersionedMutable<>(value); }
+
+    @Override
+    @Nullable
+    public V get()
+    {
+        Tracking.record(this, stamp);
+        return value;
+    }
+
+    @Override
+    public void set(@Nullable V value)
+    {
+        if (Objects.equals(this.value, value)) return;
+        this.value = value;
+        stamp = Tracking.next();
+    }
+
+    /**
+     * 不登记依赖的读取
+     */
+    @Nullable public V peek() { return value; }
+
+    @Override public long stamp() { return stamp; }
+
+    @Override public String toString() { return String.valueOf(value); }
+}
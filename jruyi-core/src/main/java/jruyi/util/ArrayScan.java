@@ -0,0 +1,161 @@
+package jruyi.util;
+
+import java.io.Serial;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+/**
+ * <h2>数组并行扫描</h2>
+ *
+ * <p>
+ * 把下标区间二分拆分到公共 {@link ForkJoinPool} 中执行，元素通过下标检测函数访问，与数组类型无关；
+ * 查找类任务共享当前找到的最小下标，拆分与扫描前检查该值，找到结果后其余任务尽快结束
+ * </p>
+ *
+ * @Date 2026-10-18 23:10
+ */
+abstract class ArrayScan
+{
+    /**
+     * 长度小于该值时不拆分，直接在调用线程中扫描
+     */
+    static final int parallel_threshold = 1 << 13;
+
+    /**
+     * 叶子任务的最小长度
+     */
+    private static final int min_leaf_size = 1 << 11;
+
+    /**
+     * 叶子任务每扫描该数量的元素检查一次是否已被其他任务找到结果
+     */
+    private static final int cancel_check_interval = 1 << 8;
+
+    /**
+     * @return 是否值得并行扫描
+     */
+    static boolean parallel(int length)
+    {
+        return length >= parallel_threshold && ForkJoinPool.getCommonPoolParallelism() > 1;
+    }
+
+    /**
+     * @param length 数组长度
+     * @param test   下标检测函数
+     * @param any    true 时找到任意一个满足条件的下标即结束，false 时返回最小的下标
+     * @return 满足条件的下标，不存在时返回 -1
+     */
+    static int find(int length, IntPredicate test, boolean any)
+    {
+        var found = new AtomicInteger(Integer.MAX_VALUE);
+        ForkJoinPool.commonPool().invoke(new FindTask(test, found, any, 0, length, leafSize(length)));
+        var index = found.get();
+        return index == Integer.MAX_VALUE ? -1 : index;
+    }
+
+    /**
+     * @return 满足条件的下标数量
+     */
+    static int count(int length, IntPredicate test)
+    {
+        return ForkJoinPool.commonPool().invoke(new CountTask(test, 0, length, leafSize(length)));
+    }
+
+    private static int leafSize(int length)
+    {
+        return Math.max(min_leaf_size, length / (ForkJoinPool.getCommonPoolParallelism() << 3));
+    }
+
+    private static final class FindTask extends RecursiveAction
+    {
+        @Serial private static final long serialVersionUID = 1L;
+
+        private final transient IntPredicate test;
+        private final transient AtomicInteger found;
+        private final boolean any;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        FindTask(IntPredicate test, AtomicInteger found, boolean any, int from, int to, int leafSize)
+        {
+            this.test = test;
+            this.found = found;
+            this.any = any;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        /**
+         * @return 区间内的结果已经不会被采用
+         */
+        private boolean cancelled(int position)
+        {
+            var index = found.get();
+            return any ? index != Integer.MAX_VALUE : index <= position;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (cancelled(from)) return;
+            if (to - from > leafSize)
+            {
+                var mid = (from + to) >>> 1;
+                // 先执行左半部分，查找最小下标时左半部分的结果可以直接取消右半部分
+                invokeAll(
+                        new FindTask(test, found, any, from, mid, leafSize),
+                        new FindTask(test, found, any, mid, to, leafSize)
+                );
+                return;
+            }
+            for (int i = from; i < to; i++)
+            {
+                if (i > from && (i - from) % cancel_check_interval == 0 && cancelled(i)) return;
+                if (test.test(i))
+                {
+                    found.accumulateAndGet(i, Math::min);
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final class CountTask extends RecursiveTask<Integer>
+    {
+        @Serial private static final long serialVersionUID = 1L;
+
+        private final transient IntPredicate test;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        CountTask(IntPredicate test, int from, int to, int leafSize)
+        {
+            this.test = test;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected Integer compute()
+        {
+            if (to - from > leafSize)
+            {
+                var mid = (from + to) >>> 1;
+                var right = new CountTask(test, mid, to, leafSize);
+                right.fork();
+                var left = new CountTask(test, from, mid, leafSize).compute();
+                return left + right.join();
+            }
+            var count = 0;
+            for (int i = from; i < to; i++) if (test.test(i)) count++;
+            return count;
+        }
+    }
+}
@@ -4,6 +4,9 @@ import jakarta.annotation.Nullable;
 
 import java.lang.reflect.Array;
 import java.util.Objects;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
 import java.util.function.Predicate;
 
 /**
@@ -16,6 +19,13 @@ public abstract class ArrayUtil
     public static final int[] EMPTY_INT_ARRAY = new int[0];
     public static final long[] EMPTY_LONG_ARRAY = new long[0];
 
+    /**
+     * 设为 true 时不使用 Vector API
+     */
+    public static final String VECTOR_DISABLED = "jruyi.vector.disabled";
+
+    private static final boolean vector_supported = detectVectorSupport();
+
     // PART ----- CHECK -----
 
     /**
@@ -57,6 +67,669 @@ public abstract class ArrayUtil
      */
     public static boolean hasNull(Object[] arr) { return check(arr, Objects::isNull); }
 
+    /**
+     * @param arr     被扫描数组
+     * @param checker 检测器
+     * @return 若有一个元素检测通过，返回 true，否则返回 false
+     */
+    public static boolean check(int[] arr, IntPredicate checker) { return anyMatch(arr, checker); }
+
+    /**
+     * @param arr     被扫描数组
+     * @param checker 检测器
+     * @return 若有一个元素检测通过，返回 true，否则返回 false
+     */
+    public static boolean check(long[] arr, LongPredicate checker) { return anyMatch(arr, checker); }
+
+    /**
+     * @param arr     被扫描数组
+     * @param checker 检测器
+     * @return 若有一个元素检测通过，返回 true，否则返回 false
+     */
+    public static boolean check(double[] arr, DoublePredicate checker) { return anyMatch(arr, checker); }
+
+    // PART ----- MATCH -----
+
+    /**
+     * @return 第一个满足条件的元素的下标，不存在时返回 -1
+     */
+    public static <T> int findFirst(T[] arr, Predicate<? super T> predicate)
+    {
+        Assert.paramNotNull(arr, "arr");
+        Assert.paramNotNull(predicate, "predicate");
+        for (int i = 0; i < arr.length; i++) if (predicate.test(arr[i])) return i;
+        return -1;
+    }
+
+    public static <T> boolean anyMatch(T[] arr, Predicate<? super T> predicate)
+    {
+        return findFirst(arr, predicate) >= 0;
+    }
+
+    /**
+     * @return 是否所有元素都满足条件，数组为空时返回 true
+     */
+    public static <T> boolean allMatch(T[] arr, Predicate<? super T> predicate)
+    {
+        Assert.paramNotNull(predicate, "predicate");
+        return findFirst(arr, predicate.negate()) < 0;
+    }
+
+    public static <T> int countMatching(T[] arr, Predicate<? super T> predicate)
+    {
+        Assert.paramNotNull(arr, "arr");
+        Assert.paramNotNull(predicate, "predicate");
+        var count = 0;
+        for (var v : arr) if (predicate.test(v)) count++;
+        return count;
+    }
+
+    /**
+     * @return 第一个满足条件的元素的下标，不存在时返回 -1
+     */
+    public static int findFirst(int[] arr, IntPredicate predicate)
+    {
+        Assert.paramNotNull(arr, "arr");
+        Assert.paramNotNull(predicate, "predicate");
+        for (int i = 0; i < arr.length; i++) if (predicate.test(arr[i])) return i;
+        return -1;
+    }
+
+    public static boolean anyMatch(int[] arr, IntPredicate predicate) { return findFirst(arr, predicate) >= 0; }
+
+    /**
+     * @return 是否所有元素都满足条件，数组为空时返回 true
+     */
+    public static boolean allMatch(int[] arr, IntPredicate predicate)
+    {
+        Assert.paramNotNull(predicate, "predicate");
+        return findFirst(arr, predicate.negate()) < 0;
+    }
+
+    public static int countMatching(int[] arr, IntPredicate predicate)
+    {
+        Assert.paramNotNull(arr, "arr");
+        Assert.paramNotNull(predicate, "predicate");
+        var count = 0;
+        for (var v : arr) if (predicate.test(v)) count++;
+        return count;
+    }
+
+    /**
+     * @return 第一个满足条件的元素的下标，不存在时返回 -1
+     */
+    public static int findFirst(long[] arr, LongPredicate predicate)
+    {
+        Assert.paramNotNull(arr, "arr");
+        Assert.paramNotNull(predicate, "predicate");
+        for (int i = 0; i < arr.length; i++) if (predicate.test(arr[i])) return i;
+        return -1;
+    }
+
+    public static boolean anyMatch(long[] arr, LongPredicate predicate) { return findFirst(arr, predicate) >= 0; }
+
+    /**
+     * @return 是否所有元素都满足条件，数组为空时返回 true
+     */
+    public static boolean allMatch(long[] arr, LongPredicate predicate)
+    {
+        Assert.paramNotNull(predicate, "predicate");
+        return findFirst(arr, predicate.negate()) < 0;
+    }
+
+    public static int countMatching(long[] arr, LongPredicate predicate)
+    {
+        Assert.paramNotNull(arr, "arr");
+        Assert.paramNotNull(predicate, "predicate");
+        var count = 0;
+        for (var v : arr) if (predicate.test(v)) count++;
+        return count;
+    }
+
+    /**
+     * @return 第一个满足条件的元素的下标，不存在时返回 -1
+     */
+    public static int findFirst(double[] arr, DoublePredicate predicate)
+    {
+        Assert.paramNotNull(arr, "arr");
+        Assert.paramNotNull(predicate, "predicate");
+        for (int i = 0; i < arr.length; i++) if (predicate.test(arr[i])) return i;
+        return -1;
+    }
+
+    public static boolean anyMatch(double[] arr, DoublePredicate predicate) { return findFirst(arr, predicate) >= 0; }
+
+    /**
+     * @return 是否所有元素都满足条件，数组为空时返回 true
+     */
+    public static boolean allMatch(double[] arr, DoublePredicate predicate)
+    {
+        Assert.paramNotNull(predicate, "predicate");
+        return findFirst(arr, predicate.negate()) < 0;
+    }
+
+    public static int countMatching(double[] arr, DoublePredicate predicate)
+    {
+        Assert.paramNotNull(arr, "arr");
+        Assert.paramNotNull(predicate, "predicate");
+        var count = 0;
+        for (var v : arr) if (predicate.test(v)) count++;
+        return count;
+    }
+
+    // PART ----- PARALLEL MATCH -----
+
+    /**
+     * 数组较长且公共 {@link java.util.concurrent.ForkJoinPool} 的并行度大于 1 时拆分到多个线程扫描，否则顺序扫描；
+     * 找到结果后其余线程尽快停止；检测器需要是线程安全且无副作用的
+     *
+     * @return 第一个满足条件的元素的下标，不存在时返回 -1
+     */
+    public static <T> int parallelFindFirst(T[] arr, Predicate<? super T> predicate)
+    {
+        if (!ArrayScan.parallel(Assert.paramNotNull(arr, "arr").length)) return findFirst(arr, predicate);
+        Assert.paramNotNull(predicate, "predicate");
+        return ArrayScan.find(arr.length, i -> predicate.test(arr[i]), false);
+    }
+
+    /**
+     * @see #parallelFindFirst(Object[], Predicate)
+     */
+    public static <T> boolean parallelAnyMatch(T[] arr, Predicate<? super T> predicate)
+    {
+        if (!ArrayScan.parallel(Assert.paramNotNull(arr, "arr").length)) return anyMatch(arr, predicate);
+        Assert.paramNotNull(predicate, "predicate");
+        return ArrayScan.find(arr.length, i -> predicate.test(arr[i]), true) >= 0;
+    }
+
+    /**
+     * @see #parallelFindFirst(Object[], Predicate)
+     */
+    public static <T> boolean parallelAllMatch(T[] arr, Predicate<? super T> predicate)
+    {
+        Assert.paramNotNull(predicate, "predicate");
+        return !parallelAnyMatch(arr, predicate.negate());
+    }
+
+    /**
+     * @see #parallelFindFirst(Object[], Predicate)
+     */
+    public static <T> int parallelCountMatching(T[] arr, Predicate<? super T> predicate)
+    {
+        if (!ArrayScan.parallel(Assert.paramNotNull(arr, "arr").length)) return countMatching(arr, predicate);
+        Assert.paramNotNull(predicate, "predicate");
+        return ArrayScan.count(arr.length, i -> predicate.test(arr[i]));
+    }
+
+    /**
+     * @return 第一个满足条件的元素的下标，不存在时返回 -1
+     * @see #parallelFindFirst(Object[], Predicate)
+     */
+    public static int parallelFindFirst(int[] arr, IntPredicate predicate)
+    {
+        if (!ArrayScan.parallel(Assert.paramNotNull(arr, "arr").length)) return findFirst(arr, predicate);
+        Assert.paramNotNull(predicate, "predicate");
+        return ArrayScan.find(arr.length, i -> predicate.test(arr[i]), false);
+    }
+
+    /**
+     * @see #parallelFindFirst(Object[], Predicate)
+     */
+    public static boolean parallelAnyMatch(int[] arr, IntPredicate predicate)
+    {
+        if (!ArrayScan.parallel(Assert.paramNotNull(arr, "arr").length)) return anyMatch(arr, predicate);
+        Assert.paramNotNull(predicate, "predicate");
+        return ArrayScan.find(arr.length, i -> predicate.test(arr[i]), true) >= 0;
+    }
+
+    /**
+     * @see #parallelFindFirst(Object[], Predicate)
+     */
+    public static boolean parallelAllMatch(int[] arr, IntPredicate predicate)
+    {
+        Assert.paramNotNull(predicate, "predicate");
+        return !parallelAnyMatch(arr, predicate.negate());
+    }
+
+    /**
+     * @see #parallelFindFirst(Object[], Predicate)
+     */
+    public static int parallelCountMatching(int[] arr, IntPredicate predicate)
+    {
+        if (!ArrayScan.parallel(Assert.paramNotNull(arr, "arr").length)) return countMatching(arr, predicate);
+        Assert.paramNotNull(predicate, "predicate");
+        return ArrayScan.count(arr.length, i -> predicate.test(arr[i]));
+    }
+
+    /**
+     * @return 第一个满足条件的元素的下标，不存在时返回 -1
+     * @see #parallelFindFirst(Object[], Predicate)
+     */
+    public static int parallelFindFirst(long[] arr, LongPredicate predicate)
+    {
+        if (!ArrayScan.parallel(Assert.paramNotNull(arr, "arr").length)) return findFirst(arr, predicate);
+        Assert.paramNotNull(predicate, "predicate");
+        return ArrayScan.find(arr.length, i -> predicate.test(arr[i]), false);
+    }
+
+    /**
+     * @see #parallelFindFirst(Object[], Predicate)
+     */
+    public static boolean parallelAnyMatch(long[] arr, LongPredicate predicate)
+    {
+        if (!ArrayScan.parallel(Assert.paramNotNull(arr, "arr").length)) return anyMatch(arr, predicate);
+        Assert.paramNotNull(predicate, "predicate");
+        return ArrayScan.find(arr.length, i -> predicate.test(arr[i]), true) >= 0;
+    }
+
+    /**
+     * @see #parallelFindFirst(Object[], Predicate)
+     */
+    public static boolean parallelAllMatch(long[] arr, LongPredicate predicate)
+    {
+        Assert.paramNotNull(predicate, "predicate");
+        return !parallelAnyMatch(arr, predicate.negate());
+    }
+
+    /**
+     * @see #parallelFindFirst(Object[], Predicate)
+     */
+    public static int parallelCountMatching(long[] arr, LongPredicate predicate)
+    {
+        if (!ArrayScan.parallel(Assert.paramNotNull(arr, "arr").length)) return countMatching(arr, predicate);
+        Assert.paramNotNull(predicate, "predicate");
+        return ArrayScan.count(arr.length, i -> predicate.test(arr[i]));
+    }
+
+    /**
+     * @return 第一个满足条件的元素的下标，不存在时返回 -1
+     * @see #parallelFindFirst(Object[], Predicate)
+     */
+    public static int parallelFindFirst(double[] arr, DoublePredicate predicate)
+    {
+        if (!ArrayScan.parallel(Assert.paramNotNull(arr, "arr").length)) return findFirst(arr, predicate);
+        Assert.paramNotNull(predicate, "predicate");
+        return ArrayScan.find(arr.length, i -> predicate.test(arr[i]), false);
+    }
+
+    /**
+     * @see #parallelFindFirst(Object[], Predicate)
+     */
+    public static boolean parallelAnyMatch(double[] arr, DoublePredicate predicate)
+    {
+        if (!ArrayScan.parallel(Assert.paramNotNull(arr, "arr").length)) return anyMatch(arr, predicate);
+        Assert.paramNotNull(predicate, "predicate");
+        return ArrayScan.find(arr.length, i -> predicate.test(arr[i]), true) >= 0;
+    }
+
+    /**
+     * @see #parallelFindFirst(Object[], Predicate)
+     */
+    public static boolean parallelAllMatch(double[] arr, DoublePredicate predicate)
+    {
+        Assert.paramNotNull(predicate, "predicate");
+        return !parallelAnyMatch(arr, predicate.negate());
+    }
+
+    /**
+     * @see #parallelFindFirst(Object[], Predicate)
+     */
+    public static int parallelCountMatching(double[] arr, DoublePredicate predicate)
+    {
+        if (!ArrayScan.parallel(Assert.paramNotNull(arr, "arr").length)) return countMatching(arr, predicate);
+        Assert.paramNotNull(predicate, "predicate");
+        return ArrayScan.count(arr.length, i -> predicate.test(arr[i]));
+    }
+
+    // PART ----- VECTOR -----
+
+    /**
+     * 满足以下条件时数值计算方法使用 Vector API（SIMD），否则使用等价的标量循环：
+     * <ul>
+     *     <li>{@code jdk.incubator.vector} 模块已被解析，例如启动参数包含 {@code --add-modules jdk.incubator.vector}</li>
+     *     <li>平台偏好的向量宽度不小于 128 位</li>
+     *     <li>系统属性 {@value #VECTOR_DISABLED} 不为 true</li>
+     * </ul>
+     *
+     * @return 是否使用 Vector API
+     */
+    public static boolean isVectorSupported() { return vector_supported; }
+
+    private static boolean detectVectorSupport()
+    {
+        if (SystemProperties.getBoolean(VECTOR_DISABLED, () -> false)) return false;
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return false;
+        try { return VectorKernels.preferredBits() >= 128; }
+        catch (LinkageError e) { return false; }
+    }
+
+    /**
+     * 比较运算，对浮点数的语义与 Java 比较运算符一致：NaN 只满足 {@link #NE}
+     */
+    public enum Comparison
+    {
+        EQ, NE, LT, LE, GT, GE;
+
+        public boolean test(long a, long b)
+        {
+            return switch (this)
+            {
+                case EQ -> a == b;
+                case NE -> a != b;
+                case LT -> a < b;
+                case LE -> a <= b;
+                case GT -> a > b;
+                case GE -> a >= b;
+            };
+        }
+
+        public boolean test(double a, double b)
+        {
+            return switch (this)
+            {
+                case EQ -> a == b;
+                case NE -> a != b;
+                case LT -> a < b;
+                case LE -> a <= b;
+                case GT -> a > b;
+                case GE -> a >= b;
+            };
+        }
+    }
+
+    /**
+     * @return 所有元素的和，以 long 累加不会溢出
+     */
+    public static long sum(int[] arr)
+    {
+        Assert.paramNotNull(arr, "arr");
+        if (vector_supported) return VectorKernels.sum(arr);
+        var sum = 0L;
+        for (var v : arr) sum += v;
+        return sum;
+    }
+
+    /**
+     * @return 所有元素的和，溢出时回绕
+     */
+    public static long sum(long[] arr)
+    {
+        Assert.paramNotNull(arr, "arr");
+        if (vector_supported) return VectorKernels.sum(arr);
+        var sum = 0L;
+        for (var v : arr) sum += v;
+        return sum;
+    }
+
+    /**
+     * @return 所有元素的和；使用 Vector API 时按多路并行累加，舍入误差可能与顺序累加不同
+     */
+    public static float sum(float[] arr)
+    {
+        Assert.paramNotNull(arr, "arr");
+        if (vector_supported) return VectorKernels.sum(arr);
+        var sum = 0f;
+        for (var v : arr) sum += v;
+        return sum;
+    }
+
+    /**
+     * @return 所有元素的和；使用 Vector API 时按多路并行累加，舍入误差可能与顺序累加不同
+     */
+    public static double sum(double[] arr)
+    {
+        Assert.paramNotNull(arr, "arr");
+        if (vector_supported) return VectorKernels.sum(arr);
+        var sum = 0d;
+        for (var v : arr) sum += v;
+        return sum;
+    }
+
+    /**
+     * @param arr 非空数组
+     */
+    public static int min(int[] arr)
+    {
+        checkNotEmpty(Assert.paramNotNull(arr, "arr").length);
+        if (vector_supported) return VectorKernels.min(arr);
+        var min = arr[0];
+        for (var v : arr) min = Math.min(min, v);
+        return min;
+    }
+
+    /**
+     * @param arr 非空数组
+     */
+    public static int max(int[] arr)
+    {
+        checkNotEmpty(Assert.paramNotNull(arr, "arr").length);
+        if (vector_supported) return VectorKernels.max(arr);
+        var max = arr[0];
+        for (var v : arr) max = Math.max(max, v);
+        return max;
+    }
+
+    /**
+     * @param arr 非空数组
+     */
+    public static long min(long[] arr)
+    {
+        checkNotEmpty(Assert.paramNotNull(arr, "arr").length);
+        if (vector_supported) return VectorKernels.min(arr);
+        var min = arr[0];
+        for (var v : arr) min = Math.min(min, v);
+        return min;
+    }
+
+    /**
+     * @param arr 非空数组
+     */
+    public static long max(long[] arr)
+    {
+        checkNotEmpty(Assert.paramNotNull(arr, "arr").length);
+        if (vector_supported) return VectorKernels.max(arr);
+        var max = arr[0];
+        for (var v : arr) max = Math.max(max, v);
+        return max;
+    }
+
+    /**
+     * @param arr 非空数组
+     * @return 最小值，与 {@link Math#min(float, float)} 一致，包含 NaN 时返回 NaN
+     */
+    public static float min(float[] arr)
+    {
+        checkNotEmpty(Assert.paramNotNull(arr, "arr").length);
+        if (vector_supported) return VectorKernels.min(arr);
+        var min = arr[0];
+        for (var v : arr) min = Math.min(min, v);
+        return min;
+    }
+
+    /**
+     * @param arr 非空数组
+     * @return 最大值，与 {@link Math#max(float, float)} 一致，包含 NaN 时返回 NaN
+     */
+    public static float max(float[] arr)
+    {
+        checkNotEmpty(Assert.paramNotNull(arr, "arr").length);
+        if (vector_supported) return VectorKernels.max(arr);
+        var max = arr[0];
+        for (var v : arr) max = Math.max(max, v);
+        return max;
+    }
+
+    /**
+     * @param arr 非空数组
+     * @return 最小值，与 {@link Math#min(double, double)} 一致，包含 NaN 时返回 NaN
+     */
+    public static double min(double[] arr)
+    {
+        checkNotEmpty(Assert.paramNotNull(arr, "arr").length);
+        if (vector_supported) return VectorKernels.min(arr);
+        var min = arr[0];
+        for (var v : arr) min = Math.min(min, v);
+        return min;
+    }
+
+    /**
+     * @param arr 非空数组
+     * @return 最大值，与 {@link Math#max(double, double)} 一致，包含 NaN 时返回 NaN
+     */
+    public static double max(double[] arr)
+    {
+        checkNotEmpty(Assert.paramNotNull(arr, "arr").length);
+        if (vector_supported) return VectorKernels.max(arr);
+        var max = arr[0];
+        for (var v : arr) max = Math.max(max, v);
+        return max;
+    }
+
+    private static void checkNotEmpty(int length) { Assert.asserts(length > 0, "array must not be empty"); }
+
+    /**
+     * @return 第一个等于该值的元素的下标，不存在时返回 -1
+     */
+    public static int indexOf(byte[] arr, byte value)
+    {
+        Assert.paramNotNull(arr, "arr");
+        if (vector_supported) return VectorKernels.indexOf(arr, value);
+        for (int i = 0; i < arr.length; i++) if (arr[i] == value) return i;
+        return -1;
+    }
+
+    /**
+     * @return 第一个等于该值的元素的下标，不存在时返回 -1
+     */
+    public static int indexOf(int[] arr, int value)
+    {
+        Assert.paramNotNull(arr, "arr");
+        if (vector_supported) return VectorKernels.indexOf(arr, value);
+        for (int i = 0; i < arr.length; i++) if (arr[i] == value) return i;
+        return -1;
+    }
+
+    /**
+     * @return 第一个等于该值的元素的下标，不存在时返回 -1
+     */
+    public static int indexOf(long[] arr, long value)
+    {
+        Assert.paramNotNull(arr, "arr");
+        if (vector_supported) return VectorKernels.indexOf(arr, value);
+        for (int i = 0; i < arr.length; i++) if (arr[i] == value) return i;
+        return -1;
+    }
+
+    public static boolean contains(byte[] arr, byte value) { return indexOf(arr, value) >= 0; }
+
+    public static boolean contains(int[] arr, int value) { return indexOf(arr, value) >= 0; }
+
+    public static boolean contains(long[] arr, long value) { return indexOf(arr, value) >= 0; }
+
+    /**
+     * @return 满足「元素 comparison value」的元素数量
+     */
+    public static int count(int[] arr, Comparison comparison, int value)
+    {
+        Assert.paramNotNull(arr, "arr");
+        Assert.paramNotNull(comparison, "comparison");
+        if (vector_supported) return VectorKernels.count(arr, comparison, value);
+        var count = 0;
+        for (var v : arr) if (comparison.test(v, value)) count++;
+        return count;
+    }
+
+    /**
+     * @return 满足「元素 comparison value」的元素数量
+     */
+    public static int count(long[] arr, Comparison comparison, long value)
+    {
+        Assert.paramNotNull(arr, "arr");
+        Assert.paramNotNull(comparison, "comparison");
+        if (vector_supported) return VectorKernels.count(arr, comparison, value);
+        var count = 0;
+        for (var v : arr) if (comparison.test(v, value)) count++;
+        return count;
+    }
+
+    /**
+     * @return 满足「元素 comparison value」的元素数量
+     */
+    public static int count(float[] arr, Comparison comparison, float value)
+    {
+        Assert.paramNotNull(arr, "arr");
+        Assert.paramNotNull(comparison, "comparison");
+        if (vector_supported) return VectorKernels.count(arr, comparison, value);
+        var count = 0;
+        for (var v : arr) if (comparison.test(v, value)) count++;
+        return count;
+    }
+
+    /**
+     * @return 满足「元素 comparison value」的元素数量
+     */
+    public static int count(double[] arr, Comparison comparison, double value)
+    {
+        Assert.paramNotNull(arr, "arr");
+        Assert.paramNotNull(comparison, "comparison");
+        if (vector_supported) return VectorKernels.count(arr, comparison, value);
+        var count = 0;
+        for (var v : arr) if (comparison.test(v, value)) count++;
+        return count;
+    }
+
+    /**
+     * 逐个比较元素，结果写入掩码数组
+     *
+     * @param mask 结果，mask[i] 为「arr[i] comparison value」，长度不能小于 arr
+     */
+    public static void compare(int[] arr, Comparison comparison, int value, boolean[] mask)
+    {
+        checkMask(Assert.paramNotNull(arr, "arr").length, comparison, mask);
+        if (vector_supported) VectorKernels.compare(arr, comparison, value, mask);
+        else for (int i = 0; i < arr.length; i++) mask[i] = comparison.test(arr[i], value);
+    }
+
+    /**
+     * @param mask 结果，mask[i] 为「arr[i] comparison value」，长度不能小于 arr
+     * @see #compare(int[], Comparison, int, boolean[])
+     */
+    public static void compare(long[] arr, Comparison comparison, long value, boolean[] mask)
+    {
+        checkMask(Assert.paramNotNull(arr, "arr").length, comparison, mask);
+        if (vector_supported) VectorKernels.compare(arr, comparison, value, mask);
+        else for (int i = 0; i < arr.length; i++) mask[i] = comparison.test(arr[i], value);
+    }
+
+    /**
+     * @param mask 结果，mask[i] 为「arr[i] comparison value」，长度不能小于 arr
+     * @see #compare(int[], Comparison, int, boolean[])
+     */
+    public static void compare(float[] arr, Comparison comparison, float value, boolean[] mask)
+    {
+        checkMask(Assert.paramNotNull(arr, "arr").length, comparison, mask);
+        if (vector_supported) VectorKernels.compare(arr, comparison, value, mask);
+        else for (int i = 0; i < arr.length; i++) mask[i] = comparison.test(arr[i], value);
+    }
+
+    /**
+     * @param mask 结果，mask[i] 为「arr[i] comparison value」，长度不能小于 arr
+     * @see #compare(int[], Comparison, int, boolean[])
+     */
+    public static void compare(double[] arr, Comparison comparison, double value, boolean[] mask)
+    {
+        checkMask(Assert.paramNotNull(arr, "arr").length, comparison, mask);
+        if (vector_supported) VectorKernels.compare(arr, comparison, value, mask);
+        else for (int i = 0; i < arr.length; i++) mask[i] = comparison.test(arr[i], value);
+    }
+
+    private static void checkMask(int length, Comparison comparison, boolean[] mask)
+    {
+        Assert.paramNotNull(comparison, "comparison");
+        Assert.paramNotNull(mask, "mask");
+        Assert.asserts(mask.length >= length, STR."mask is shorter than the array: [\{mask.length}] < [\{length}]");
+    }
+
     // PART ----- TYPE -----
 
     /**
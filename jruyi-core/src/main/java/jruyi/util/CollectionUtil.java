@@ -1,9 +1,11 @@
 package jruyi.util;
 
 import jakarta.annotation.Nullable;
+import jruyi.util.collection.CompactMap;
+import jruyi.util.concurrent.BatchExecutor;
 
-import java.util.Collection;
-import java.util.Iterator;
+import java.util.*;
+import java.util.function.Function;
 
 /**
  * <h2>集合工具</h2>
@@ -29,4 +31,97 @@ public abstract class CollectionUtil
      * @return 集合是否为空，集合为 null 时返回 true
      */
     public static boolean isEmpty(@Nullable Collection<?> coll) { return coll == null || coll.isEmpty(); }
-}
\ No newline at end of file
+
+    /**
+     * @param map 映射，键与值都不能为 null
+     * @return 不可变的紧凑映射，按条目数量选择最紧凑的表示
+     * @see CompactMap
+     */
+    public static <K, V> Map<K, V> compactMap(Map<? extends K, ? extends V> map) { return CompactMap.copyOf(map); }
+
+    /**
+     * @param coll 集合，元素不能为 null
+     * @return 不可变列表；{@link List#copyOf(Collection)} 对 1、2 个元素直接保存为字段，更多元素保存在无空槽的数组中，
+     * 已是最紧凑的表示
+     */
+    public static <E> List<E> compactList(Collection<? extends E> coll)
+    {
+        return List.copyOf(Assert.paramNotNull(coll, "coll"));
+    }
+
+    // PART ----- BATCH -----
+
+    /**
+     * @param list 列表
+     * @param size 每段的元素数量，最后一段可能不足
+     * @return 按顺序划分的各段，每段都是原列表的 {@link List#subList(int, int) 视图}，不复制元素；
+     * 原列表结构改变后视图的行为不确定
+     */
+    public static <T> List<List<T>> partition(List<T> list, int size)
+    {
+        Assert.paramNotNull(list, "list");
+        Assert.asserts(size > 0, STR."partition size must be positive: [\{size}]");
+        return new Partition<>(list, list.size() / size + (list.size() % size == 0 ? 0 : 1), size, 0);
+    }
+
+    /**
+     * @param list  列表
+     * @param count 段数，元素不足时段数等于元素数量
+     * @return 划分为元素数量相差不超过 1 的各段，每段都是原列表的视图，不复制元素
+     */
+    public static <T> List<List<T>> chunk(List<T> list, int count)
+    {
+        Assert.paramNotNull(list, "list");
+        Assert.asserts(count > 0, STR."chunk count must be positive: [\{count}]");
+        var n = Math.min(count, list.size());
+        return n == 0 ? List.of() : new Partition<>(list, n, list.size() / n, list.size() % n);
+    }
+
+    /**
+     * 按批次在虚拟线程中并发处理列表
+     *
+     * @param list        列表
+     * @param batchSize   每批的元素数量
+     * @param concurrency 同时执行的最大批次数
+     * @param task        批处理函数
+     * @return 按批次顺序排列的结果
+     * @throws InterruptedException 等待期间当前线程被中断
+     * @see BatchExecutor
+     */
+    public static <T, R> List<R> processInBatches(
+            List<T> list, int batchSize, int concurrency, Function<? super List<T>, ? extends R> task
+    ) throws InterruptedException
+    {
+        return BatchExecutor.of(concurrency).<T, R>execute(list, batchSize, task).results();
+    }
+
+    /**
+     * 第 i 段从 i × size + min(i, extra) 开始，前 extra 段各多一个元素
+     */
+    private static final class Partition<T> extends AbstractList<List<T>> implements RandomAccess
+    {
+        private final List<T> list;
+        private final int count;
+        private final int size;
+        private final int extra;
+
+        Partition(List<T> list, int count, int size, int extra)
+        {
+            this.list = list;
+            this.count = count;
+            this.size = size;
+            this.extra = extra;
+        }
+
+        @Override
+        public List<T> get(int index)
+        {
+            Objects.checkIndex(index, count);
+            var from = index * size + Math.min(index, extra);
+            var to = Math.min(from + size + (index < extra ? 1 : 0), list.size());
+            return list.subList(from, to);
+        }
+
+        @Override public int size() { return count; }
+    }
+}
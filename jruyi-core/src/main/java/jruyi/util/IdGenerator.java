@@ -27,13 +27,41 @@ public interface IdGenerator<ID extends Serializable>
         return leastSigBits::incrementAndGet;
     }
 
+    /**
+     * @param workerId 工作节点 id，取值范围 [0, {@link SnowflakeIdGenerator#MAX_WORKER_ID}]
+     * @return 使用雪花算法生成按时间有序的 long 类型 id
+     * @see SnowflakeIdGenerator
+     */
+    static IdGenerator<Long> snowflake(long workerId) { return SnowflakeIdGenerator.of(workerId); }
+
     /**
      * @return 使用 {@link UUID#randomUUID()} 生成随机 uuid
      */
     static IdGenerator<UUID> randomUUID() { return UUID::randomUUID; }
 
     /**
-     * @return 使用 {@link UUID#randomUUID()} 生成随机 uuid
+     * @return 使用 {@link UUID#randomUUID()} 生成不含连字符的随机 uuid 字符串
+     * @see UUIDUtil#toHexString(UUID)
+     */
+    static IdGenerator<String> randomUUIDString() { return () -> UUIDUtil.toHexString(UUID.randomUUID()); }
+
+    /**
+     * @return 使用 {@link UUIDUtil#fastRandomUUID()} 生成随机 uuid，不具备密码学安全性
+     */
+    static IdGenerator<UUID> fastRandomUUID() { return UUIDUtil::fastRandomUUID; }
+
+    /**
+     * @return 使用 {@link UUIDUtil#fastRandomUUID()} 生成不含连字符的随机 uuid 字符串，不具备密码学安全性
+     */
+    static IdGenerator<String> fastRandomUUIDString() { return () -> UUIDUtil.toHexString(UUIDUtil.fastRandomUUID()); }
+
+    /**
+     * @return 使用 {@link UUIDUtil#uuidV7()} 生成按时间有序的 uuid
+     */
+    static IdGenerator<UUID> uuidV7() { return UUIDUtil::uuidV7; }
+
+    /**
+     * @return 使用 {@link UUIDUtil#uuidV7()} 生成按时间有序、不含连字符的 uuid 字符串
      */
-    static IdGenerator<String> randomUUIDString() { return () -> UUID.randomUUID().toString().replaceAll("-", ""); }
+    static IdGenerator<String> uuidV7String() { return () -> UUIDUtil.toHexString(UUIDUtil.uuidV7()); }
 }
\ No newline at end of file
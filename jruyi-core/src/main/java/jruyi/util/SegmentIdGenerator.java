@@ -0,0 +1,326 @@
+package jruyi.util;
+
+import jakarta.annotation.Nullable;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * <h2>号段 Id 生成器</h2>
+ *
+ * <p>
+ * 号段（一段连续 id）按条带共享：线程按线程 id 映射到固定数量的条带之一，同一条带的线程通过原子自增从当前号段发放 id，
+ * 条带数量与处理器数量相当，与线程数量无关，每个请求一个虚拟线程时也不会为每个线程租用号段；
+ * 当前号段消耗过半时由后台线程预取下一号段，当前号段耗尽时直接切换（双缓冲）
+ * </p>
+ *
+ * <p>
+ * 分配器的高水位线持久化在内存映射文件中，号段在落盘后才会被发放，因此重启后 id 仍然单调递增；
+ * 未用完的号段会在重启时被丢弃，id 可能不连续；
+ * 打开时对文件加排他锁，同一文件同时只能被一个生成器（无论是否在同一进程中）使用，避免租出重叠的号段
+ * </p>
+ *
+ * @Date 2026-10-18 11:45
+ */
+public final class SegmentIdGenerator implements IdGenerator<Long>, AutoCloseable
+{
+    // PART ----- CONSTANTS -----
+
+    public static final int DEFAULT_SEGMENT_SIZE = 1000;
+
+    private static final int max_stripes = 64;
+
+    /**
+     * 文件头魔数："JRUYISEG"
+     */
+    private static final long magic = 0x4A52555949534547L;
+    private static final int magic_offset = 0;
+    private static final int hwm_offset = Long.BYTES;
+    private static final int file_size = 2 * Long.BYTES;
+
+    /**
+     * 本进程中正在使用的高水位线文件；关闭任一指向该文件的通道都会释放本进程在该文件上持有的所有锁，
+     * 因此同一进程内的重复打开必须在打开通道之前检测
+     */
+    private static final Set<Path> files_in_use = ConcurrentHashMap.newKeySet();
+
+    private static final VarHandle cursor_handle;
+
+    static
+    {
+        try { cursor_handle = MethodHandles.lookup().findVarHandle(Segment.class, "cursor", long.class); }
+        catch (ReflectiveOperationException e) { throw new ExceptionInInitializerError(e); }
+    }
+
+    // PART ----- FIELDS -----
+
+    private final int segmentSize;
+    private final Path path;
+    private final FileChannel channel;
+    private final FileLock fileLock;
+    private final MappedByteBuffer mapped;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ExecutorService prefetcher;
+    private final Stripe[] stripes;
+    private final int stripeShift;
+
+    /**
+     * 高水位线：下一个可租用号段的起始 id，仅在持有 {@link #lock} 时访问
+     */
+    private long highWaterMark;
+    private volatile boolean closed;
+
+    private SegmentIdGenerator(Path file, int segmentSize) throws IOException
+    {
+        Assert.paramNotNull(file, "file");
+        Assert.asserts(segmentSize > 1, "segment size must be greater than 1");
+        this.segmentSize = segmentSize;
+        this.path = Files.exists(file) ? file.toRealPath() : file.toAbsolutePath().normalize();
+        if (!files_in_use.add(path))
+            throw new IllegalStateException(STR."file [\{file}] is already in use by another segment id generator");
+        FileChannel opened = null;
+        try
+        {
+            this.channel = opened = FileChannel.open(file, CREATE, READ, WRITE);
+            FileLock acquired;
+            // 其他进程持有锁时返回 null；同一进程中的重复打开已由 files_in_use 排除，这里仅作防御
+            try { acquired = channel.tryLock(); }
+            catch (OverlappingFileLockException _) { acquired = null; }
+            if (acquired == null)
+                throw new IllegalStateException(STR."file [\{file}] is already in use by another segment id generator");
+            this.fileLock = acquired;
+            var fresh = channel.size() == 0;
+            this.mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, file_size);
+            if (fresh)
+            {
+                mapped.putLong(magic_offset, magic).putLong(hwm_offset, 1);
+                mapped.force();
+            }
+            else if (mapped.getLong(magic_offset) != magic)
+                throw new IllegalStateException(STR."file [\{file}] is not a segment id high-water mark file");
+            this.highWaterMark = mapped.getLong(hwm_offset);
+        }
+        catch (IOException | RuntimeException e)
+        {
+            try { if (opened != null) opened.close(); }
+            finally { files_in_use.remove(path); }
+            throw e;
+        }
+        this.prefetcher = Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("jruyi-segment-id-prefetch").daemon().factory()
+        );
+
+        var count = Math.min(Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1), max_stripes);
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) stripes[i] = new Stripe();
+        this.stripeShift = Long.SIZE - Integer.numberOfTrailingZeros(count);
+    }
+
+    /**
+     * 使用默认号段大小 {@link #DEFAULT_SEGMENT_SIZE}
+     *
+     * @param file 高水位线文件，不存在时创建
+     * @return 号段 Id 生成器
+     * @throws IOException           打开或映射文件失败
+     * @throws IllegalStateException 文件正被其他生成器使用
+     */
+    public static SegmentIdGenerator open(Path file) throws IOException { return open(file, DEFAULT_SEGMENT_SIZE); }
+
+    /**
+     * @param file        高水位线文件，不存在时创建
+     * @param segmentSize 每次租用的号段大小
+     * @return 号段 Id 生成器
+     * @throws IOException           打开或映射文件失败
+     * @throws IllegalStateException 文件正被其他生成器使用
+     */
+    public static SegmentIdGenerator open(Path file, int segmentSize) throws IOException
+    {
+        return new SegmentIdGenerator(file, segmentSize);
+    }
+
+    // PART ----- GENERATE -----
+
+    @Override public Long newId() { return nextId(); }
+
+    /**
+     * 不装箱的 id 生成方法
+     *
+     * @return id
+     * @throws IllegalStateException 生成器已关闭
+     */
+    public long nextId()
+    {
+        Assert.state(!closed, "segment id generator has been closed");
+        var stripe = stripes[stripeIndex()];
+        while (true)
+        {
+            var segment = stripe.current;
+            var id = (long) cursor_handle.getAndAdd(segment, 1L);
+            if (id < segment.limit)
+            {
+                // 恰好取到该 id 的线程只有一个，预取只会触发一次
+                if (id == segment.prefetchAt) prefetch(segment);
+                return id;
+            }
+            stripe.advance(segment);
+        }
+    }
+
+    /**
+     * @return 当前高水位线，即下一个可租用号段的起始 id
+     */
+    public long highWaterMark()
+    {
+        lock.lock();
+        try { return highWaterMark; }
+        finally { lock.unlock(); }
+    }
+
+    /**
+     * 关闭预取线程、释放文件锁并关闭文件，已租出的号段不再发放
+     *
+     * @throws IOException 关闭文件失败
+     */
+    @Override
+    public void close() throws IOException
+    {
+        lock.lock();
+        try
+        {
+            if (closed) return;
+            closed = true;
+            prefetcher.shutdown();
+            try { fileLock.release(); }
+            finally
+            {
+                try { channel.close(); }
+                finally { files_in_use.remove(path); }
+            }
+        }
+        finally { lock.unlock(); }
+    }
+
+    /**
+     * 按线程 id 的斐波那契散列选择条带，线程 id 连续时也能均匀分布
+     */
+    private int stripeIndex()
+    {
+        if (stripeShift == Long.SIZE) return 0;
+        return (int) (Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L >>> stripeShift);
+    }
+
+    private void prefetch(Segment segment)
+    {
+        try { segment.next = CompletableFuture.supplyAsync(this::lease, prefetcher); }
+        catch (RejectedExecutionException _)
+        {
+            // 生成器已关闭，切换号段时同步租用并抛出关闭异常
+        }
+    }
+
+    /**
+     * 租用一个号段，高水位线落盘后才返回
+     *
+     * @return 号段起始 id
+     */
+    private long lease()
+    {
+        lock.lock();
+        try
+        {
+            Assert.state(!closed, "segment id generator has been closed");
+            var start = highWaterMark;
+            var end = Math.addExact(start, segmentSize);
+            mapped.putLong(hwm_offset, end);
+            mapped.force();
+            highWaterMark = end;
+            return start;
+        }
+        finally { lock.unlock(); }
+    }
+
+    /**
+     * <h2>号段</h2>
+     *
+     * <p>{@code cursor} 通过原子自增分配，超过 {@code limit} 表示号段已耗尽，超出部分不会被发放</p>
+     */
+    private static final class Segment
+    {
+        /**
+         * 尚未租用号段的条带使用的空号段
+         */
+        static final Segment empty = new Segment(0, 0);
+
+        final long limit;
+        /**
+         * 取到该 id 的线程触发预取
+         */
+        final long prefetchAt;
+        /**
+         * 下一个要发放的 id，通过 {@link #cursor_handle} 原子自增
+         */
+        long cursor;
+        /**
+         * 预取中的下一号段起始 id
+         */
+        @Nullable volatile CompletableFuture<Long> next;
+
+        Segment(long start, long limit)
+        {
+            this.cursor = start;
+            this.limit = limit;
+            this.prefetchAt = start == limit ? -1 : start + (limit - start) / 2;
+        }
+    }
+
+    /**
+     * <h2>条带</h2>
+     *
+     * <p>发放 id 不加锁，只有切换号段时加锁，同一号段只会被切换一次</p>
+     */
+    private final class Stripe
+    {
+        private final ReentrantLock lock = new ReentrantLock();
+        volatile Segment current = Segment.empty;
+
+        /**
+         * @param exhausted 调用线程发现已耗尽的号段，其他线程已完成切换时直接返回
+         */
+        void advance(Segment exhausted)
+        {
+            lock.lock();
+            try
+            {
+                if (current != exhausted) return;
+                long start;
+                var next = exhausted.next;
+                if (next == null) start = lease();
+                else
+                    try { start = next.join(); }
+                    catch (RuntimeException e)
+                    {
+                        // 预取失败时同步重试一次，仍失败则抛出
+                        start = lease();
+                    }
+                current = new Segment(start, start + segmentSize);
+            }
+            finally { lock.unlock(); }
+        }
+    }
+}
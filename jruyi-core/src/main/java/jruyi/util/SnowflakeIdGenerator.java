@@ -0,0 +1,174 @@
+package jruyi.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <h2>雪花算法 Id 生成器</h2>
+ *
+ * <p>
+ * 生成按时间有序的 64 位 long 类型 id，位布局（高位到低位）：
+ *     <table>
+ *         <tr><th>位数</th><th>含义</th></tr>
+ *         <tr><td>1</td><td>符号位，恒为 0</td></tr>
+ *         <tr><td>41</td><td>相对于纪元的毫秒时间戳</td></tr>
+ *         <tr><td>10</td><td>工作节点 id</td></tr>
+ *         <tr><td>12</td><td>毫秒内序列号</td></tr>
+ *     </table>
+ * </p>
+ *
+ * <p>
+ * 时间戳与序列号打包在同一个 long 状态字中，通过 CAS 无锁更新；
+ * 序列号耗尽或时钟回拨时向后借用毫秒，借用超过 {@link #maxDriftMillis} 时等待系统时钟追上
+ * </p>
+ *
+ * @Date 2026-10-18 11:20
+ */
+public final class SnowflakeIdGenerator implements IdGenerator<Long>
+{
+    // PART ----- CONSTANTS -----
+
+    public static final int TIMESTAMP_BITS = 41;
+    public static final int WORKER_ID_BITS = 10;
+    public static final int SEQUENCE_BITS = 12;
+
+    public static final long MAX_WORKER_ID = ~(-1L << WORKER_ID_BITS);
+    public static final long MAX_TIMESTAMP = ~(-1L << TIMESTAMP_BITS);
+
+    /**
+     * 默认纪元：2024-01-01T00:00:00Z
+     */
+    public static final long DEFAULT_EPOCH = 1704067200000L;
+
+    /**
+     * 默认允许借用的毫秒数
+     */
+    public static final long DEFAULT_MAX_DRIFT_MILLIS = 5;
+
+    private static final long sequence_mask = ~(-1L << SEQUENCE_BITS);
+    private static final int worker_id_shift = SEQUENCE_BITS;
+    private static final int timestamp_shift = SEQUENCE_BITS + WORKER_ID_BITS;
+
+    // PART ----- FIELDS -----
+
+    /**
+     * 已左移至对应位置的工作节点 id
+     */
+    private final long workerBits;
+    private final long epoch;
+    private final long maxDriftMillis;
+
+    /**
+     * 打包状态字：{@code (timestamp << SEQUENCE_BITS) | sequence}
+     */
+    private final AtomicLong state = new AtomicLong();
+
+    private SnowflakeIdGenerator(long workerId, long epoch, long maxDriftMillis)
+    {
+        Assert.asserts(
+                workerId >= 0 && workerId <= MAX_WORKER_ID,
+                () -> STR."worker id must be between 0 and \{MAX_WORKER_ID}, but was \{workerId}"
+        );
+        Assert.asserts(epoch >= 0 && epoch <= System.currentTimeMillis(), "epoch must not be in the future");
+        Assert.asserts(maxDriftMillis >= 0, "max drift millis must not be negative");
+        this.workerBits = workerId << worker_id_shift;
+        this.epoch = epoch;
+        this.maxDriftMillis = maxDriftMillis;
+    }
+
+    /**
+     * 使用默认纪元 {@link #DEFAULT_EPOCH} 与默认借用毫秒数 {@link #DEFAULT_MAX_DRIFT_MILLIS}
+     *
+     * @param workerId 工作节点 id，取值范围 [0, {@link #MAX_WORKER_ID}]
+     * @return 雪花算法 Id 生成器
+     */
+    public static SnowflakeIdGenerator of(long workerId)
+    {
+        return new SnowflakeIdGenerator(workerId, DEFAULT_EPOCH, DEFAULT_MAX_DRIFT_MILLIS);
+    }
+
+    /**
+     * @param workerId       工作节点 id，取值范围 [0, {@link #MAX_WORKER_ID}]
+     * @param epoch          纪元毫秒时间戳，不能晚于当前时间
+     * @param maxDriftMillis 序列号耗尽或时钟回拨时允许逻辑时间领先系统时钟的最大毫秒数
+     * @return 雪花算法 Id 生成器
+     */
+    public static SnowflakeIdGenerator of(long workerId, long epoch, long maxDriftMillis)
+    {
+        return new SnowflakeIdGenerator(workerId, epoch, maxDriftMillis);
+    }
+
+    // PART ----- GENERATE -----
+
+    @Override public Long newId() { return nextId(); }
+
+    /**
+     * 不装箱的 id 生成方法
+     *
+     * @return id
+     * @throws IllegalStateException 时间戳超出 {@link #TIMESTAMP_BITS} 位可表示的范围
+     */
+    public long nextId()
+    {
+        for (;;)
+        {
+            var now = System.currentTimeMillis() - epoch;
+            var prev = state.get();
+            var prevTimestamp = prev >>> SEQUENCE_BITS;
+
+            long next;
+            if (now > prevTimestamp) next = now << SEQUENCE_BITS;
+            else if ((prev & sequence_mask) != sequence_mask) next = prev + 1;
+            else
+            {
+                // 序列号耗尽，借用下一毫秒；领先系统时钟过多时等待时钟追上
+                if (prevTimestamp + 1 - now > maxDriftMillis)
+                {
+                    waitUntil(prevTimestamp + 1 - maxDriftMillis);
+                    continue;
+                }
+                next = (prevTimestamp + 1) << SEQUENCE_BITS;
+            }
+
+            if (state.compareAndSet(prev, next)) return compose(next);
+        }
+    }
+
+    /**
+     * @param id 由该生成器生成的 id
+     * @return id 中的毫秒时间戳（Unix 纪元）
+     */
+    public long timestampOf(long id) { return (id >>> timestamp_shift) + epoch; }
+
+    /**
+     * @param id 由雪花算法生成的 id
+     * @return id 中的工作节点 id
+     */
+    public static long workerIdOf(long id) { return (id >>> worker_id_shift) & MAX_WORKER_ID; }
+
+    /**
+     * @param id 由雪花算法生成的 id
+     * @return id 中的序列号
+     */
+    public static long sequenceOf(long id) { return id & sequence_mask; }
+
+    private long compose(long packed)
+    {
+        var timestamp = packed >>> SEQUENCE_BITS;
+        if (timestamp > MAX_TIMESTAMP)
+            throw new IllegalStateException(STR."timestamp overflow, the epoch [\{epoch}] is too early");
+        return (timestamp << timestamp_shift) | workerBits | (packed & sequence_mask);
+    }
+
+    /**
+     * 等待系统时钟到达指定的相对时间戳
+     *
+     * @param target 相对于纪元的毫秒时间戳
+     */
+    private void waitUntil(long target)
+    {
+        long remain;
+        while ((remain = target - (System.currentTimeMillis() - epoch)) > 0)
+            LockSupport.parkNanos(remain * 1_000_000L);
+    }
+}
@@ -0,0 +1,337 @@
+package jruyi.util;
+
+import jdk.incubator.vector.*;
+
+/**
+ * <h2>基于 Vector API 的数组计算</h2>
+ *
+ * <p>
+ * 使用平台偏好的向量宽度，每次处理一整个向量，剩余不足一个向量的元素逐个处理；
+ * 只能在 {@link ArrayUtil#isVectorSupported()} 为 true 时调用，否则加载该类会失败
+ * </p>
+ *
+ * @Date 2026-10-18 22:50
+ */
+abstract class VectorKernels
+{
+    private static final VectorSpecies<Byte> byte_species = ByteVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> int_species = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> long_species = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Float> float_species = FloatVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> double_species = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * @return 偏好的向量位数
+     */
+    static int preferredBits() { return int_species.vectorBitSize(); }
+
+    /**
+     * 每个分支使用常量运算符，保证比较被编译为向量指令；运算符为变量时 Vector API 会退化为逐个元素计算
+     */
+    private static VectorMask<Integer> mask(IntVector v, ArrayUtil.Comparison comparison, int value)
+    {
+        return switch (comparison)
+        {
+            case EQ -> v.compare(VectorOperators.EQ, value);
+            case NE -> v.compare(VectorOperators.NE, value);
+            case LT -> v.compare(VectorOperators.LT, value);
+            case LE -> v.compare(VectorOperators.LE, value);
+            case GT -> v.compare(VectorOperators.GT, value);
+            case GE -> v.compare(VectorOperators.GE, value);
+        };
+    }
+
+    private static VectorMask<Long> mask(LongVector v, ArrayUtil.Comparison comparison, long value)
+    {
+        return switch (comparison)
+        {
+            case EQ -> v.compare(VectorOperators.EQ, value);
+            case NE -> v.compare(VectorOperators.NE, value);
+            case LT -> v.compare(VectorOperators.LT, value);
+            case LE -> v.compare(VectorOperators.LE, value);
+            case GT -> v.compare(VectorOperators.GT, value);
+            case GE -> v.compare(VectorOperators.GE, value);
+        };
+    }
+
+    private static VectorMask<Float> mask(FloatVector v, ArrayUtil.Comparison comparison, float value)
+    {
+        return switch (comparison)
+        {
+            case EQ -> v.compare(VectorOperators.EQ, value);
+            case NE -> v.compare(VectorOperators.NE, value);
+            case LT -> v.compare(VectorOperators.LT, value);
+            case LE -> v.compare(VectorOperators.LE, value);
+            case GT -> v.compare(VectorOperators.GT, value);
+            case GE -> v.compare(VectorOperators.GE, value);
+        };
+    }
+
+    private static VectorMask<Double> mask(DoubleVector v, ArrayUtil.Comparison comparison, double value)
+    {
+        return switch (comparison)
+        {
+            case EQ -> v.compare(VectorOperators.EQ, value);
+            case NE -> v.compare(VectorOperators.NE, value);
+            case LT -> v.compare(VectorOperators.LT, value);
+            case LE -> v.compare(VectorOperators.LE, value);
+            case GT -> v.compare(VectorOperators.GT, value);
+            case GE -> v.compare(VectorOperators.GE, value);
+        };
+    }
+
+    // PART ----- SUM -----
+
+    /**
+     * 每个 int 向量扩展为两个 long 向量后累加，不会溢出
+     */
+    static long sum(int[] arr)
+    {
+        var acc = LongVector.zero(long_species);
+        var i = 0;
+        for (var bound = int_species.loopBound(arr.length); i < bound; i += int_species.length())
+        {
+            var v = IntVector.fromArray(int_species, arr, i);
+            acc = acc.add(v.convertShape(VectorOperators.I2L, long_species, 0))
+                     .add(v.convertShape(VectorOperators.I2L, long_species, 1));
+        }
+        var sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < arr.length; i++) sum += arr[i];
+        return sum;
+    }
+
+    static long sum(long[] arr)
+    {
+        var acc = LongVector.zero(long_species);
+        var i = 0;
+        for (var bound = long_species.loopBound(arr.length); i < bound; i += long_species.length())
+            acc = acc.add(LongVector.fromArray(long_species, arr, i));
+        var sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < arr.length; i++) sum += arr[i];
+        return sum;
+    }
+
+    static float sum(float[] arr)
+    {
+        var acc = FloatVector.zero(float_species);
+        var i = 0;
+        for (var bound = float_species.loopBound(arr.length); i < bound; i += float_species.length())
+            acc = acc.add(FloatVector.fromArray(float_species, arr, i));
+        var sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < arr.length; i++) sum += arr[i];
+        return sum;
+    }
+
+    static double sum(double[] arr)
+    {
+        var acc = DoubleVector.zero(double_species);
+        var i = 0;
+        for (var bound = double_species.loopBound(arr.length); i < bound; i += double_species.length())
+            acc = acc.add(DoubleVector.fromArray(double_species, arr, i));
+        var sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < arr.length; i++) sum += arr[i];
+        return sum;
+    }
+
+    // PART ----- MIN / MAX -----
+
+    static int min(int[] arr)
+    {
+        var acc = IntVector.broadcast(int_species, Integer.MAX_VALUE);
+        var i = 0;
+        for (var bound = int_species.loopBound(arr.length); i < bound; i += int_species.length())
+            acc = acc.min(IntVector.fromArray(int_species, arr, i));
+        var min = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < arr.length; i++) min = Math.min(min, arr[i]);
+        return min;
+    }
+
+    static int max(int[] arr)
+    {
+        var acc = IntVector.broadcast(int_species, Integer.MIN_VALUE);
+        var i = 0;
+        for (var bound = int_species.loopBound(arr.length); i < bound; i += int_species.length())
+            acc = acc.max(IntVector.fromArray(int_species, arr, i));
+        var max = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < arr.length; i++) max = Math.max(max, arr[i]);
+        return max;
+    }
+
+    static long min(long[] arr)
+    {
+        var acc = LongVector.broadcast(long_species, Long.MAX_VALUE);
+        var i = 0;
+        for (var bound = long_species.loopBound(arr.length); i < bound; i += long_species.length())
+            acc = acc.min(LongVector.fromArray(long_species, arr, i));
+        var min = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < arr.length; i++) min = Math.min(min, arr[i]);
+        return min;
+    }
+
+    static long max(long[] arr)
+    {
+        var acc = LongVector.broadcast(long_species, Long.MIN_VALUE);
+        var i = 0;
+        for (var bound = long_species.loopBound(arr.length); i < bound; i += long_species.length())
+            acc = acc.max(LongVector.fromArray(long_species, arr, i));
+        var max = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < arr.length; i++) max = Math.max(max, arr[i]);
+        return max;
+    }
+
+    static float min(float[] arr)
+    {
+        var acc = FloatVector.broadcast(float_species, Float.POSITIVE_INFINITY);
+        var i = 0;
+        for (var bound = float_species.loopBound(arr.length); i < bound; i += float_species.length())
+            acc = acc.min(FloatVector.fromArray(float_species, arr, i));
+        var min = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < arr.length; i++) min = Math.min(min, arr[i]);
+        return min;
+    }
+
+    static float max(float[] arr)
+    {
+        var acc = FloatVector.broadcast(float_species, Float.NEGATIVE_INFINITY);
+        var i = 0;
+        for (var bound = float_species.loopBound(arr.length); i < bound; i += float_species.length())
+            acc = acc.max(FloatVector.fromArray(float_species, arr, i));
+        var max = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < arr.length; i++) max = Math.max(max, arr[i]);
+        return max;
+    }
+
+    static double min(double[] arr)
+    {
+        var acc = DoubleVector.broadcast(double_species, Double.POSITIVE_INFINITY);
+        var i = 0;
+        for (var bound = double_species.loopBound(arr.length); i < bound; i += double_species.length())
+            acc = acc.min(DoubleVector.fromArray(double_species, arr, i));
+        var min = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < arr.length; i++) min = Math.min(min, arr[i]);
+        return min;
+    }
+
+    static double max(double[] arr)
+    {
+        var acc = DoubleVector.broadcast(double_species, Double.NEGATIVE_INFINITY);
+        var i = 0;
+        for (var bound = double_species.loopBound(arr.length); i < bound; i += double_species.length())
+            acc = acc.max(DoubleVector.fromArray(double_species, arr, i));
+        var max = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < arr.length; i++) max = Math.max(max, arr[i]);
+        return max;
+    }
+
+    // PART ----- SEARCH -----
+
+    static int indexOf(byte[] arr, byte value)
+    {
+        var i = 0;
+        for (var bound = byte_species.loopBound(arr.length); i < bound; i += byte_species.length())
+        {
+            var mask = ByteVector.fromArray(byte_species, arr, i).eq(value);
+            if (mask.anyTrue()) return i + mask.firstTrue();
+        }
+        for (; i < arr.length; i++) if (arr[i] == value) return i;
+        return -1;
+    }
+
+    static int indexOf(int[] arr, int value)
+    {
+        var i = 0;
+        for (var bound = int_species.loopBound(arr.length); i < bound; i += int_species.length())
+        {
+            var mask = IntVector.fromArray(int_species, arr, i).eq(value);
+            if (mask.anyTrue()) return i + mask.firstTrue();
+        }
+        for (; i < arr.length; i++) if (arr[i] == value) return i;
+        return -1;
+    }
+
+    static int indexOf(long[] arr, long value)
+    {
+        var i = 0;
+        for (var bound = long_species.loopBound(arr.length); i < bound; i += long_species.length())
+        {
+            var mask = LongVector.fromArray(long_species, arr, i).eq(value);
+            if (mask.anyTrue()) return i + mask.firstTrue();
+        }
+        for (; i < arr.length; i++) if (arr[i] == value) return i;
+        return -1;
+    }
+
+    // PART ----- COMPARE -----
+
+    static int count(int[] arr, ArrayUtil.Comparison comparison, int value)
+    {
+        var count = 0;
+        var i = 0;
+        for (var bound = int_species.loopBound(arr.length); i < bound; i += int_species.length())
+            count += mask(IntVector.fromArray(int_species, arr, i), comparison, value).trueCount();
+        for (; i < arr.length; i++) if (comparison.test(arr[i], value)) count++;
+        return count;
+    }
+
+    static int count(long[] arr, ArrayUtil.Comparison comparison, long value)
+    {
+        var count = 0;
+        var i = 0;
+        for (var bound = long_species.loopBound(arr.length); i < bound; i += long_species.length())
+            count += mask(LongVector.fromArray(long_species, arr, i), comparison, value).trueCount();
+        for (; i < arr.length; i++) if (comparison.test(arr[i], value)) count++;
+        return count;
+    }
+
+    static int count(float[] arr, ArrayUtil.Comparison comparison, float value)
+    {
+        var count = 0;
+        var i = 0;
+        for (var bound = float_species.loopBound(arr.length); i < bound; i += float_species.length())
+            count += mask(FloatVector.fromArray(float_species, arr, i), comparison, value).trueCount();
+        for (; i < arr.length; i++) if (comparison.test(arr[i], value)) count++;
+        return count;
+    }
+
+    static int count(double[] arr, ArrayUtil.Comparison comparison, double value)
+    {
+        var count = 0;
+        var i = 0;
+        for (var bound = double_species.loopBound(arr.length); i < bound; i += double_species.length())
+            count += mask(DoubleVector.fromArray(double_species, arr, i), comparison, value).trueCount();
+        for (; i < arr.length; i++) if (comparison.test(arr[i], value)) count++;
+        return count;
+    }
+
+    static void compare(int[] arr, ArrayUtil.Comparison comparison, int value, boolean[] mask)
+    {
+        var i = 0;
+        for (var bound = int_species.loopBound(arr.length); i < bound; i += int_species.length())
+            mask(IntVector.fromArray(int_species, arr, i), comparison, value).intoArray(mask, i);
+        for (; i < arr.length; i++) mask[i] = comparison.test(arr[i], value);
+    }
+
+    static void compare(long[] arr, ArrayUtil.Comparison comparison, long value, boolean[] mask)
+    {
+        var i = 0;
+        for (var bound = long_species.loopBound(arr.length); i < bound; i += long_species.length())
+            mask(LongVector.fromArray(long_species, arr, i), comparison, value).intoArray(mask, i);
+        for (; i < arr.length; i++) mask[i] = comparison.test(arr[i], value);
+    }
+
+    static void compare(float[] arr, ArrayUtil.Comparison comparison, float value, boolean[] mask)
+    {
+        var i = 0;
+        for (var bound = float_species.loopBound(arr.length); i < bound; i += float_species.length())
+            mask(FloatVector.fromArray(float_species, arr, i), comparison, value).intoArray(mask, i);
+        for (; i < arr.length; i++) mask[i] = comparison.test(arr[i], value);
+    }
+
+    static void compare(double[] arr, ArrayUtil.Comparison comparison, double value, boolean[] mask)
+    {
+        var i = 0;
+        for (var bound = double_species.loopBound(arr.length); i < bound; i += double_species.length())
+            mask(DoubleVector.fromArray(double_species, arr, i), comparison, value).intoArray(mask, i);
+        for (; i < arr.length; i++) mask[i] = comparison.test(arr[i], value);
+    }
+}
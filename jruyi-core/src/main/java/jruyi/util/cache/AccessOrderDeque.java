@@ -0,0 +1,44 @@
+package jruyi.util.cache;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * <h2>访问顺序队列</h2>
+ *
+ * <p>以条目自身的前后链接构成的双端链表，队首为最久未访问的条目；只在持有淘汰锁时访问</p>
+ *
+ * @Date 2026-10-18 20:20
+ */
+final class AccessOrderDeque<K, V>
+{
+    @Nullable private Node<K, V> head, tail;
+
+    @Nullable Node<K, V> peekFirst() { return head; }
+
+    @Nullable Node<K, V> peekLast() { return tail; }
+
+    void addLast(Node<K, V> node)
+    {
+        node.prev = tail;
+        node.next = null;
+        if (tail == null) head = node;
+        else tail.next = node;
+        tail = node;
+    }
+
+    void remove(Node<K, V> node)
+    {
+        if (node.prev == null) head = node.next;
+        else node.prev.next = node.next;
+        if (node.next == null) tail = node.prev;
+        else node.next.prev = node.prev;
+        node.prev = node.next = null;
+    }
+
+    void moveToLast(Node<K, V> node)
+    {
+        if (node == tail) return;
+        remove(node);
+        addLast(node);
+    }
+}
@@ -0,0 +1,258 @@
+package jruyi.util.cache;
+
+import jakarta.annotation.Nullable;
+import jruyi.util.Assert;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * <h2>合并并发加载的异步记忆器</h2>
+ *
+ * <p>
+ * 每个键对应一个共享的 {@link CompletableFuture}：同一键同时只有一次加载在执行，并发的调用者得到同一个 future，
+ * 加载完成前不会重复计算；加载默认在虚拟线程中执行，调用方不会被阻塞
+ * </p>
+ *
+ * <p>
+ * 加载失败（抛出异常）时先移除该键再使 future 异常完成，下次调用重新加载；
+ * 设置写入后过期时，值在加载完成后经过该时长失效；设置提前刷新时，值在刷新时间之后、过期之前被读取会触发后台刷新，
+ * 刷新期间继续返回旧值，刷新失败时保留旧值直至过期
+ * </p>
+ *
+ * <p>过期的条目在下次访问该键时移除；返回的 future 为共享对象的副本，调用方完成或取消它不会影响其他调用方</p>
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @Date 2026-10-18 21:10
+ */
+public final class AsyncMemoizer<K, V>
+{
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Function<? super K, ? extends V> loader;
+    private final Executor executor;
+    private final LongSupplier ticker;
+    private final long expireAfterWrite;
+    private final long refreshAfterWrite;
+
+    private AsyncMemoizer(Builder<K, V> builder)
+    {
+        this.loader = builder.loader;
+        this.executor = builder.executor;
+        this.ticker = builder.ticker;
+        this.expireAfterWrite = builder.expireAfterWrite;
+        this.refreshAfterWrite = builder.refreshAfterWrite;
+    }
+
+    /**
+     * @param loader 加载函数，在虚拟线程中执行
+     * @return 不过期的记忆器
+     */
+    public static <K, V> AsyncMemoizer<K, V> of(Function<? super K, ? extends V> loader)
+    {
+        return AsyncMemoizer.<K, V>builder(loader).build();
+    }
+
+    public static <K, V> Builder<K, V> builder(Function<? super K, ? extends V> loader) { return new Builder<>(loader); }
+
+    // PART ----- ACCESS -----
+
+    /**
+     * @return 键对应的值的 future，不存在或已过期时开始加载
+     */
+    public CompletableFuture<V> get(K key)
+    {
+        Assert.paramNotNull(key, "key");
+        var now = ticker.getAsLong();
+        var entry = entries.get(key);
+        if (entry == null || entry.isExpired(now, expireAfterWrite))
+        {
+            var created = new Entry<V>();
+            entry = entries.compute(key, (_, old) -> old == null || old.isExpired(now, expireAfterWrite) ? created : old);
+            if (entry == created) startLoad(key, created);
+        }
+        else if (refreshAfterWrite > 0 && entry.needsRefresh(now, refreshAfterWrite)) startRefresh(key, entry);
+        return entry.future.copy();
+    }
+
+    /**
+     * @return 键对应的值的 future，不存在或已过期时返回 null，不会触发加载
+     */
+    @Nullable
+    public CompletableFuture<V> getIfPresent(K key)
+    {
+        Assert.paramNotNull(key, "key");
+        var entry = entries.get(key);
+        return entry == null || entry.isExpired(ticker.getAsLong(), expireAfterWrite) ? null : entry.future.copy();
+    }
+
+    /**
+     * 移除键对应的条目；正在执行的加载不会被中断，但其结果不会再被后续调用使用
+     */
+    public void invalidate(K key)
+    {
+        Assert.paramNotNull(key, "key");
+        entries.remove(key);
+    }
+
+    public void invalidateAll() { entries.clear(); }
+
+    /**
+     * @return 条目数量，包括正在加载与已过期但尚未移除的条目
+     */
+    public int size() { return entries.size(); }
+
+    @Override public String toString() { return STR."AsyncMemoizer[size=\{entries.size()}]"; }
+
+    // PART ----- LOAD -----
+
+    private void startLoad(K key, Entry<V> entry)
+    {
+        try
+        {
+            executor.execute(() -> {
+                V value;
+                try { value = loader.apply(key); }
+                catch (Throwable e)
+                {
+                    entries.remove(key, entry);
+                    entry.future.completeExceptionally(e);
+                    return;
+                }
+                entry.loadedAt = ticker.getAsLong();
+                entry.future.complete(value);
+            });
+        }
+        catch (RuntimeException e)
+        {
+            // 执行器拒绝任务
+            entries.remove(key, entry);
+            entry.future.completeExceptionally(e);
+        }
+    }
+
+    private void startRefresh(K key, Entry<V> entry)
+    {
+        if (!entry.refreshing.compareAndSet(false, true)) return;
+        try
+        {
+            executor.execute(() -> {
+                try
+                {
+                    var value = loader.apply(key);
+                    var refreshed = new Entry<V>();
+                    refreshed.loadedAt = ticker.getAsLong();
+                    refreshed.future.complete(value);
+                    entries.replace(key, entry, refreshed);
+                }
+                catch (Throwable _)
+                {
+                    // 刷新失败时保留旧值，允许再次刷新
+                    entry.refreshing.set(false);
+                }
+            });
+        }
+        catch (RuntimeException _) { entry.refreshing.set(false); }
+    }
+
+    /**
+     * 条目：加载中的或已完成的 future 及其完成时间
+     */
+    private static final class Entry<V>
+    {
+        final CompletableFuture<V> future = new CompletableFuture<>();
+        volatile long loadedAt;
+        final AtomicBoolean refreshing = new AtomicBoolean();
+
+        /**
+         * 加载未完成的条目不会过期
+         */
+        boolean isExpired(long now, long expireAfterWrite)
+        {
+            return expireAfterWrite > 0 && future.isDone() && now - loadedAt >= expireAfterWrite;
+        }
+
+        boolean needsRefresh(long now, long refreshAfterWrite)
+        {
+            return !refreshing.get() && future.isDone() && !future.isCompletedExceptionally()
+                   && now - loadedAt >= refreshAfterWrite;
+        }
+    }
+
+    // PART ----- BUILDER -----
+
+    /**
+     * <h2>记忆器构建器</h2>
+     */
+    public static final class Builder<K, V>
+    {
+        private final Function<? super K, ? extends V> loader;
+        private Executor executor = command -> Thread.ofVirtual().name("async-memoizer-load").start(command);
+        private LongSupplier ticker = System::nanoTime;
+        private long expireAfterWrite;
+        private long refreshAfterWrite;
+
+        private Builder(Function<? super K, ? extends V> loader)
+        {
+            this.loader = Assert.paramNotNull(loader, "loader");
+        }
+
+        /**
+         * @param duration 值在加载完成后经过该时长失效
+         */
+        public Builder<K, V> expireAfterWrite(Duration duration)
+        {
+            this.expireAfterWrite = toNanos(duration);
+            return this;
+        }
+
+        /**
+         * @param duration 值在加载完成后经过该时长，被读取时在后台刷新；应小于过期时间
+         */
+        public Builder<K, V> refreshAfterWrite(Duration duration)
+        {
+            this.refreshAfterWrite = toNanos(duration);
+            return this;
+        }
+
+        /**
+         * @param executor 执行加载的执行器，默认为每次加载启动一个虚拟线程
+         */
+        public Builder<K, V> executor(Executor executor)
+        {
+            this.executor = Assert.paramNotNull(executor, "executor");
+            return this;
+        }
+
+        /**
+         * @param ticker 纳秒时间源，默认为 {@link System#nanoTime()}
+         */
+        public Builder<K, V> ticker(LongSupplier ticker)
+        {
+            this.ticker = Assert.paramNotNull(ticker, "ticker");
+            return this;
+        }
+
+        public AsyncMemoizer<K, V> build()
+        {
+            Assert.asserts(
+                    expireAfterWrite == 0 || refreshAfterWrite < expireAfterWrite,
+                    "refresh duration must be less than expire duration"
+            );
+            return new AsyncMemoizer<>(this);
+        }
+
+        private static long toNanos(Duration duration)
+        {
+            Assert.paramNotNull(duration, "duration");
+            Assert.asserts(duration.isPositive(), STR."duration must be positive: [\{duration}]");
+            var limit = Long.MAX_VALUE >>> 2;
+            return duration.compareTo(Duration.ofNanos(limit)) > 0 ? limit : duration.toNanos();
+        }
+    }
+}
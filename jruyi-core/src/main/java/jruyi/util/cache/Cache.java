@@ -0,0 +1,603 @@
+package jruyi.util.cache;
+
+import jakarta.annotation.Nullable;
+import jruyi.util.Assert;
+import jruyi.util.concurrent.RingQueue;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * <h2>并发有界缓存</h2>
+ *
+ * <p>
+ * 条目保存在 {@link ConcurrentHashMap} 中，淘汰策略为 W-TinyLFU：新条目先进入占总容量 1% 的 LRU 窗口，
+ * 离开窗口后与主区域（SLRU，80% 受保护、20% 试用）中最久未访问的条目比较访问频率，频率较高者留下；
+ * 频率由 4 位计数的 Count-Min Sketch 估计，并周期性衰减
+ * </p>
+ *
+ * <p>
+ * 读操作不加锁：命中时只将条目写入按线程分段的有损环形缓冲区，缓冲区满时丢弃记录并尝试执行维护；
+ * 写操作将策略变更放入写缓冲区；维护（回放缓冲区、过期、淘汰）在淘汰锁内批量执行，
+ * 因此容量可能短暂超出上限
+ * </p>
+ *
+ * <p>
+ * 过期支持写入后过期与访问后过期，到期条目由分层时间轮定位，无需扫描；过期条目在被移除前不会被读取到
+ * </p>
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @Date 2026-10-18 20:40
+ */
+public final class Cache<K, V>
+{
+    private static final int read_buffer_size = 16;
+    private static final int write_buffer_size = 1024;
+    private static final int max_read_stripes = 64;
+
+    // PART ----- CONFIG -----
+
+    private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+    private final long maximum;
+    private final ToIntBiFunction<? super K, ? super V> weigher;
+    private final long expireAfterWrite;
+    private final long expireAfterAccess;
+    private final LongSupplier ticker;
+
+    // PART ----- BUFFERS -----
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final RingQueue<Node<K, V>>[] readBuffers;
+    private final int readBufferMask;
+    private final RingQueue<Runnable> writeBuffer = RingQueue.mpsc(write_buffer_size);
+
+    // PART ----- POLICY, GUARDED BY EVICTION LOCK -----
+
+    private final AccessOrderDeque<K, V> windowDeque = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> probationDeque = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> protectedDeque = new AccessOrderDeque<>();
+    private final FrequencySketch sketch = new FrequencySketch();
+    @Nullable private final TimerWheel<K, V> timerWheel;
+    private final long windowMaximum;
+    private final long protectedMaximum;
+    private long windowWeight;
+    private long protectedWeight;
+    private long totalWeight;
+
+    // PART ----- STATS -----
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loadSuccesses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder loadTime = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder evictedWeight = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    private Cache(Builder<K, V> builder)
+    {
+        this.maximum = builder.maximum;
+        this.weigher = builder.weigher;
+        this.expireAfterWrite = builder.expireAfterWrite;
+        this.expireAfterAccess = builder.expireAfterAccess;
+        this.ticker = builder.ticker;
+
+        var stripes = Math.min(Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 4 - 1) << 1,
+                               max_read_stripes);
+        readBuffers = (RingQueue<Node<K, V>>[]) new RingQueue<?>[stripes];
+        for (int i = 0; i < stripes; i++) readBuffers[i] = RingQueue.mpsc(read_buffer_size);
+        readBufferMask = stripes - 1;
+
+        windowMaximum = Math.max(1, maximum / 100);
+        protectedMaximum = (maximum - windowMaximum) / 5 * 4;
+        sketch.ensureCapacity(Math.min(maximum, 64));
+        timerWheel = expires() ? new TimerWheel<>(this::deadline, ticker.getAsLong()) : null;
+    }
+
+    public static <K, V> Builder<K, V> builder() { return new Builder<>(); }
+
+    // PART ----- READ -----
+
+    /**
+     * @return 键对应的值，不存在或已过期时返回 null
+     */
+    @Nullable
+    public V getIfPresent(K key)
+    {
+        Assert.paramNotNull(key, "key");
+        var node = data.get(key);
+        if (node == null)
+        {
+            misses.increment();
+            return null;
+        }
+        var now = expires() ? ticker.getAsLong() : 0;
+        if (isExpired(node, now))
+        {
+            misses.increment();
+            tryMaintenance();
+            return null;
+        }
+        var value = node.value;
+        hits.increment();
+        afterRead(node, now);
+        return value;
+    }
+
+    /**
+     * 获取键对应的值，不存在时调用加载函数；同一键的并发加载只会执行一次，其余调用等待加载结果
+     *
+     * @param loader 加载函数，返回 null 时不放入缓存；不能在加载函数中修改本缓存
+     * @return 已有的值或加载的值，加载函数返回 null 时返回 null
+     */
+    @Nullable
+    public V get(K key, Function<? super K, ? extends V> loader)
+    {
+        Assert.paramNotNull(key, "key");
+        Assert.paramNotNull(loader, "loader");
+        var now = expires() ? ticker.getAsLong() : 0;
+        var node = data.get(key);
+        if (node != null && !isExpired(node, now))
+        {
+            var value = node.value;
+            hits.increment();
+            afterRead(node, now);
+            return value;
+        }
+        misses.increment();
+
+        @SuppressWarnings("unchecked")
+        var replaced = (Node<K, V>[]) new Node<?, ?>[1];
+        var loaded = new boolean[1];
+        node = data.compute(key, (k, old) -> {
+            var current = expires() ? ticker.getAsLong() : 0;
+            if (old != null && !isExpired(old, current)) return old;
+            replaced[0] = old;
+            var value = load(k, loader);
+            if (value == null) return null;
+            loaded[0] = true;
+            return new Node<>(k, value, weigh(k, value), current);
+        });
+
+        if (replaced[0] != null && replaced[0] != node) afterRemove(replaced[0]);
+        if (node == null) return null;
+        if (loaded[0]) afterWrite(new AddTask(node));
+        else afterRead(node, now);
+        return node.value;
+    }
+
+    @Nullable
+    private V load(K key, Function<? super K, ? extends V> loader)
+    {
+        var start = ticker.getAsLong();
+        V value;
+        try { value = loader.apply(key); }
+        catch (RuntimeException | Error e)
+        {
+            loadFailures.increment();
+            loadTime.add(ticker.getAsLong() - start);
+            throw e;
+        }
+        loadTime.add(ticker.getAsLong() - start);
+        if (value == null) loadFailures.increment();
+        else loadSuccesses.increment();
+        return value;
+    }
+
+    // PART ----- WRITE -----
+
+    public void put(K key, V value)
+    {
+        Assert.paramNotNull(key, "key");
+        Assert.paramNotNull(value, "value");
+        var weight = weigh(key, value);
+        @SuppressWarnings("unchecked")
+        var replaced = (Node<K, V>[]) new Node<?, ?>[1];
+        var created = new boolean[1];
+        var node = data.compute(key, (k, old) -> {
+            var now = ticker.getAsLong();
+            if (old == null || isExpired(old, now))
+            {
+                replaced[0] = old;
+                created[0] = true;
+                return new Node<>(k, value, weight, now);
+            }
+            old.value = value;
+            old.weight = weight;
+            old.writeTime = now;
+            old.accessTime = now;
+            return old;
+        });
+
+        if (replaced[0] != null) afterRemove(replaced[0]);
+        afterWrite(created[0] ? new AddTask(node) : new UpdateTask(node));
+    }
+
+    public void invalidate(K key)
+    {
+        Assert.paramNotNull(key, "key");
+        var node = data.remove(key);
+        if (node != null) afterRemove(node);
+    }
+
+    public void invalidateAll()
+    {
+        for (var key : data.keySet()) invalidate(key);
+    }
+
+    /**
+     * 立即执行维护：回放缓冲区、移除过期条目、淘汰超出容量的条目
+     */
+    public void cleanUp()
+    {
+        evictionLock.lock();
+        try { maintenance(); }
+        finally { evictionLock.unlock(); }
+    }
+
+    // PART ----- STATE -----
+
+    /**
+     * @return 条目数量的估计值，可能包含已过期但尚未移除的条目
+     */
+    public long estimatedSize() { return data.mappingCount(); }
+
+    public CacheStats stats()
+    {
+        return new CacheStats(
+                hits.sum(), misses.sum(), loadSuccesses.sum(), loadFailures.sum(), loadTime.sum(),
+                evictions.sum(), evictedWeight.sum()
+        );
+    }
+
+    @Override public String toString() { return STR."Cache[size=\{estimatedSize()}, maximum=\{maximum}]"; }
+
+    // PART ----- BUFFER -----
+
+    private void afterRead(Node<K, V> node, long now)
+    {
+        if (expireAfterAccess > 0) node.accessTime = now;
+        var stripe = (int) (Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L >>> 40) & readBufferMask;
+        if (!readBuffers[stripe].offer(node)) tryMaintenance();
+    }
+
+    private void afterRemove(Node<K, V> node)
+    {
+        node.state = Node.retired;
+        afterWrite(new RemoveTask(node));
+    }
+
+    private void afterWrite(Runnable task)
+    {
+        while (!writeBuffer.offer(task)) cleanUp();
+        scheduleMaintenance();
+    }
+
+    /**
+     * 获取到锁时执行维护；若释放锁后写缓冲区仍有任务（其他线程在本线程持锁期间写入），继续执行
+     */
+    private void scheduleMaintenance()
+    {
+        do
+        {
+            if (!evictionLock.tryLock()) return;
+            try { maintenance(); }
+            finally { evictionLock.unlock(); }
+        }
+        while (!writeBuffer.isEmpty());
+    }
+
+    private void tryMaintenance()
+    {
+        if (!evictionLock.tryLock()) return;
+        try { maintenance(); }
+        finally { evictionLock.unlock(); }
+    }
+
+    private void maintenance()
+    {
+        for (var buffer : readBuffers) buffer.drainTo(this::onAccess, read_buffer_size);
+        writeBuffer.drainTo(Runnable::run, Integer.MAX_VALUE);
+        if (timerWheel != null) timerWheel.advance(ticker.getAsLong(), this::expire);
+        evict();
+    }
+
+    // PART ----- POLICY -----
+
+    private void onAccess(Node<K, V> node)
+    {
+        if (node.queue == Node.unlinked) return;
+        sketch.increment(node.key);
+        switch (node.queue)
+        {
+            case Node.window -> windowDeque.moveToLast(node);
+            case Node.probation ->
+            {
+                probationDeque.remove(node);
+                protectedDeque.addLast(node);
+                node.queue = Node.protected_queue;
+                protectedWeight += node.policyWeight;
+                demoteProtected();
+            }
+            default -> protectedDeque.moveToLast(node);
+        }
+    }
+
+    private void demoteProtected()
+    {
+        while (protectedWeight > protectedMaximum)
+        {
+            var node = protectedDeque.peekFirst();
+            if (node == null) return;
+            protectedDeque.remove(node);
+            protectedWeight -= node.policyWeight;
+            probationDeque.addLast(node);
+            node.queue = Node.probation;
+        }
+    }
+
+    private void evict()
+    {
+        if (maximum == Long.MAX_VALUE) return;
+        if (data.mappingCount() > sketch.capacity() && sketch.capacity() < maximum)
+            sketch.ensureCapacity(Math.min(maximum, data.mappingCount() * 2));
+
+        while (windowWeight > windowMaximum)
+        {
+            var node = windowDeque.peekFirst();
+            if (node == null) break;
+            windowDeque.remove(node);
+            windowWeight -= node.policyWeight;
+            probationDeque.addLast(node);
+            node.queue = Node.probation;
+        }
+
+        while (totalWeight > maximum)
+        {
+            var victim = probationDeque.peekFirst();
+            var candidate = probationDeque.peekLast();
+            if (victim == null)
+            {
+                victim = protectedDeque.peekFirst();
+                if (victim == null) victim = windowDeque.peekFirst();
+                if (victim == null) break;
+                evictNode(victim);
+            }
+            else if (victim == candidate || sketch.frequency(candidate.key) > sketch.frequency(victim.key))
+                evictNode(victim);
+            else evictNode(candidate);
+        }
+    }
+
+    /**
+     * 按容量淘汰条目
+     */
+    private void evictNode(Node<K, V> node)
+    {
+        var removed = new boolean[1];
+        data.computeIfPresent(node.key, (_, n) -> {
+            if (n != node) return n;
+            removed[0] = true;
+            return null;
+        });
+        unlink(node);
+        if (removed[0])
+        {
+            evictions.increment();
+            evictedWeight.add(node.policyWeight);
+        }
+    }
+
+    /**
+     * 时间轮回调：条目确已过期时移除
+     *
+     * @return 条目是否已不在缓存中
+     */
+    private boolean expire(Node<K, V> node)
+    {
+        var now = ticker.getAsLong();
+        var removed = new boolean[1];
+        var present = new boolean[1];
+        data.computeIfPresent(node.key, (_, n) -> {
+            if (n != node) return n;
+            if (!isExpired(n, now))
+            {
+                present[0] = true;
+                return n;
+            }
+            removed[0] = true;
+            return null;
+        });
+        if (present[0]) return false;
+        unlink(node);
+        if (removed[0])
+        {
+            evictions.increment();
+            evictedWeight.add(node.policyWeight);
+        }
+        return true;
+    }
+
+    private void unlink(Node<K, V> node)
+    {
+        node.state = Node.dead;
+        if (timerWheel != null) timerWheel.deschedule(node);
+        switch (node.queue)
+        {
+            case Node.unlinked -> { return; }
+            case Node.window ->
+            {
+                windowDeque.remove(node);
+                windowWeight -= node.policyWeight;
+            }
+            case Node.probation -> probationDeque.remove(node);
+            default ->
+            {
+                protectedDeque.remove(node);
+                protectedWeight -= node.policyWeight;
+            }
+        }
+        totalWeight -= node.policyWeight;
+        node.queue = Node.unlinked;
+    }
+
+    // PART ----- EXPIRY -----
+
+    private boolean expires() { return expireAfterWrite > 0 || expireAfterAccess > 0; }
+
+    private boolean isExpired(Node<K, V> node, long now)
+    {
+        return expireAfterWrite > 0 && now - node.writeTime >= expireAfterWrite
+               || expireAfterAccess > 0 && now - node.accessTime >= expireAfterAccess;
+    }
+
+    private long deadline(Node<K, V> node)
+    {
+        if (expireAfterWrite == 0) return node.accessTime + expireAfterAccess;
+        if (expireAfterAccess == 0) return node.writeTime + expireAfterWrite;
+        return Math.min(node.writeTime + expireAfterWrite, node.accessTime + expireAfterAccess);
+    }
+
+    private int weigh(K key, V value)
+    {
+        var weight = weigher.applyAsInt(key, value);
+        Assert.asserts(weight >= 0, STR."weight must not be negative: [\{weight}]");
+        return weight;
+    }
+
+    // PART ----- TASK -----
+
+    private final class AddTask implements Runnable
+    {
+        private final Node<K, V> node;
+
+        AddTask(Node<K, V> node) { this.node = node; }
+
+        @Override
+        public void run()
+        {
+            if (node.state != Node.alive || node.queue != Node.unlinked) return;
+            sketch.increment(node.key);
+            node.policyWeight = node.weight;
+            node.queue = Node.window;
+            windowDeque.addLast(node);
+            windowWeight += node.policyWeight;
+            totalWeight += node.policyWeight;
+            if (timerWheel != null) timerWheel.schedule(node);
+        }
+    }
+
+    private final class UpdateTask implements Runnable
+    {
+        private final Node<K, V> node;
+
+        UpdateTask(Node<K, V> node) { this.node = node; }
+
+        @Override
+        public void run()
+        {
+            if (node.state != Node.alive || node.queue == Node.unlinked) return;
+            var delta = node.weight - node.policyWeight;
+            node.policyWeight += delta;
+            totalWeight += delta;
+            if (node.queue == Node.window) windowWeight += delta;
+            else if (node.queue == Node.protected_queue) protectedWeight += delta;
+            onAccess(node);
+            if (timerWheel != null) timerWheel.reschedule(node);
+        }
+    }
+
+    private final class RemoveTask implements Runnable
+    {
+        private final Node<K, V> node;
+
+        RemoveTask(Node<K, V> node) { this.node = node; }
+
+        @Override public void run() { unlink(node); }
+    }
+
+    // PART ----- BUILDER -----
+
+    /**
+     * <h2>缓存构建器</h2>
+     *
+     * <p>未设置容量上限时缓存不按容量淘汰；未设置过期时间时条目不会过期</p>
+     */
+    public static final class Builder<K, V>
+    {
+        private long maximum = Long.MAX_VALUE;
+        private ToIntBiFunction<? super K, ? super V> weigher = (_, _) -> 1;
+        private long expireAfterWrite;
+        private long expireAfterAccess;
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder() { }
+
+        /**
+         * @param maximumSize 最大条目数量
+         */
+        public Builder<K, V> maximumSize(long maximumSize)
+        {
+            Assert.asserts(maximumSize >= 0, STR."maximum size must not be negative: [\{maximumSize}]");
+            this.maximum = maximumSize;
+            return this;
+        }
+
+        /**
+         * @param maximumWeight 条目权重之和的上限
+         * @param weigher       条目权重函数，返回值不能为负
+         */
+        public Builder<K, V> maximumWeight(long maximumWeight, ToIntBiFunction<? super K, ? super V> weigher)
+        {
+            Assert.asserts(maximumWeight >= 0, STR."maximum weight must not be negative: [\{maximumWeight}]");
+            this.maximum = maximumWeight;
+            this.weigher = Assert.paramNotNull(weigher, "weigher");
+            return this;
+        }
+
+        /**
+         * @param duration 条目在写入（创建或替换值）后经过该时长过期
+         */
+        public Builder<K, V> expireAfterWrite(Duration duration)
+        {
+            this.expireAfterWrite = toNanos(duration);
+            return this;
+        }
+
+        /**
+         * @param duration 条目在最后一次读取或写入后经过该时长过期
+         */
+        public Builder<K, V> expireAfterAccess(Duration duration)
+        {
+            this.expireAfterAccess = toNanos(duration);
+            return this;
+        }
+
+        /**
+         * @param ticker 纳秒时间源，默认为 {@link System#nanoTime()}
+         */
+        public Builder<K, V> ticker(LongSupplier ticker)
+        {
+            this.ticker = Assert.paramNotNull(ticker, "ticker");
+            return this;
+        }
+
+        public Cache<K, V> build() { return new Cache<>(this); }
+
+        private static long toNanos(Duration duration)
+        {
+            Assert.paramNotNull(duration, "duration");
+            Assert.asserts(duration.isPositive(), STR."duration must be positive: [\{duration}]");
+            // 限制上限，避免计算到期时间时溢出
+            var limit = Long.MAX_VALUE >>> 2;
+            return duration.compareTo(Duration.ofNanos(limit)) > 0 ? limit : duration.toNanos();
+        }
+    }
+}
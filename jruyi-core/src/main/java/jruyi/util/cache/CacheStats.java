@@ -0,0 +1,50 @@
+package jruyi.util.cache;
+
+/**
+ * <h2>缓存统计</h2>
+ *
+ * <p>{@link Cache#stats()} 返回的快照，过期移除的条目同样计入淘汰</p>
+ *
+ * @param hitCount         命中次数
+ * @param missCount        未命中次数
+ * @param loadSuccessCount 加载成功次数
+ * @param loadFailureCount 加载失败（抛出异常或返回 null）次数
+ * @param totalLoadTime    加载耗时总和，纳秒
+ * @param evictionCount    淘汰的条目数量
+ * @param evictionWeight   淘汰的条目权重之和
+ * @Date 2026-10-18 20:20
+ */
+public record CacheStats(
+        long hitCount, long missCount, long loadSuccessCount, long loadFailureCount, long totalLoadTime,
+        long evictionCount, long evictionWeight
+)
+{
+    public long requestCount() { return hitCount + missCount; }
+
+    /**
+     * @return 命中率，没有请求时为 1
+     */
+    public double hitRate()
+    {
+        var requests = requestCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    /**
+     * @return 未命中率，没有请求时为 0
+     */
+    public double missRate()
+    {
+        var requests = requestCount();
+        return requests == 0 ? 0.0 : (double) missCount / requests;
+    }
+
+    /**
+     * @return 平均加载耗时，纳秒
+     */
+    public double averageLoadPenalty()
+    {
+        var loads = loadSuccessCount + loadFailureCount;
+        return loads == 0 ? 0.0 : (double) totalLoadTime / loads;
+    }
+}
@@ -0,0 +1,108 @@
+package jruyi.util.cache;
+
+/**
+ * <h2>访问频率草图</h2>
+ *
+ * <p>
+ * 4 位计数器的 Count-Min Sketch，每个 long 保存 16 个计数器，每个元素对应同一 long 组中的 4 个计数器；
+ * 计数达到采样数量后所有计数器减半，使频率随时间衰减；只在持有淘汰锁时访问
+ * </p>
+ *
+ * @Date 2026-10-18 20:20
+ */
+final class FrequencySketch
+{
+    private static final long[] seeds = {
+            0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L, 0x9AE16A3B2F90404FL, 0xCBF29CE484222325L
+    };
+    private static final long reset_mask = 0x7777777777777777L;
+    private static final long one_mask = 0x1111111111111111L;
+    private static final int max_table_size = 1 << 26;
+
+    private long[] table = new long[0];
+    private int tableMask;
+    private int sampleSize;
+    private int size;
+
+    /**
+     * 调整计数表大小，调整时丢弃已有的计数
+     *
+     * @param maximum 预期的不同元素数量
+     */
+    void ensureCapacity(long maximum)
+    {
+        var capacity = (int) Math.min(Math.max(maximum, 8), max_table_size);
+        if (table.length >= capacity) return;
+        table = new long[Integer.highestOneBit(capacity - 1) << 1];
+        tableMask = table.length - 1;
+        sampleSize = 10 * capacity;
+        size = 0;
+    }
+
+    int capacity() { return table.length; }
+
+    /**
+     * @return 元素的估计访问次数，最大为 15
+     */
+    int frequency(Object e)
+    {
+        if (table.length == 0) return 0;
+        var hash = spread(e.hashCode());
+        var start = (hash & 3) << 2;
+        var frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < 4; i++)
+        {
+            var index = indexOf(hash, i);
+            var count = (int) ((table[index] >>> ((start + i) << 2)) & 0xF);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    void increment(Object e)
+    {
+        if (table.length == 0) return;
+        var hash = spread(e.hashCode());
+        var start = (hash & 3) << 2;
+        var added = false;
+        for (int i = 0; i < 4; i++) added |= incrementAt(indexOf(hash, i), start + i);
+        if (added && ++size >= sampleSize) reset();
+    }
+
+    private boolean incrementAt(int i, int j)
+    {
+        var offset = j << 2;
+        var mask = 0xFL << offset;
+        if ((table[i] & mask) == mask) return false;
+        table[i] += 1L << offset;
+        return true;
+    }
+
+    /**
+     * 所有计数器减半
+     */
+    private void reset()
+    {
+        var odd = 0;
+        for (int i = 0; i < table.length; i++)
+        {
+            odd += Long.bitCount(table[i] & one_mask);
+            table[i] = (table[i] >>> 1) & reset_mask;
+        }
+        size = (size - (odd >>> 2)) >>> 1;
+    }
+
+    private int indexOf(int item, int i)
+    {
+        var hash = (item + seeds[i]) * seeds[i];
+        hash += hash >>> 32;
+        return (int) hash & tableMask;
+    }
+
+    private static int spread(int x)
+    {
+        x = ((x >>> 16) ^ x) * 0x45D9F3B;
+        x = ((x >>> 16) ^ x) * 0x45D9F3B;
+        return (x >>> 16) ^ x;
+    }
+}
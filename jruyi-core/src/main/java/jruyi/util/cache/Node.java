@@ -0,0 +1,55 @@
+package jruyi.util.cache;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * <h2>缓存条目</h2>
+ *
+ * <p>值、权重与时间戳由读写线程并发访问；队列与时间轮的链接只在持有淘汰锁时访问</p>
+ *
+ * @Date 2026-10-18 20:20
+ */
+final class Node<K, V>
+{
+    static final int unlinked = -1;
+    static final int window = 0;
+    static final int probation = 1;
+    static final int protected_queue = 2;
+
+    static final int alive = 0;
+    static final int retired = 1;
+    static final int dead = 2;
+
+    @Nullable final K key;
+    @Nullable volatile V value;
+    volatile int weight;
+    volatile long writeTime;
+    volatile long accessTime;
+    volatile int state;
+
+    // PART ----- GUARDED BY EVICTION LOCK -----
+
+    int policyWeight;
+    int queue = unlinked;
+    @Nullable Node<K, V> prev, next;
+    @Nullable Node<K, V> timerPrev, timerNext;
+
+    Node(@Nullable K key, @Nullable V value, int weight, long now)
+    {
+        this.key = key;
+        this.value = value;
+        this.weight = weight;
+        this.writeTime = now;
+        this.accessTime = now;
+    }
+
+    /**
+     * @return 时间轮桶的哨兵节点，前后链接指向自身
+     */
+    static <K, V> Node<K, V> sentinel()
+    {
+        var node = new Node<K, V>(null, null, 0, 0);
+        node.timerPrev = node.timerNext = node;
+        return node;
+    }
+}
@@ -0,0 +1,115 @@
+package jruyi.util.cache;
+
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * <h2>分层时间轮</h2>
+ *
+ * <p>
+ * 按到期时间将条目放入不同粒度的桶中：约 1 秒、1 分钟、1 小时、1.6 天各一层，超过 6.5 天的放入最后一个桶；
+ * 时间推进时只处理经过的桶，桶中尚未到期的条目（例如访问后延长了过期时间）重新放入更精细的桶；
+ * 调度、取消均为 O(1)；只在持有淘汰锁时访问
+ * </p>
+ *
+ * @Date 2026-10-18 20:30
+ */
+final class TimerWheel<K, V>
+{
+    private static final int[] buckets = {64, 64, 32, 4, 1};
+    private static final long[] spans = {1L << 30, 1L << 36, 1L << 42, 1L << 47, 1L << 49, 1L << 49};
+    private static final int[] shifts = {30, 36, 42, 47, 49};
+
+    private final Node<K, V>[][] wheel;
+    private final ToLongFunction<Node<K, V>> deadline;
+    private long nanos;
+
+    @SuppressWarnings("unchecked")
+    TimerWheel(ToLongFunction<Node<K, V>> deadline, long now)
+    {
+        this.deadline = deadline;
+        this.nanos = now;
+        wheel = (Node<K, V>[][]) new Node<?, ?>[buckets.length][];
+        for (int i = 0; i < buckets.length; i++)
+        {
+            wheel[i] = (Node<K, V>[]) new Node<?, ?>[buckets[i]];
+            for (int j = 0; j < buckets[i]; j++) wheel[i][j] = Node.sentinel();
+        }
+    }
+
+    void schedule(Node<K, V> node)
+    {
+        var sentinel = findBucket(deadline.applyAsLong(node));
+        node.timerPrev = sentinel.timerPrev;
+        node.timerNext = sentinel;
+        sentinel.timerPrev.timerNext = node;
+        sentinel.timerPrev = node;
+    }
+
+    void reschedule(Node<K, V> node)
+    {
+        deschedule(node);
+        schedule(node);
+    }
+
+    void deschedule(Node<K, V> node)
+    {
+        if (node.timerNext == null) return;
+        node.timerPrev.timerNext = node.timerNext;
+        node.timerNext.timerPrev = node.timerPrev;
+        node.timerPrev = node.timerNext = null;
+    }
+
+    /**
+     * 推进时间，处理经过的桶
+     *
+     * @param now    当前时间
+     * @param expire 到期条目的处理函数，返回 false 时表示条目未被移除，重新调度
+     */
+    void advance(long now, Predicate<Node<K, V>> expire)
+    {
+        var prev = nanos;
+        nanos = now;
+        for (int i = 0; i < shifts.length; i++)
+        {
+            var prevTicks = prev >>> shifts[i];
+            var delta = (now >>> shifts[i]) - prevTicks;
+            if (delta <= 0) break;
+            expire(i, prevTicks, delta, expire);
+        }
+    }
+
+    private void expire(int level, long prevTicks, long delta, Predicate<Node<K, V>> expire)
+    {
+        var timers = wheel[level];
+        var mask = timers.length - 1;
+        var steps = (int) Math.min(delta + 1, timers.length);
+        var start = (int) (prevTicks & mask);
+        for (int i = start; i < start + steps; i++)
+        {
+            var sentinel = timers[i & mask];
+            var node = sentinel.timerNext;
+            sentinel.timerPrev = sentinel.timerNext = sentinel;
+            while (node != sentinel)
+            {
+                var next = node.timerNext;
+                node.timerPrev = node.timerNext = null;
+                if (deadline.applyAsLong(node) - nanos > 0 || !expire.test(node)) schedule(node);
+                node = next;
+            }
+        }
+    }
+
+    private Node<K, V> findBucket(long time)
+    {
+        var duration = time - nanos;
+        var last = wheel.length - 1;
+        for (int i = 0; i < last; i++)
+            if (duration < spans[i + 1])
+            {
+                var ticks = time >>> shifts[i];
+                return wheel[i][(int) (ticks & (wheel[i].length - 1))];
+            }
+        return wheel[last][0];
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * <h2>缓存包</h2>
+ *
+ * @Date 2026-10-18 20:20
+ */
+package jruyi.util.cache;
@@ -0,0 +1,534 @@
+package jruyi.util.collection;
+
+import jakarta.annotation.Nullable;
+import jruyi.util.Assert;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * <h2>紧凑不可变映射</h2>
+ *
+ * <p>
+ * 面向小映射的内存占用优化：0 到 4 个条目的映射将键值直接保存为字段；5 到 8 个条目保存在无空槽的扁平数组中并线性查找；
+ * 更多条目保存在键值交错的扁平数组中，按 4/5 负载因子线性探测，不为每个条目创建对象；
+ * 创建时根据条目数量自动选择最紧凑的表示
+ * </p>
+ *
+ * <p>键与值都不能为 null；所有修改操作抛出 {@link UnsupportedOperationException}；遍历顺序不保证与插入顺序一致</p>
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @Date 2026-10-18 21:30
+ */
+public abstract sealed class CompactMap<K, V> extends AbstractMap<K, V>
+        permits CompactMap.Map0, CompactMap.Map1, CompactMap.Map2, CompactMap.Map3, CompactMap.Map4,
+                CompactMap.ArrayMap, CompactMap.HashedMap
+{
+    /**
+     * 不超过该数量时使用线性查找
+     */
+    private static final int linear_scan_limit = 8;
+
+    @Nullable private transient Set<Entry<K, V>> entrySet;
+
+    CompactMap() { }
+
+    // PART ----- FACTORY -----
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> CompactMap<K, V> of() { return (CompactMap<K, V>) Map0.instance; }
+
+    public static <K, V> CompactMap<K, V> of(K k1, V v1) { return new Map1<>(checkKey(k1), checkValue(v1)); }
+
+    /**
+     * @throws IllegalArgumentException 键重复
+     */
+    public static <K, V> CompactMap<K, V> of(K k1, V v1, K k2, V v2) { return ofPairs(k1, v1, k2, v2); }
+
+    /**
+     * @throws IllegalArgumentException 键重复
+     */
+    public static <K, V> CompactMap<K, V> of(K k1, V v1, K k2, V v2, K k3, V v3)
+    {
+        return ofPairs(k1, v1, k2, v2, k3, v3);
+    }
+
+    /**
+     * @throws IllegalArgumentException 键重复
+     */
+    public static <K, V> CompactMap<K, V> of(K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4)
+    {
+        return ofPairs(k1, v1, k2, v2, k3, v3, k4, v4);
+    }
+
+    /**
+     * @param map 被复制的映射，本身为 {@link CompactMap} 时直接返回
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> CompactMap<K, V> copyOf(Map<? extends K, ? extends V> map)
+    {
+        Assert.paramNotNull(map, "map");
+        if (map instanceof CompactMap<? extends K, ? extends V> c) return (CompactMap<K, V>) c;
+        var builder = new Builder<K, V>(map.size());
+        map.forEach(builder::put);
+        return builder.build();
+    }
+
+    public static <K, V> Builder<K, V> builder() { return new Builder<>(4); }
+
+    /**
+     * @param expectedSize 预期条目数量
+     */
+    public static <K, V> Builder<K, V> builder(int expectedSize)
+    {
+        Assert.asserts(expectedSize >= 0, STR."expected size must not be negative: [\{expectedSize}]");
+        return new Builder<>(expectedSize);
+    }
+
+    private static <K, V> CompactMap<K, V> ofPairs(Object... pairs)
+    {
+        var builder = new Builder<K, V>(pairs.length / 2);
+        for (int i = 0; i < pairs.length; i += 2)
+            Assert.asserts(builder.putIfAbsent(pairs[i], pairs[i + 1]), STR."duplicate key: [\{pairs[i]}]");
+        return builder.build();
+    }
+
+    /**
+     * @param pairs 键值交错的数组，键不重复且均不为 null
+     * @param size  条目数量
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V> CompactMap<K, V> create(Object[] pairs, int size)
+    {
+        return switch (size)
+        {
+            case 0 -> of();
+            case 1 -> new Map1<>((K) pairs[0], (V) pairs[1]);
+            case 2 -> new Map2<>((K) pairs[0], (V) pairs[1], (K) pairs[2], (V) pairs[3]);
+            case 3 -> new Map3<>((K) pairs[0], (V) pairs[1], (K) pairs[2], (V) pairs[3], (K) pairs[4], (V) pairs[5]);
+            case 4 -> new Map4<>(
+                    (K) pairs[0], (V) pairs[1], (K) pairs[2], (V) pairs[3],
+                    (K) pairs[4], (V) pairs[5], (K) pairs[6], (V) pairs[7]
+            );
+            default -> size <= linear_scan_limit
+                       ? new ArrayMap<>(Arrays.copyOf(pairs, size * 2))
+                       : new HashedMap<>(pairs, size);
+        };
+    }
+
+    private static <K> K checkKey(@Nullable K key) { return Assert.paramNotNull(key, "key"); }
+
+    private static <V> V checkValue(@Nullable V value) { return Assert.paramNotNull(value, "value"); }
+
+    // PART ----- SLOT ACCESS -----
+
+    /**
+     * @return 槽位数量，部分槽位可能为空
+     */
+    abstract int slots();
+
+    /**
+     * @return 槽位上的键，空槽返回 null
+     */
+    @Nullable abstract Object keyAt(int slot);
+
+    abstract Object valueAt(int slot);
+
+    // PART ----- MAP -----
+
+    @Override @Nullable public abstract V get(@Nullable Object key);
+
+    @Override public boolean containsKey(@Nullable Object key) { return get(key) != null; }
+
+    @Override
+    public boolean containsValue(@Nullable Object value)
+    {
+        if (value == null) return false;
+        for (int i = 0, n = slots(); i < n; i++) if (keyAt(i) != null && value.equals(valueAt(i))) return true;
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action)
+    {
+        Assert.paramNotNull(action, "action");
+        for (int i = 0, n = slots(); i < n; i++)
+        {
+            var k = keyAt(i);
+            if (k != null) action.accept((K) k, (V) valueAt(i));
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet()
+    {
+        var set = entrySet;
+        return set != null ? set : (entrySet = new EntrySet());
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>>
+    {
+        @Override public int size() { return CompactMap.this.size(); }
+
+        @Override
+        public Iterator<Entry<K, V>> iterator()
+        {
+            return new Iterator<>()
+            {
+                private int cursor = advance(0);
+
+                private int advance(int from)
+                {
+                    var n = slots();
+                    while (from < n && keyAt(from) == null) from++;
+                    return from;
+                }
+
+                @Override public boolean hasNext() { return cursor < slots(); }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public Entry<K, V> next()
+                {
+                    if (cursor >= slots()) throw new NoSuchElementException();
+                    var entry = Map.entry((K) keyAt(cursor), (V) valueAt(cursor));
+                    cursor = advance(cursor + 1);
+                    return entry;
+                }
+            };
+        }
+    }
+
+    // PART ----- IMPLEMENTATION -----
+
+    static final class Map0<K, V> extends CompactMap<K, V>
+    {
+        static final Map0<?, ?> instance = new Map0<>();
+
+        @Override public int size() { return 0; }
+
+        @Override @Nullable public V get(@Nullable Object key) { return null; }
+
+        @Override int slots() { return 0; }
+
+        @Override @Nullable Object keyAt(int slot) { throw new IndexOutOfBoundsException(slot); }
+
+        @Override Object valueAt(int slot) { throw new IndexOutOfBoundsException(slot); }
+    }
+
+    static final class Map1<K, V> extends CompactMap<K, V>
+    {
+        private final K k0;
+        private final V v0;
+
+        Map1(K k0, V v0)
+        {
+            this.k0 = k0;
+            this.v0 = v0;
+        }
+
+        @Override public int size() { return 1; }
+
+        @Override @Nullable public V get(@Nullable Object key) { return k0.equals(key) ? v0 : null; }
+
+        @Override int slots() { return 1; }
+
+        @Override Object keyAt(int slot) { return k0; }
+
+        @Override Object valueAt(int slot) { return v0; }
+    }
+
+    static final class Map2<K, V> extends CompactMap<K, V>
+    {
+        private final K k0, k1;
+        private final V v0, v1;
+
+        Map2(K k0, V v0, K k1, V v1)
+        {
+            this.k0 = k0;
+            this.v0 = v0;
+            this.k1 = k1;
+            this.v1 = v1;
+        }
+
+        @Override public int size() { return 2; }
+
+        @Override
+        @Nullable
+        public V get(@Nullable Object key)
+        {
+            if (k0.equals(key)) return v0;
+            if (k1.equals(key)) return v1;
+            return null;
+        }
+
+        @Override int slots() { return 2; }
+
+        @Override Object keyAt(int slot) { return slot == 0 ? k0 : k1; }
+
+        @Override Object valueAt(int slot) { return slot == 0 ? v0 : v1; }
+    }
+
+    static final class Map3<K, V> extends CompactMap<K, V>
+    {
+        private final K k0, k1, k2;
+        private final V v0, v1, v2;
+
+        Map3(K k0, V v0, K k1, V v1, K k2, V v2)
+        {
+            this.k0 = k0;
+            this.v0 = v0;
+            this.k1 = k1;
+            this.v1 = v1;
+            this.k2 = k2;
+            this.v2 = v2;
+        }
+
+        @Override public int size() { return 3; }
+
+        @Override
+        @Nullable
+        public V get(@Nullable Object key)
+        {
+            if (k0.equals(key)) return v0;
+            if (k1.equals(key)) return v1;
+            if (k2.equals(key)) return v2;
+            return null;
+        }
+
+        @Override int slots() { return 3; }
+
+        @Override
+        Object keyAt(int slot)
+        {
+            return switch (slot)
+            {
+                case 0 -> k0;
+                case 1 -> k1;
+                default -> k2;
+            };
+        }
+
+        @Override
+        Object valueAt(int slot)
+        {
+            return switch (slot)
+            {
+                case 0 -> v0;
+                case 1 -> v1;
+                default -> v2;
+            };
+        }
+    }
+
+    static final class Map4<K, V> extends CompactMap<K, V>
+    {
+        private final K k0, k1, k2, k3;
+        private final V v0, v1, v2, v3;
+
+        Map4(K k0, V v0, K k1, V v1, K k2, V v2, K k3, V v3)
+        {
+            this.k0 = k0;
+            this.v0 = v0;
+            this.k1 = k1;
+            this.v1 = v1;
+            this.k2 = k2;
+            this.v2 = v2;
+            this.k3 = k3;
+            this.v3 = v3;
+        }
+
+        @Override public int size() { return 4; }
+
+        @Override
+        @Nullable
+        public V get(@Nullable Object key)
+        {
+            if (k0.equals(key)) return v0;
+            if (k1.equals(key)) return v1;
+            if (k2.equals(key)) return v2;
+            if (k3.equals(key)) return v3;
+            return null;
+        }
+
+        @Override int slots() { return 4; }
+
+        @Override
+        Object keyAt(int slot)
+        {
+            return switch (slot)
+            {
+                case 0 -> k0;
+                case 1 -> k1;
+                case 2 -> k2;
+                default -> k3;
+            };
+        }
+
+        @Override
+        Object valueAt(int slot)
+        {
+            return switch (slot)
+            {
+                case 0 -> v0;
+                case 1 -> v1;
+                case 2 -> v2;
+                default -> v3;
+            };
+        }
+    }
+
+    /**
+     * 键值交错保存在无空槽的数组中，线性查找
+     */
+    static final class ArrayMap<K, V> extends CompactMap<K, V>
+    {
+        private final Object[] pairs;
+
+        ArrayMap(Object[] pairs) { this.pairs = pairs; }
+
+        @Override public int size() { return pairs.length >> 1; }
+
+        @Override
+        @Nullable
+        @SuppressWarnings("unchecked")
+        public V get(@Nullable Object key)
+        {
+            if (key == null) return null;
+            for (int i = 0; i < pairs.length; i += 2) if (key.equals(pairs[i])) return (V) pairs[i + 1];
+            return null;
+        }
+
+        @Override int slots() { return pairs.length >> 1; }
+
+        @Override Object keyAt(int slot) { return pairs[slot << 1]; }
+
+        @Override Object valueAt(int slot) { return pairs[(slot << 1) + 1]; }
+    }
+
+    /**
+     * 键值交错保存在按 4/5 负载因子分配的数组中，线性探测；槽位数量不要求为 2 的幂
+     */
+    static final class HashedMap<K, V> extends CompactMap<K, V>
+    {
+        private final Object[] table;
+        private final int size;
+
+        HashedMap(Object[] pairs, int size)
+        {
+            this.size = size;
+            var slots = size + (size >> 2) + 1;
+            table = new Object[slots << 1];
+            for (int i = 0; i < size; i++)
+            {
+                var k = pairs[i << 1];
+                var slot = probe(k);
+                table[slot << 1] = k;
+                table[(slot << 1) + 1] = pairs[(i << 1) + 1];
+            }
+        }
+
+        @Override public int size() { return size; }
+
+        @Override
+        @Nullable
+        @SuppressWarnings("unchecked")
+        public V get(@Nullable Object key)
+        {
+            if (key == null) return null;
+            var slot = probe(key);
+            return table[slot << 1] == null ? null : (V) table[(slot << 1) + 1];
+        }
+
+        /**
+         * @return 键所在的槽位，不存在时为探测到的空槽
+         */
+        private int probe(Object key)
+        {
+            var slots = table.length >> 1;
+            var h = key.hashCode() * 0x9E3779B9;
+            var slot = Math.floorMod(h ^ (h >>> 16), slots);
+            for (Object k; (k = table[slot << 1]) != null && !key.equals(k); )
+                if (++slot == slots) slot = 0;
+            return slot;
+        }
+
+        @Override int slots() { return table.length >> 1; }
+
+        @Override @Nullable Object keyAt(int slot) { return table[slot << 1]; }
+
+        @Override Object valueAt(int slot) { return table[(slot << 1) + 1]; }
+    }
+
+    // PART ----- BUILDER -----
+
+    /**
+     * <h2>紧凑映射构建器</h2>
+     *
+     * <p>重复放入同一个键时后放入的值生效；{@link #build()} 根据条目数量选择最紧凑的表示，构建后仍可继续使用</p>
+     */
+    public static final class Builder<K, V>
+    {
+        private Object[] pairs;
+        private int size;
+
+        /**
+         * 条目数量超过线性查找上限后建立的键索引
+         */
+        @Nullable private HashMap<Object, Integer> index;
+
+        private Builder(int expectedSize) { pairs = new Object[Math.max(expectedSize, 1) * 2]; }
+
+        public Builder<K, V> put(K key, V value)
+        {
+            var i = indexOf(checkKey(key));
+            if (i >= 0) pairs[(i << 1) + 1] = checkValue(value);
+            else append(key, checkValue(value));
+            return this;
+        }
+
+        public Builder<K, V> putAll(Map<? extends K, ? extends V> map)
+        {
+            Assert.paramNotNull(map, "map");
+            map.forEach(this::put);
+            return this;
+        }
+
+        /**
+         * @return 是否放入了该条目，键已存在时不放入
+         */
+        boolean putIfAbsent(Object key, Object value)
+        {
+            if (indexOf(checkKey(key)) >= 0) return false;
+            append(key, checkValue(value));
+            return true;
+        }
+
+        public int size() { return size; }
+
+        public CompactMap<K, V> build() { return create(pairs, size); }
+
+        private int indexOf(Object key)
+        {
+            if (index != null) return index.getOrDefault(key, -1);
+            for (int i = 0; i < size; i++) if (key.equals(pairs[i << 1])) return i;
+            return -1;
+        }
+
+        private void append(Object key, Object value)
+        {
+            if (size << 1 == pairs.length) pairs = Arrays.copyOf(pairs, pairs.length << 1);
+            pairs[size << 1] = key;
+            pairs[(size << 1) + 1] = value;
+            if (index != null) index.put(key, size);
+            else if (size + 1 > linear_scan_limit)
+            {
+                index = new HashMap<>();
+                for (int i = 0; i <= size; i++) index.put(pairs[i << 1], i);
+            }
+            size++;
+        }
+    }
+}
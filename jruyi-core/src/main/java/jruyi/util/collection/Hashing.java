@@ -0,0 +1,61 @@
+package jruyi.util.collection;
+
+import jruyi.util.Assert;
+
+/**
+ * <h2>开放寻址哈希表公共方法</h2>
+ *
+ * @Date 2026-10-18 18:40
+ */
+abstract class Hashing
+{
+    /**
+     * 哈希表的最大长度，负载因子固定为 3/4
+     */
+    static final int max_capacity = 1 << 30;
+    static final int default_capacity = 16;
+
+    static int mix(int key)
+    {
+        var h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    static int mix(long key)
+    {
+        var h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * @param expected 预期元素数量
+     * @return 能容纳预期元素数量且不超过负载因子的 2 的幂
+     */
+    static int tableSize(int expected)
+    {
+        Assert.asserts(expected >= 0, STR."expected size must not be negative: [\{expected}]");
+        var needed = (long) expected * 4 / 3 + 1;
+        Assert.asserts(needed <= max_capacity, STR."expected size is too large: [\{expected}]");
+        return Math.max(default_capacity, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+    /**
+     * @param length 表长度
+     * @return 需要扩容的元素数量
+     */
+    static int threshold(int length) { return length == max_capacity ? max_capacity - 1 : length - (length >>> 2); }
+
+    /**
+     * @param length      当前数组长度
+     * @param minCapacity 需要的最小容量
+     * @return 列表扩容后的数组长度
+     */
+    static int grow(int length, int minCapacity)
+    {
+        Assert.asserts(minCapacity >= 0, "list is too large");
+        var grown = length + (length >> 1);
+        if (grown - minCapacity < 0) grown = Math.max(minCapacity, 8);
+        if (grown - (Integer.MAX_VALUE - 8) > 0) grown = Math.max(minCapacity, Integer.MAX_VALUE - 8);
+        return grown;
+    }
+}
@@ -0,0 +1,245 @@
+package jruyi.util.collection;
+
+import jakarta.annotation.Nullable;
+import jruyi.util.ArrayUtil;
+import jruyi.util.Assert;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/**
+ * <h2>int 哈希集合</h2>
+ *
+ * <p>
+ * 线性探测的开放寻址哈希表，元素直接保存在 int 数组中；0 作为空槽标记，集合中的 0 单独记录；
+ * 删除时回移后续元素而不留下墓碑，负载因子为 3/4；非线程安全
+ * </p>
+ *
+ * @Date 2026-10-18 18:50
+ */
+public final class IntHashSet
+{
+    private int[] keys;
+    private int mask;
+    private int size;
+    private int threshold;
+    private boolean hasZero;
+
+    private IntHashSet(int tableSize)
+    {
+        keys = tableSize == 0 ? ArrayUtil.EMPTY_INT_ARRAY : new int[tableSize];
+        mask = tableSize - 1;
+        threshold = Hashing.threshold(tableSize);
+    }
+
+    public static IntHashSet of() { return new IntHashSet(0); }
+
+    public static IntHashSet of(int... values)
+    {
+        Assert.paramNotNull(values, "values");
+        var set = new IntHashSet(Hashing.tableSize(values.length));
+        for (var v : values) set.add(v);
+        return set;
+    }
+
+    /**
+     * @param expected 预期元素数量，达到该数量前不扩容
+     */
+    public static IntHashSet withExpectedSize(int expected) { return new IntHashSet(Hashing.tableSize(expected)); }
+
+    // PART ----- ACCESS -----
+
+    public int size() { return size; }
+
+    public boolean isEmpty() { return size == 0; }
+
+    public boolean contains(int value)
+    {
+        if (value == 0) return hasZero;
+        if (keys.length == 0) return false;
+        for (int i = Hashing.mix(value) & mask; ; i = (i + 1) & mask)
+        {
+            var k = keys[i];
+            if (k == value) return true;
+            if (k == 0) return false;
+        }
+    }
+
+    // PART ----- MODIFY -----
+
+    /**
+     * @return 集合中原本是否不包含该元素
+     */
+    public boolean add(int value)
+    {
+        if (value == 0)
+        {
+            if (hasZero) return false;
+            hasZero = true;
+            size++;
+            return true;
+        }
+        if (keys.length == 0) resize(Hashing.default_capacity);
+        var i = Hashing.mix(value) & mask;
+        for (int k; (k = keys[i]) != 0; i = (i + 1) & mask)
+            if (k == value) return false;
+        keys[i] = value;
+        if (++size > threshold) resize(keys.length << 1);
+        return true;
+    }
+
+    /**
+     * @return 集合中原本是否包含该元素
+     */
+    public boolean remove(int value)
+    {
+        if (value == 0)
+        {
+            if (!hasZero) return false;
+            hasZero = false;
+            size--;
+            return true;
+        }
+        if (keys.length == 0) return false;
+        for (int i = Hashing.mix(value) & mask; ; i = (i + 1) & mask)
+        {
+            var k = keys[i];
+            if (k == 0) return false;
+            if (k == value)
+            {
+                shiftKeys(i);
+                size--;
+                return true;
+            }
+        }
+    }
+
+    public void clear()
+    {
+        Arrays.fill(keys, 0);
+        hasZero = false;
+        size = 0;
+    }
+
+    /**
+     * 删除 slot 处的元素后，将探测链上的后续元素回移，保持查找链连续
+     */
+    private void shiftKeys(int slot)
+    {
+        for (int last = slot, i = (slot + 1) & mask; ; i = (i + 1) & mask)
+        {
+            var k = keys[i];
+            if (k == 0)
+            {
+                keys[last] = 0;
+                return;
+            }
+            var home = Hashing.mix(k) & mask;
+            // home 不在 (last, i] 区间内时，该元素可以移到 last
+            if (last <= i ? last >= home || home > i : last >= home && home > i)
+            {
+                keys[last] = k;
+                last = i;
+            }
+        }
+    }
+
+    private void resize(int tableSize)
+    {
+        var old = keys;
+        keys = new int[tableSize];
+        mask = tableSize - 1;
+        threshold = Hashing.threshold(tableSize);
+        for (var k : old)
+        {
+            if (k == 0) continue;
+            var i = Hashing.mix(k) & mask;
+            while (keys[i] != 0) i = (i + 1) & mask;
+            keys[i] = k;
+        }
+    }
+
+    // PART ----- TRAVERSE -----
+
+    public void forEach(IntConsumer action)
+    {
+        Assert.paramNotNull(action, "action");
+        if (hasZero) action.accept(0);
+        for (var k : keys) if (k != 0) action.accept(k);
+    }
+
+    /**
+     * 遍历顺序不确定，遍历期间修改集合的结果不确定
+     */
+    public PrimitiveIterator.OfInt iterator()
+    {
+        return new PrimitiveIterator.OfInt()
+        {
+            private boolean zeroPending = hasZero;
+            private int cursor = advance(0);
+
+            private int advance(int from)
+            {
+                while (from < keys.length && keys[from] == 0) from++;
+                return from;
+            }
+
+            @Override public boolean hasNext() { return zeroPending || cursor < keys.length; }
+
+            @Override
+            public int nextInt()
+            {
+                if (zeroPending)
+                {
+                    zeroPending = false;
+                    return 0;
+                }
+                if (cursor >= keys.length) throw new NoSuchElementException();
+                var k = keys[cursor];
+                cursor = advance(cursor + 1);
+                return k;
+            }
+        };
+    }
+
+    public int[] toArray()
+    {
+        if (size == 0) return ArrayUtil.EMPTY_INT_ARRAY;
+        var result = new int[size];
+        var n = hasZero ? 1 : 0;
+        for (var k : keys) if (k != 0) result[n++] = k;
+        return result;
+    }
+
+    // PART ----- OBJECT -----
+
+    @Override
+    public boolean equals(@Nullable Object o)
+    {
+        if (this == o) return true;
+        if (!(o instanceof IntHashSet that) || size != that.size || hasZero != that.hasZero) return false;
+        for (var k : keys) if (k != 0 && !that.contains(k)) return false;
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        var result = 0;
+        for (var k : keys) result += k;
+        return result;
+    }
+
+    @Override
+    public String toString()
+    {
+        var sb = new StringBuilder("[");
+        forEach(k -> {
+            if (sb.length() > 1) sb.append(", ");
+            sb.append(k);
+        });
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,256 @@
+package jruyi.util.collection;
+
+import jakarta.annotation.Nullable;
+import jruyi.util.ArrayUtil;
+import jruyi.util.Assert;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * <h2>int 列表</h2>
+ *
+ * <p>以 int 数组为底层存储的可增长列表，元素的读写与遍历不装箱；非线程安全</p>
+ *
+ * @Date 2026-10-18 18:45
+ */
+public final class IntList
+{
+    private int[] elements;
+    private int size;
+
+    private IntList(int[] elements, int size)
+    {
+        this.elements = elements;
+        this.size = size;
+    }
+
+    public static IntList of() { return new IntList(ArrayUtil.EMPTY_INT_ARRAY, 0); }
+
+    /**
+     * @param values 初始元素，会被复制
+     */
+    public static IntList of(int... values)
+    {
+        Assert.paramNotNull(values, "values");
+        return new IntList(values.length == 0 ? ArrayUtil.EMPTY_INT_ARRAY : values.clone(), values.length);
+    }
+
+    /**
+     * @param capacity 初始容量
+     */
+    public static IntList withCapacity(int capacity)
+    {
+        Assert.asserts(capacity >= 0, STR."capacity must not be negative: [\{capacity}]");
+        return new IntList(capacity == 0 ? ArrayUtil.EMPTY_INT_ARRAY : new int[capacity], 0);
+    }
+
+    // PART ----- ACCESS -----
+
+    public int size() { return size; }
+
+    public boolean isEmpty() { return size == 0; }
+
+    public int get(int index) { return elements[Objects.checkIndex(index, size)]; }
+
+    /**
+     * @return 原来的元素
+     */
+    public int set(int index, int value)
+    {
+        var prev = elements[Objects.checkIndex(index, size)];
+        elements[index] = value;
+        return prev;
+    }
+
+    /**
+     * @throws NoSuchElementException 列表为空
+     */
+    public int getLast()
+    {
+        if (size == 0) throw new NoSuchElementException();
+        return elements[size - 1];
+    }
+
+    public int indexOf(int value)
+    {
+        for (int i = 0; i < size; i++) if (elements[i] == value) return i;
+        return -1;
+    }
+
+    public int lastIndexOf(int value)
+    {
+        for (int i = size - 1; i >= 0; i--) if (elements[i] == value) return i;
+        return -1;
+    }
+
+    public boolean contains(int value) { return indexOf(value) >= 0; }
+
+    // PART ----- MODIFY -----
+
+    public void add(int value)
+    {
+        if (size == elements.length) grow(size + 1);
+        elements[size++] = value;
+    }
+
+    public void add(int index, int value)
+    {
+        Objects.checkIndex(index, size + 1);
+        if (size == elements.length) grow(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+    }
+
+    public void addAll(int... values)
+    {
+        Assert.paramNotNull(values, "values");
+        if (size + values.length > elements.length) grow(size + values.length);
+        System.arraycopy(values, 0, elements, size, values.length);
+        size += values.length;
+    }
+
+    public void addAll(IntList other)
+    {
+        Assert.paramNotNull(other, "other");
+        var n = other.size;
+        if (size + n > elements.length) grow(size + n);
+        System.arraycopy(other.elements, 0, elements, size, n);
+        size += n;
+    }
+
+    /**
+     * @return 被移除的元素
+     */
+    public int removeAt(int index)
+    {
+        var prev = elements[Objects.checkIndex(index, size)];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return prev;
+    }
+
+    /**
+     * @throws NoSuchElementException 列表为空
+     */
+    public int removeLast()
+    {
+        if (size == 0) throw new NoSuchElementException();
+        return elements[--size];
+    }
+
+    /**
+     * @return 是否找到并移除了第一个等于该值的元素
+     */
+    public boolean removeValue(int value)
+    {
+        var index = indexOf(value);
+        if (index < 0) return false;
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * @return 是否有元素被移除
+     */
+    public boolean removeIf(IntPredicate filter)
+    {
+        Assert.paramNotNull(filter, "filter");
+        var kept = 0;
+        for (int i = 0; i < size; i++)
+        {
+            var e = elements[i];
+            if (!filter.test(e)) elements[kept++] = e;
+        }
+        var removed = kept != size;
+        size = kept;
+        return removed;
+    }
+
+    public void clear() { size = 0; }
+
+    public void sort() { Arrays.sort(elements, 0, size); }
+
+    /**
+     * 保证至少能容纳指定数量的元素而不扩容
+     */
+    public void ensureCapacity(int capacity) { if (capacity > elements.length) grow(capacity); }
+
+    /**
+     * 释放多余的容量
+     */
+    public void trimToSize()
+    {
+        if (size < elements.length) elements = size == 0 ? ArrayUtil.EMPTY_INT_ARRAY : Arrays.copyOf(elements, size);
+    }
+
+    private void grow(int minCapacity) { elements = Arrays.copyOf(elements, Hashing.grow(elements.length, minCapacity)); }
+
+    // PART ----- TRAVERSE -----
+
+    public void forEach(IntConsumer action)
+    {
+        Assert.paramNotNull(action, "action");
+        for (int i = 0; i < size; i++) action.accept(elements[i]);
+    }
+
+    /**
+     * 遍历期间修改列表的结果不确定
+     */
+    public PrimitiveIterator.OfInt iterator()
+    {
+        return new PrimitiveIterator.OfInt()
+        {
+            private int cursor;
+
+            @Override public boolean hasNext() { return cursor < size; }
+
+            @Override
+            public int nextInt()
+            {
+                if (cursor >= size) throw new NoSuchElementException();
+                return elements[cursor++];
+            }
+        };
+    }
+
+    public IntStream stream() { return Arrays.stream(elements, 0, size); }
+
+    public int[] toArray() { return size == 0 ? ArrayUtil.EMPTY_INT_ARRAY : Arrays.copyOf(elements, size); }
+
+    // PART ----- OBJECT -----
+
+    @Override
+    public boolean equals(@Nullable Object o)
+    {
+        if (this == o) return true;
+        if (!(o instanceof IntList that)) return false;
+        return Arrays.equals(elements, 0, size, that.elements, 0, that.size);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        var result = 1;
+        for (int i = 0; i < size; i++) result = 31 * result + elements[i];
+        return result;
+    }
+
+    @Override
+    public String toString()
+    {
+        var sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++)
+        {
+            if (i > 0) sb.append(", ");
+            sb.append(elements[i]);
+        }
+        return sb.append(']').toString();
+    }
+}
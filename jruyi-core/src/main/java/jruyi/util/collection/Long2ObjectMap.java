@@ -0,0 +1,346 @@
+package jruyi.util.collection;
+
+import jakarta.annotation.Nullable;
+import jruyi.util.ArrayUtil;
+import jruyi.util.Assert;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.LongFunction;
+
+/**
+ * <h2>long 键哈希映射</h2>
+ *
+ * <p>
+ * 线性探测的开放寻址哈希表，键保存在 long 数组中，值保存在并行的对象数组中；0 键单独记录；
+ * 删除时回移后续条目而不留下墓碑，负载因子为 3/4；非线程安全
+ * </p>
+ *
+ * <p>值不能为 null，{@link #get(long)} 返回 null 表示键不存在</p>
+ *
+ * @param <V> 值类型
+ * @Date 2026-10-18 19:10
+ */
+public final class Long2ObjectMap<V>
+{
+    private static final Object[] empty_values = new Object[0];
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int threshold;
+    @Nullable private Object zeroValue;
+
+    private Long2ObjectMap(int tableSize)
+    {
+        keys = tableSize == 0 ? ArrayUtil.EMPTY_LONG_ARRAY : new long[tableSize];
+        values = tableSize == 0 ? empty_values : new Object[tableSize];
+        mask = tableSize - 1;
+        threshold = Hashing.threshold(tableSize);
+    }
+
+    public static <V> Long2ObjectMap<V> of() { return new Long2ObjectMap<>(0); }
+
+    /**
+     * @param expected 预期条目数量，达到该数量前不扩容
+     */
+    public static <V> Long2ObjectMap<V> withExpectedSize(int expected)
+    {
+        return new Long2ObjectMap<>(Hashing.tableSize(expected));
+    }
+
+    // PART ----- ACCESS -----
+
+    public int size() { return size; }
+
+    public boolean isEmpty() { return size == 0; }
+
+    /**
+     * @return 键对应的值，不存在时返回 null
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V get(long key)
+    {
+        if (key == 0) return (V) zeroValue;
+        var i = find(key);
+        return i < 0 ? null : (V) values[i];
+    }
+
+    public V getOrDefault(long key, V defaultValue)
+    {
+        var v = get(key);
+        return v != null ? v : defaultValue;
+    }
+
+    public boolean containsKey(long key) { return key == 0 ? zeroValue != null : find(key) >= 0; }
+
+    /**
+     * @return 键所在的槽位，不存在时返回 -1
+     */
+    private int find(long key)
+    {
+        if (keys.length == 0) return -1;
+        for (int i = Hashing.mix(key) & mask; ; i = (i + 1) & mask)
+        {
+            var k = keys[i];
+            if (k == key) return i;
+            if (k == 0) return -1;
+        }
+    }
+
+    // PART ----- MODIFY -----
+
+    /**
+     * @return 原来的值，不存在时返回 null
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value)
+    {
+        Assert.paramNotNull(value, "value");
+        if (key == 0)
+        {
+            var prev = zeroValue;
+            if (prev == null) size++;
+            zeroValue = value;
+            return (V) prev;
+        }
+        if (keys.length == 0) resize(Hashing.default_capacity);
+        var i = Hashing.mix(key) & mask;
+        for (long k; (k = keys[i]) != 0; i = (i + 1) & mask)
+            if (k == key)
+            {
+                var prev = values[i];
+                values[i] = value;
+                return (V) prev;
+            }
+        insertAt(i, key, value);
+        return null;
+    }
+
+    /**
+     * @return 原来的值，不存在时放入新值并返回 null
+     */
+    @Nullable
+    public V putIfAbsent(long key, V value)
+    {
+        var prev = get(key);
+        if (prev == null) put(key, value);
+        return prev;
+    }
+
+    /**
+     * @param mapping 键不存在时计算值的函数，返回 null 时不放入；不应在函数中修改本映射
+     * @return 已有的值或新计算的值
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(long key, LongFunction<? extends V> mapping)
+    {
+        Assert.paramNotNull(mapping, "mapping");
+        if (key == 0)
+        {
+            if (zeroValue == null && (zeroValue = mapping.apply(0)) != null) size++;
+            return (V) zeroValue;
+        }
+        if (keys.length == 0) resize(Hashing.default_capacity);
+        var i = Hashing.mix(key) & mask;
+        for (long k; (k = keys[i]) != 0; i = (i + 1) & mask)
+            if (k == key) return (V) values[i];
+        var table = keys;
+        var expectedSize = size;
+        var value = mapping.apply(key);
+        if (value == null) return null;
+        // 计算函数修改了映射时重新定位
+        if (keys != table || size != expectedSize) put(key, value);
+        else insertAt(i, key, value);
+        return value;
+    }
+
+    /**
+     * @return 被移除的值，不存在时返回 null
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V remove(long key)
+    {
+        if (key == 0)
+        {
+            var prev = zeroValue;
+            if (prev != null) size--;
+            zeroValue = null;
+            return (V) prev;
+        }
+        var i = find(key);
+        if (i < 0) return null;
+        var prev = values[i];
+        shiftKeys(i);
+        size--;
+        return (V) prev;
+    }
+
+    public void clear()
+    {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        zeroValue = null;
+        size = 0;
+    }
+
+    private void insertAt(int slot, long key, Object value)
+    {
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > threshold) resize(keys.length << 1);
+    }
+
+    /**
+     * 删除 slot 处的条目后，将探测链上的后续条目回移，保持查找链连续
+     */
+    private void shiftKeys(int slot)
+    {
+        for (int last = slot, i = (slot + 1) & mask; ; i = (i + 1) & mask)
+        {
+            var k = keys[i];
+            if (k == 0)
+            {
+                keys[last] = 0;
+                values[last] = null;
+                return;
+            }
+            var home = Hashing.mix(k) & mask;
+            // home 不在 (last, i] 区间内时，该条目可以移到 last
+            if (last <= i ? last >= home || home > i : last >= home && home > i)
+            {
+                keys[last] = k;
+                values[last] = values[i];
+                last = i;
+            }
+        }
+    }
+
+    private void resize(int tableSize)
+    {
+        var oldKeys = keys;
+        var oldValues = values;
+        keys = new long[tableSize];
+        values = new Object[tableSize];
+        mask = tableSize - 1;
+        threshold = Hashing.threshold(tableSize);
+        for (int j = 0; j < oldKeys.length; j++)
+        {
+            var k = oldKeys[j];
+            if (k == 0) continue;
+            var i = Hashing.mix(k) & mask;
+            while (keys[i] != 0) i = (i + 1) & mask;
+            keys[i] = k;
+            values[i] = oldValues[j];
+        }
+    }
+
+    // PART ----- TRAVERSE -----
+
+    /**
+     * @param action 条目消费函数，键以 long 传入
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> action)
+    {
+        Assert.paramNotNull(action, "action");
+        if (zeroValue != null) action.accept(0, (V) zeroValue);
+        for (int i = 0; i < keys.length; i++)
+            if (keys[i] != 0) action.accept(keys[i], (V) values[i]);
+    }
+
+    /**
+     * 遍历顺序不确定，遍历期间修改映射的结果不确定
+     */
+    public PrimitiveIterator.OfLong keyIterator()
+    {
+        return new PrimitiveIterator.OfLong()
+        {
+            private boolean zeroPending = zeroValue != null;
+            private int cursor = advance(0);
+
+            private int advance(int from)
+            {
+                while (from < keys.length && keys[from] == 0) from++;
+                return from;
+            }
+
+            @Override public boolean hasNext() { return zeroPending || cursor < keys.length; }
+
+            @Override
+            public long nextLong()
+            {
+                if (zeroPending)
+                {
+                    zeroPending = false;
+                    return 0;
+                }
+                if (cursor >= keys.length) throw new NoSuchElementException();
+                var k = keys[cursor];
+                cursor = advance(cursor + 1);
+                return k;
+            }
+        };
+    }
+
+    public long[] keys()
+    {
+        if (size == 0) return ArrayUtil.EMPTY_LONG_ARRAY;
+        var result = new long[size];
+        var n = 0;
+        if (zeroValue != null) result[n++] = 0;
+        for (var k : keys) if (k != 0) result[n++] = k;
+        return result;
+    }
+
+    // PART ----- OBJECT -----
+
+    @Override
+    public boolean equals(@Nullable Object o)
+    {
+        if (this == o) return true;
+        if (!(o instanceof Long2ObjectMap<?> that) || size != that.size) return false;
+        if (!Objects.equals(zeroValue, that.zeroValue)) return false;
+        for (int i = 0; i < keys.length; i++)
+            if (keys[i] != 0 && !values[i].equals(that.get(keys[i]))) return false;
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        var result = zeroValue != null ? zeroValue.hashCode() : 0;
+        for (int i = 0; i < keys.length; i++)
+            if (keys[i] != 0) result += Long.hashCode(keys[i]) ^ values[i].hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString()
+    {
+        var sb = new StringBuilder("{");
+        forEach((k, v) -> {
+            if (sb.length() > 1) sb.append(", ");
+            sb.append(k).append('=').append(v);
+        });
+        return sb.append('}').toString();
+    }
+
+    /**
+     * <h2>long 键条目消费函数</h2>
+     *
+     * @param <V> 值类型
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V>
+    {
+        void accept(long key, V value);
+    }
+}
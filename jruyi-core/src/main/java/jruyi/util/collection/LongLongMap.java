@@ -0,0 +1,608 @@
+package jruyi.util.collection;
+
+import jakarta.annotation.Nullable;
+import jruyi.util.Assert;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * <h2>堆外 long → long 哈希映射</h2>
+ *
+ * <p>
+ * 线性探测的开放寻址哈希表，键值对以 16 字节的槽位保存在 {@link MemorySegment} 中，不占用堆内存，也不参与 GC；
+ * 0 键单独记录，负载因子为 3/4，删除时回移后续条目而不留下墓碑
+ * </p>
+ *
+ * <p>
+ * 扩容是渐进的：超过阈值时分配两倍大小的新表，之后的每次写操作把旧表中的若干个完整探测簇迁移到新表，
+ * 迁移期间查找同时检查两张表，每个键只存在于其中一张；单次写操作的停顿与表大小无关
+ * </p>
+ *
+ * <p>
+ * 内存来源有三种：映射自己管理的 {@link Arena}，{@link #close()} 时立即释放；调用方提供的 Arena，
+ * 由调用方关闭，扩容前的旧表在 Arena 关闭前不会释放；内存映射文件，{@link #close()} 时写回文件头，
+ * 之后可通过 {@link #open(Path, long)} 重新打开而无需重建；进程崩溃时文件内容不保证一致
+ * </p>
+ *
+ * <p>非线程安全，多线程访问需要外部同步</p>
+ *
+ * @Date 2026-10-18 19:30
+ */
+public final class LongLongMap implements AutoCloseable
+{
+    // PART ----- CONSTANTS -----
+
+    /**
+     * 文件头魔数："JRUYILLM"
+     */
+    private static final long magic = 0x4A525559494C4C4DL;
+    private static final int version = 1;
+
+    private static final long magic_offset = 0;
+    private static final long version_offset = 8;
+    private static final long flags_offset = 12;
+    private static final long capacity_offset = 16;
+    private static final long size_offset = 24;
+    private static final long zero_value_offset = 32;
+    private static final long header_size = 64;
+
+    private static final int flag_has_zero = 1;
+    private static final int flag_dirty = 1 << 1;
+
+    private static final long slot_size = 2 * Long.BYTES;
+    private static final long min_capacity = 16;
+    private static final long max_capacity = 1L << 40;
+
+    /**
+     * 每次写操作至少迁移的旧表槽位数；新表容量为旧表两倍，迁移在新表达到阈值前必然完成
+     */
+    private static final long migrate_step = 64;
+
+    private static final String resize_suffix = ".resize";
+
+    // PART ----- FIELDS -----
+
+    @Nullable private final Path file;
+    @Nullable private final Arena arena;
+
+    private Table table;
+    @Nullable private Table old;
+
+    /**
+     * 旧表迁移的起点（一个空槽）与已迁移的槽位数
+     */
+    private long migrateStart;
+    private long migrated;
+
+    private long size;
+    private boolean hasZero;
+    private long zeroValue;
+    private boolean closed;
+
+    private LongLongMap(@Nullable Path file, @Nullable Arena arena, Table table)
+    {
+        this.file = file;
+        this.arena = arena;
+        this.table = table;
+    }
+
+    // PART ----- FACTORY -----
+
+    /**
+     * 内存由映射自己管理，调用 {@link #close()} 时释放
+     *
+     * @param expected 预期条目数量，达到该数量前不扩容
+     */
+    public static LongLongMap allocate(long expected)
+    {
+        return new LongLongMap(null, null, newTable(null, tableSize(expected)));
+    }
+
+    /**
+     * 内存从指定的 Arena 中分配，其生命周期由调用方管理
+     *
+     * @param arena    内存来源，需要支持映射被访问的线程
+     * @param expected 预期条目数量，达到该数量前不扩容
+     */
+    public static LongLongMap allocate(Arena arena, long expected)
+    {
+        Assert.paramNotNull(arena, "arena");
+        return new LongLongMap(null, arena, newTable(arena, tableSize(expected)));
+    }
+
+    private static Table newTable(@Nullable Arena arena, long capacity)
+    {
+        var owner = arena == null ? Arena.ofShared() : null;
+        var segment = (arena == null ? owner : arena).allocate(capacity * slot_size, Long.BYTES);
+        return new Table(segment, 0, capacity, owner, null);
+    }
+
+    /**
+     * 打开或创建以内存映射文件保存的映射；文件已存在时直接使用其中的数据
+     *
+     * @param file     数据文件
+     * @param expected 新建文件时的预期条目数量
+     * @return 映射，使用完毕后必须调用 {@link #close()} 写回文件头
+     * @throws IOException 读写文件失败
+     */
+    public static LongLongMap open(Path file, long expected) throws IOException
+    {
+        Assert.paramNotNull(file, "file");
+        var resizing = resizeFile(file);
+        Assert.state(
+                !Files.exists(resizing),
+                STR."file [\{file}] was not closed during resize, remove [\{resizing}] and rebuild the map"
+        );
+
+        if (!Files.exists(file) || Files.size(file) == 0)
+        {
+            var table = map(file, tableSize(expected));
+            var map = new LongLongMap(file, null, table);
+            map.writeHeader(table, true);
+            return map;
+        }
+
+        var capacity = readCapacity(file);
+        var table = map(file, capacity);
+        var segment = table.segment;
+        var map = new LongLongMap(file, null, table);
+        var flags = segment.get(JAVA_INT, flags_offset);
+        map.hasZero = (flags & flag_has_zero) != 0;
+        map.zeroValue = segment.get(JAVA_LONG, zero_value_offset);
+        // 上次没有正常关闭时重新统计条目数量
+        map.size = (flags & flag_dirty) == 0 ? segment.get(JAVA_LONG, size_offset) : map.count();
+        map.writeHeader(table, true);
+        return map;
+    }
+
+    private static long readCapacity(Path file) throws IOException
+    {
+        try (var channel = FileChannel.open(file, READ); var arena = Arena.ofConfined())
+        {
+            var notMapFile = STR."file [\{file}] is not a long-long map file";
+            Assert.state(channel.size() >= header_size, notMapFile);
+            var header = channel.map(FileChannel.MapMode.READ_ONLY, 0, header_size, arena);
+            Assert.state(header.get(JAVA_LONG, magic_offset) == magic, notMapFile);
+            var v = header.get(JAVA_INT, version_offset);
+            Assert.state(v == version, STR."unsupported long-long map file version: [\{v}]");
+            var capacity = header.get(JAVA_LONG, capacity_offset);
+            Assert.state(
+                    Long.bitCount(capacity) == 1 && channel.size() >= header_size + capacity * slot_size,
+                    STR."file [\{file}] is truncated or corrupted"
+            );
+            return capacity;
+        }
+    }
+
+    private static Table map(Path file, long capacity) throws IOException
+    {
+        var owner = Arena.ofShared();
+        try (var channel = FileChannel.open(file, CREATE, READ, WRITE))
+        {
+            var segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, header_size + capacity * slot_size, owner);
+            return new Table(segment, header_size, capacity, owner, file);
+        }
+        catch (IOException | RuntimeException e)
+        {
+            owner.close();
+            throw e;
+        }
+    }
+
+    private static Path resizeFile(Path file) { return file.resolveSibling(file.getFileName() + resize_suffix); }
+
+    /**
+     * @param expected 预期条目数量
+     * @return 能容纳预期条目数量且不超过负载因子的 2 的幂
+     */
+    private static long tableSize(long expected)
+    {
+        Assert.asserts(expected >= 0, STR."expected size must not be negative: [\{expected}]");
+        var needed = expected / 3 * 4 + expected % 3 * 4 / 3 + 1;
+        Assert.asserts(needed <= max_capacity, STR."expected size is too large: [\{expected}]");
+        return Math.max(min_capacity, Long.highestOneBit(needed - 1) << 1);
+    }
+
+    // PART ----- ACCESS -----
+
+    public long size() { return size; }
+
+    public boolean isEmpty() { return size == 0; }
+
+    /**
+     * @return 当前表的槽位数
+     */
+    public long capacity() { return table.capacity; }
+
+    /**
+     * @param key     键
+     * @param missing 键不存在时返回的值
+     * @return 键对应的值
+     */
+    public long get(long key, long missing)
+    {
+        ensureOpen();
+        if (key == 0) return hasZero ? zeroValue : missing;
+        var i = table.find(key);
+        if (i >= 0) return table.value(i);
+        if (old != null && (i = old.find(key)) >= 0) return old.value(i);
+        return missing;
+    }
+
+    public boolean containsKey(long key)
+    {
+        ensureOpen();
+        if (key == 0) return hasZero;
+        return table.find(key) >= 0 || old != null && old.find(key) >= 0;
+    }
+
+    // PART ----- MODIFY -----
+
+    /**
+     * @return 是否为新增的键
+     */
+    public boolean put(long key, long value)
+    {
+        ensureOpen();
+        if (key == 0)
+        {
+            var added = !hasZero;
+            if (added) size++;
+            hasZero = true;
+            zeroValue = value;
+            return added;
+        }
+        beforeWrite();
+        var i = table.find(key);
+        if (i >= 0)
+        {
+            table.setValue(i, value);
+            return false;
+        }
+        if (old != null && (i = old.find(key)) >= 0)
+        {
+            old.setValue(i, value);
+            return false;
+        }
+        table.insert(key, value);
+        size++;
+        return true;
+    }
+
+    /**
+     * 键不存在时视为 0
+     *
+     * @return 相加后的值
+     */
+    public long addTo(long key, long delta)
+    {
+        ensureOpen();
+        if (key == 0)
+        {
+            if (!hasZero) size++;
+            hasZero = true;
+            return zeroValue += delta;
+        }
+        beforeWrite();
+        var i = table.find(key);
+        if (i >= 0) return table.addTo(i, delta);
+        if (old != null && (i = old.find(key)) >= 0) return old.addTo(i, delta);
+        table.insert(key, delta);
+        size++;
+        return delta;
+    }
+
+    /**
+     * @return 键是否存在
+     */
+    public boolean remove(long key)
+    {
+        ensureOpen();
+        if (key == 0)
+        {
+            if (!hasZero) return false;
+            hasZero = false;
+            zeroValue = 0;
+            size--;
+            return true;
+        }
+        beforeWrite();
+        if (table.remove(key) || old != null && old.remove(key))
+        {
+            size--;
+            return true;
+        }
+        return false;
+    }
+
+    public void clear()
+    {
+        ensureOpen();
+        finishMigration();
+        table.clear();
+        hasZero = false;
+        zeroValue = 0;
+        size = 0;
+    }
+
+    // PART ----- TRAVERSE -----
+
+    /**
+     * 遍历顺序不确定，遍历期间不能修改映射
+     */
+    public void forEach(EntryConsumer action)
+    {
+        Assert.paramNotNull(action, "action");
+        ensureOpen();
+        if (hasZero) action.accept(0, zeroValue);
+        table.forEach(action);
+        if (old != null) old.forEach(action);
+    }
+
+    // PART ----- LIFECYCLE -----
+
+    /**
+     * 将内存映射文件的内容写回磁盘；非文件映射时无操作
+     */
+    public void force()
+    {
+        ensureOpen();
+        if (file == null) return;
+        writeHeader(table, true);
+        table.segment.force();
+    }
+
+    /**
+     * 关闭映射：自己管理的内存立即释放；文件映射会先完成正在进行的扩容，再写回文件头并刷盘
+     */
+    @Override
+    public void close()
+    {
+        if (closed) return;
+        try
+        {
+            if (file != null)
+            {
+                finishMigration();
+                writeHeader(table, false);
+                table.segment.force();
+            }
+        }
+        finally
+        {
+            closed = true;
+            if (old != null) old.release();
+            table.release();
+            old = null;
+        }
+    }
+
+    public boolean isClosed() { return closed; }
+
+    private void ensureOpen() { Assert.state(!closed, "long-long map is closed"); }
+
+    // PART ----- RESIZE -----
+
+    /**
+     * 写操作前推进迁移，必要时开始扩容
+     */
+    private void beforeWrite()
+    {
+        if (old != null) migrate(migrate_step);
+        else if (size >= table.capacity - (table.capacity >>> 2) && table.capacity < max_capacity) startResize();
+    }
+
+    private void startResize()
+    {
+        var capacity = table.capacity << 1;
+        Table next;
+        if (file == null) next = newTable(arena, capacity);
+        else
+        {
+            try
+            {
+                var resizing = resizeFile(file);
+                Files.deleteIfExists(resizing);
+                next = map(resizing, capacity);
+            }
+            catch (IOException e) { throw new UncheckedIOException(e); }
+        }
+        old = table;
+        table = next;
+        migrated = 0;
+        migrateStart = old.firstEmpty();
+        migrate(migrate_step);
+    }
+
+    /**
+     * 从迁移位置开始，将旧表的探测簇整体移动到新表；只在空槽处停止，保证未迁移部分的探测簇完整，
+     * 从而旧表中的查找与回移删除仍然正确
+     *
+     * @param budget 本次至少处理的槽位数，迁移完成时提前结束
+     */
+    private void migrate(long budget)
+    {
+        var from = old;
+        assert from != null;
+        for (long n = 0; migrated < from.capacity; )
+        {
+            var i = (migrateStart + migrated++) & from.mask();
+            var k = from.key(i);
+            if (k != 0)
+            {
+                table.insert(k, from.value(i));
+                from.clearSlot(i);
+            }
+            else if (++n >= budget) break;
+        }
+        if (migrated == from.capacity) completeMigration();
+    }
+
+    private void finishMigration() { if (old != null) migrate(Long.MAX_VALUE); }
+
+    private void completeMigration()
+    {
+        var from = old;
+        old = null;
+        assert from != null;
+        from.release();
+        if (file != null)
+        {
+            writeHeader(table, true);
+            try { Files.move(table.path, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE); }
+            catch (IOException e) { throw new UncheckedIOException(e); }
+            table = table.movedTo(file);
+        }
+    }
+
+    private void writeHeader(Table t, boolean dirty)
+    {
+        var segment = t.segment;
+        var flags = (hasZero ? flag_has_zero : 0) | (dirty ? flag_dirty : 0);
+        segment.set(JAVA_LONG, magic_offset, magic);
+        segment.set(JAVA_INT, version_offset, version);
+        segment.set(JAVA_INT, flags_offset, flags);
+        segment.set(JAVA_LONG, capacity_offset, t.capacity);
+        segment.set(JAVA_LONG, size_offset, size);
+        segment.set(JAVA_LONG, zero_value_offset, zeroValue);
+    }
+
+    private long count()
+    {
+        var result = hasZero ? 1L : 0L;
+        for (long i = 0; i < table.capacity; i++) if (table.key(i) != 0) result++;
+        return result;
+    }
+
+    @Override
+    public String toString()
+    {
+        return STR."LongLongMap[size=\{size}, capacity=\{table.capacity}\{file != null ? STR.", file=\{file}" : ""}]";
+    }
+
+    /**
+     * <h2>long 键值条目消费函数</h2>
+     */
+    @FunctionalInterface
+    public interface EntryConsumer
+    {
+        void accept(long key, long value);
+    }
+
+    /**
+     * 一张哈希表，槽位从 base 偏移开始
+     *
+     * @param owner 自己管理的内存来源，为 null 时由调用方管理
+     * @param path  映射的文件，非文件映射时为 null
+     */
+    private record Table(MemorySegment segment, long base, long capacity, @Nullable Arena owner, @Nullable Path path)
+    {
+        long mask() { return capacity - 1; }
+
+        long key(long i) { return segment.get(JAVA_LONG, base + i * slot_size); }
+
+        long value(long i) { return segment.get(JAVA_LONG, base + i * slot_size + Long.BYTES); }
+
+        void setValue(long i, long value) { segment.set(JAVA_LONG, base + i * slot_size + Long.BYTES, value); }
+
+        long addTo(long i, long delta)
+        {
+            var v = value(i) + delta;
+            setValue(i, v);
+            return v;
+        }
+
+        void clearSlot(long i)
+        {
+            segment.set(JAVA_LONG, base + i * slot_size, 0);
+            segment.set(JAVA_LONG, base + i * slot_size + Long.BYTES, 0);
+        }
+
+        void clear() { segment.asSlice(base, capacity * slot_size).fill((byte) 0); }
+
+        /**
+         * @return 键所在的槽位，不存在时返回 -1
+         */
+        long find(long key)
+        {
+            var mask = mask();
+            for (long i = mix(key) & mask; ; i = (i + 1) & mask)
+            {
+                var k = key(i);
+                if (k == key) return i;
+                if (k == 0) return -1;
+            }
+        }
+
+        /**
+         * 插入确定不存在的键
+         */
+        void insert(long key, long value)
+        {
+            var mask = mask();
+            var i = mix(key) & mask;
+            while (key(i) != 0) i = (i + 1) & mask;
+            segment.set(JAVA_LONG, base + i * slot_size, key);
+            setValue(i, value);
+        }
+
+        boolean remove(long key)
+        {
+            var i = find(key);
+            if (i < 0) return false;
+            var mask = mask();
+            for (long last = i, j = (i + 1) & mask; ; j = (j + 1) & mask)
+            {
+                var k = key(j);
+                if (k == 0)
+                {
+                    clearSlot(last);
+                    return true;
+                }
+                var home = mix(k) & mask;
+                // home 不在 (last, j] 区间内时，该条目可以移到 last
+                if (last <= j ? last >= home || home > j : last >= home && home > j)
+                {
+                    segment.set(JAVA_LONG, base + last * slot_size, k);
+                    setValue(last, value(j));
+                    last = j;
+                }
+            }
+        }
+
+        long firstEmpty()
+        {
+            for (long i = 0; ; i++) if (key(i) == 0) return i;
+        }
+
+        void forEach(EntryConsumer action)
+        {
+            for (long i = 0; i < capacity; i++)
+            {
+                var k = key(i);
+                if (k != 0) action.accept(k, value(i));
+            }
+        }
+
+        Table movedTo(Path file) { return new Table(segment, base, capacity, owner, file); }
+
+        void release() { if (owner != null) owner.close(); }
+
+        private static long mix(long key)
+        {
+            var h = key * 0x9E3779B97F4A7C15L;
+            return h ^ (h >>> 32);
+        }
+    }
+}
@@ -0,0 +1,537 @@
+package jruyi.util.collection;
+
+import jakarta.annotation.Nullable;
+import jruyi.util.ArrayUtil;
+import jruyi.util.Assert;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <h2>压缩位图 int 集合</h2>
+ *
+ * <p>
+ * Roaring 式压缩位图：按高 16 位把元素分块，每块的低 16 位根据密度保存为有序 char 数组（不超过 4096 个）、
+ * 8 KiB 位图或连续区间的行程编码；稀疏数据每个元素约 2 字节，稠密数据每个元素约 1 位，连续区间只保存端点
+ * </p>
+ *
+ * <p>
+ * 集合运算按块进行，只有两边都存在的块才需要计算；位图之间按 64 位字运算，数组之间有序归并，
+ * 大小悬殊的数组二分查找；{@link #andCardinality(RoaringBitmap)} 等只统计数量的方法不创建结果集合
+ * </p>
+ *
+ * <p>
+ * 元素按 32 位无符号整数排序，负数排在所有非负数之后，{@link #rank(int)}、{@link #select(long)} 与遍历都遵循该顺序；
+ * 读写与遍历不装箱；非线程安全
+ * </p>
+ *
+ * @Date 2026-10-18 22:10
+ */
+public final class RoaringBitmap
+{
+    /**
+     * 序列化魔数："JRRB"
+     */
+    private static final int magic = 0x4A525242;
+    private static final byte version = 1;
+
+    /**
+     * 按无符号顺序排列的高 16 位与对应的容器
+     */
+    private char[] keys;
+    private RoaringContainer[] containers;
+    private int size;
+
+    private RoaringBitmap(int capacity)
+    {
+        this.keys = new char[capacity];
+        this.containers = new RoaringContainer[capacity];
+    }
+
+    // PART ----- FACTORY -----
+
+    public static RoaringBitmap of() { return new RoaringBitmap(4); }
+
+    public static RoaringBitmap of(int... values)
+    {
+        Assert.paramNotNull(values, "values");
+        var bitmap = new RoaringBitmap(4);
+        for (var v : values) bitmap.add(v);
+        return bitmap;
+    }
+
+    /**
+     * @param start 开始数字（包含）
+     * @param end   结束数字（不包含）
+     * @return 包含指定范围内所有数字的集合，与 {@link jruyi.util.NumberUtil#range(int, int)} 对应
+     */
+    public static RoaringBitmap range(int start, int end)
+    {
+        var bitmap = new RoaringBitmap(4);
+        if (start >= end) return bitmap;
+        // 跨过 0 的范围按无符号顺序分为两段
+        if (start < 0 && end > 0)
+        {
+            bitmap.addRange(0, end);
+            bitmap.addRange(start & 0xFFFFFFFFL, 1L << 32);
+        }
+        // 结束于 0 的负数范围在无符号顺序中结束于 2^32
+        else bitmap.addRange(start & 0xFFFFFFFFL, end == 0 ? 1L << 32 : end & 0xFFFFFFFFL);
+        return bitmap;
+    }
+
+    /**
+     * @param bytes {@link #toByteArray()} 的结果
+     * @throws IllegalArgumentException 数据不是压缩位图的序列化数据
+     */
+    public static RoaringBitmap fromByteArray(byte[] bytes)
+    {
+        Assert.paramNotNull(bytes, "bytes");
+        var buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        try
+        {
+            Assert.asserts(buffer.getInt() == magic, "bytes are not a serialized roaring bitmap");
+            var v = buffer.get();
+            Assert.asserts(v == version, STR."unsupported roaring bitmap version: [\{v}]");
+            var count = buffer.getInt();
+            Assert.asserts(count >= 0 && count <= 1 << 16, "serialized roaring bitmap is corrupted");
+            var bitmap = new RoaringBitmap(Math.max(count, 4));
+            for (int i = 0; i < count; i++)
+            {
+                var key = buffer.getChar();
+                Assert.asserts(i == 0 || key > bitmap.keys[i - 1], "serialized roaring bitmap is corrupted");
+                bitmap.keys[i] = key;
+                bitmap.containers[i] = RoaringContainer.deserialize(buffer.get(), buffer);
+            }
+            bitmap.size = count;
+            Assert.asserts(!buffer.hasRemaining(), "serialized roaring bitmap is corrupted");
+            return bitmap;
+        }
+        catch (BufferUnderflowException e)
+        {
+            throw new IllegalArgumentException("serialized roaring bitmap is truncated", e);
+        }
+    }
+
+    // PART ----- ACCESS -----
+
+    /**
+     * @return 元素数量，最多为 2<sup>32</sup>
+     */
+    public long cardinality()
+    {
+        var cardinality = 0L;
+        for (int i = 0; i < size; i++) cardinality += containers[i].cardinality();
+        return cardinality;
+    }
+
+    public boolean isEmpty() { return size == 0; }
+
+    public boolean contains(int value)
+    {
+        var i = indexOf((char) (value >>> 16));
+        return i >= 0 && containers[i].contains((char) value);
+    }
+
+    /**
+     * @return 按无符号顺序不大于该值的元素数量
+     */
+    public long rank(int value)
+    {
+        var high = (char) (value >>> 16);
+        var rank = 0L;
+        for (int i = 0; i < size && keys[i] <= high; i++)
+            rank += keys[i] < high ? containers[i].cardinality() : containers[i].rank((char) value);
+        return rank;
+    }
+
+    /**
+     * @param index 序号，取值范围 [0, {@link #cardinality()})
+     * @return 按无符号顺序第 index 小的元素
+     */
+    public int select(long index)
+    {
+        Assert.asserts(index >= 0, STR."index must not be negative: [\{index}]");
+        for (int i = 0; i < size; i++)
+        {
+            var cardinality = containers[i].cardinality();
+            if (index < cardinality) return keys[i] << 16 | containers[i].select((int) index);
+            index -= cardinality;
+        }
+        throw new IndexOutOfBoundsException(STR."index out of range: [\{index}]");
+    }
+
+    /**
+     * @return 按无符号顺序最小的元素
+     * @throws NoSuchElementException 集合为空
+     */
+    public int first()
+    {
+        if (size == 0) throw new NoSuchElementException();
+        return keys[0] << 16 | containers[0].select(0);
+    }
+
+    /**
+     * @return 按无符号顺序最大的元素
+     * @throws NoSuchElementException 集合为空
+     */
+    public int last()
+    {
+        if (size == 0) throw new NoSuchElementException();
+        var container = containers[size - 1];
+        return keys[size - 1] << 16 | container.select(container.cardinality() - 1);
+    }
+
+    private int indexOf(char key)
+    {
+        // 按块顺序访问时最后一个块最常命中
+        if (size > 0 && keys[size - 1] == key) return size - 1;
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    // PART ----- MODIFY -----
+
+    /**
+     * @return 是否为新增的元素
+     */
+    public boolean add(int value)
+    {
+        var key = (char) (value >>> 16);
+        var i = indexOf(key);
+        if (i < 0)
+        {
+            insert(-i - 1, key, RoaringContainer.ArrayContainer.of((char) value));
+            return true;
+        }
+        var container = containers[i];
+        var before = container.cardinality();
+        containers[i] = container = container.add((char) value);
+        return container.cardinality() > before;
+    }
+
+    /**
+     * @return 是否移除了元素
+     */
+    public boolean remove(int value)
+    {
+        var i = indexOf((char) (value >>> 16));
+        if (i < 0) return false;
+        var container = containers[i];
+        var before = container.cardinality();
+        containers[i] = container = container.remove((char) value);
+        if (container.cardinality() == 0) delete(i);
+        return container.cardinality() < before;
+    }
+
+    /**
+     * 添加 [start, end) 范围内的所有数字，完整覆盖的块直接保存为一个连续区间
+     *
+     * @param start 起始值（包含），按无符号解释，取值范围 [0, 2<sup>32</sup>]
+     * @param end   结束值（不包含），按无符号解释，取值范围 [0, 2<sup>32</sup>]
+     */
+    public void addRange(long start, long end)
+    {
+        Assert.asserts(
+                start >= 0 && end <= 1L << 32 && start <= end,
+                STR."range must be within [0, 2^32]: [\{start}, \{end})"
+        );
+        if (start == end) return;
+        for (var chunk = start >>> 16; chunk << 16 < end; chunk++)
+        {
+            var key = (char) chunk;
+            var low = (int) Math.max(start - (chunk << 16), 0);
+            var high = (int) Math.min(end - (chunk << 16), 1 << 16);
+            var i = indexOf(key);
+            if (i < 0) insert(-i - 1, key, RoaringContainer.RunContainer.ofRange(low, high));
+            else containers[i] = containers[i].addRange(low, high).optimize();
+        }
+    }
+
+    public void clear()
+    {
+        Arrays.fill(containers, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * 把每个块转换为占用空间最小的表示，连续区间较多的块转换为行程编码
+     *
+     * @return 是否有块被转换
+     */
+    public boolean runOptimize()
+    {
+        var changed = false;
+        for (int i = 0; i < size; i++)
+        {
+            var optimized = containers[i].optimize();
+            changed |= optimized != containers[i];
+            containers[i] = optimized;
+        }
+        return changed;
+    }
+
+    private void insert(int index, char key, RoaringContainer container)
+    {
+        if (size == keys.length)
+        {
+            var capacity = Math.min(Math.max(size * 2, 4), 1 << 16);
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private void delete(int index)
+    {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        containers[--size] = null;
+    }
+
+    private void append(char key, RoaringContainer container)
+    {
+        if (container.cardinality() > 0) insert(size, key, container);
+    }
+
+    // PART ----- SET OPERATION -----
+
+    /**
+     * @return 交集，两个集合都不会被修改
+     */
+    public RoaringBitmap and(RoaringBitmap other)
+    {
+        Assert.paramNotNull(other, "other");
+        var result = new RoaringBitmap(Math.max(Math.min(size, other.size), 4));
+        for (int i = 0, j = 0; i < size && j < other.size; )
+        {
+            char x = keys[i], y = other.keys[j];
+            if (x < y) i++;
+            else if (x > y) j++;
+            else result.append(x, RoaringContainer.and(containers[i++], other.containers[j++]));
+        }
+        return result;
+    }
+
+    /**
+     * @return 并集，两个集合都不会被修改
+     */
+    public RoaringBitmap or(RoaringBitmap other)
+    {
+        Assert.paramNotNull(other, "other");
+        var result = new RoaringBitmap(Math.max(size + other.size, 4));
+        int i = 0, j = 0;
+        while (i < size && j < other.size)
+        {
+            char x = keys[i], y = other.keys[j];
+            if (x < y) result.append(x, containers[i++].copy());
+            else if (x > y) result.append(y, other.containers[j++].copy());
+            else result.append(x, RoaringContainer.or(containers[i++], other.containers[j++]));
+        }
+        while (i < size) result.append(keys[i], containers[i++].copy());
+        while (j < other.size) result.append(other.keys[j], other.containers[j++].copy());
+        return result;
+    }
+
+    /**
+     * @return 对称差，两个集合都不会被修改
+     */
+    public RoaringBitmap xor(RoaringBitmap other)
+    {
+        Assert.paramNotNull(other, "other");
+        var result = new RoaringBitmap(Math.max(size + other.size, 4));
+        int i = 0, j = 0;
+        while (i < size && j < other.size)
+        {
+            char x = keys[i], y = other.keys[j];
+            if (x < y) result.append(x, containers[i++].copy());
+            else if (x > y) result.append(y, other.containers[j++].copy());
+            else result.append(x, RoaringContainer.xor(containers[i++], other.containers[j++]));
+        }
+        while (i < size) result.append(keys[i], containers[i++].copy());
+        while (j < other.size) result.append(other.keys[j], other.containers[j++].copy());
+        return result;
+    }
+
+    /**
+     * @return 差集：在当前集合中而不在另一个集合中的元素，两个集合都不会被修改
+     */
+    public RoaringBitmap andNot(RoaringBitmap other)
+    {
+        Assert.paramNotNull(other, "other");
+        var result = new RoaringBitmap(Math.max(size, 4));
+        int i = 0, j = 0;
+        while (i < size && j < other.size)
+        {
+            char x = keys[i], y = other.keys[j];
+            if (x < y) result.append(x, containers[i++].copy());
+            else if (x > y) j++;
+            else result.append(x, RoaringContainer.andNot(containers[i++], other.containers[j++]));
+        }
+        while (i < size) result.append(keys[i], containers[i++].copy());
+        return result;
+    }
+
+    /**
+     * @return 交集的元素数量，不创建结果集合
+     */
+    public long andCardinality(RoaringBitmap other)
+    {
+        Assert.paramNotNull(other, "other");
+        var cardinality = 0L;
+        for (int i = 0, j = 0; i < size && j < other.size; )
+        {
+            char x = keys[i], y = other.keys[j];
+            if (x < y) i++;
+            else if (x > y) j++;
+            else cardinality += RoaringContainer.andCardinality(containers[i++], other.containers[j++]);
+        }
+        return cardinality;
+    }
+
+    public boolean intersects(RoaringBitmap other) { return andCardinality(other) > 0; }
+
+    // PART ----- TRAVERSE -----
+
+    /**
+     * 按无符号顺序遍历
+     */
+    public void forEach(IntConsumer action)
+    {
+        Assert.paramNotNull(action, "action");
+        for (int i = 0; i < size; i++) containers[i].forEach(keys[i], action);
+    }
+
+    /**
+     * 按无符号顺序遍历，遍历期间修改集合的结果不确定
+     */
+    public PrimitiveIterator.OfInt iterator()
+    {
+        return new PrimitiveIterator.OfInt()
+        {
+            private int index = -1;
+            private int high;
+            private PrimitiveIterator.OfInt current = IntList.of().iterator();
+
+            @Override
+            public boolean hasNext()
+            {
+                while (!current.hasNext() && index + 1 < size)
+                {
+                    high = keys[++index] << 16;
+                    current = containers[index].iterator();
+                }
+                return current.hasNext();
+            }
+
+            @Override
+            public int nextInt()
+            {
+                if (!hasNext()) throw new NoSuchElementException();
+                return high | current.nextInt();
+            }
+        };
+    }
+
+    public IntStream stream()
+    {
+        var characteristics = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL;
+        var cardinality = cardinality();
+        var spliterator = cardinality <= Integer.MAX_VALUE
+                          ? Spliterators.spliterator(iterator(), cardinality, characteristics)
+                          : Spliterators.spliteratorUnknownSize(iterator(), characteristics);
+        return StreamSupport.intStream(spliterator, false);
+    }
+
+    /**
+     * @return 按无符号顺序排列的所有元素
+     * @throws IllegalStateException 元素数量超过数组的最大长度
+     */
+    public int[] toArray()
+    {
+        var cardinality = cardinality();
+        Assert.state(cardinality <= Integer.MAX_VALUE - 8, STR."too many elements for an array: [\{cardinality}]");
+        if (cardinality == 0) return ArrayUtil.EMPTY_INT_ARRAY;
+        var result = new int[(int) cardinality];
+        var n = new int[1];
+        forEach(v -> result[n[0]++] = v);
+        return result;
+    }
+
+    // PART ----- SERIALIZATION -----
+
+    /**
+     * @return 序列化后的字节数，即占用内存的近似值
+     */
+    public long serializedSize()
+    {
+        var bytes = (long) Integer.BYTES + 1 + Integer.BYTES;
+        for (int i = 0; i < size; i++) bytes += Character.BYTES + 1 + containers[i].serializedSize();
+        return bytes;
+    }
+
+    /**
+     * 序列化格式为小端序：魔数、版本、块数量，之后每块依次为高 16 位、容器类型与容器数据，可在不同平台间传递
+     */
+    public byte[] toByteArray()
+    {
+        var bytes = serializedSize();
+        Assert.state(bytes <= Integer.MAX_VALUE - 8, STR."bitmap is too large for a byte array: [\{bytes}]");
+        var buffer = ByteBuffer.allocate((int) bytes).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(magic).put(version).putInt(size);
+        for (int i = 0; i < size; i++)
+        {
+            buffer.putChar(keys[i]).put(containers[i].type());
+            containers[i].serialize(buffer);
+        }
+        return buffer.array();
+    }
+
+    // PART ----- OBJECT -----
+
+    @Override
+    public boolean equals(@Nullable Object o)
+    {
+        if (this == o) return true;
+        if (!(o instanceof RoaringBitmap that) || size != that.size) return false;
+        for (int i = 0; i < size; i++)
+        {
+            if (keys[i] != that.keys[i]) return false;
+            RoaringContainer x = containers[i], y = that.containers[i];
+            var cardinality = x.cardinality();
+            if (cardinality != y.cardinality() || RoaringContainer.andCardinality(x, y) != cardinality) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        var result = new int[1];
+        forEach(v -> result[0] = 31 * result[0] + v);
+        return result[0];
+    }
+
+    @Override
+    public String toString()
+    {
+        var sb = new StringBuilder("[");
+        forEach(v -> {
+            if (sb.length() > 1) sb.append(", ");
+            sb.append(v);
+        });
+        return sb.append(']').toString();
+    }
+}
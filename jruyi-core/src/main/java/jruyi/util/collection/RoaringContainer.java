@@ -0,0 +1,814 @@
+package jruyi.util.collection;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/**
+ * <h2>压缩位图的块容器</h2>
+ *
+ * <p>
+ * 保存一个 2<sup>16</sup> 范围内的低 16 位：元素不超过 4096 个时使用有序 char 数组，否则使用 8 KiB 的位图；
+ * 连续区间较多时可以使用行程编码；修改操作返回修改后的容器，表示方式改变时返回新容器
+ * </p>
+ *
+ * @Date 2026-10-18 22:10
+ */
+abstract sealed class RoaringContainer
+        permits RoaringContainer.ArrayContainer, RoaringContainer.BitmapContainer, RoaringContainer.RunContainer
+{
+    /**
+     * 数组容器的最大元素数量，超过时位图更省空间
+     */
+    static final int array_max_size = 4096;
+    static final int bitmap_words = 1 << 16 >>> 6;
+
+    static final byte type_array = 0;
+    static final byte type_bitmap = 1;
+    static final byte type_run = 2;
+
+    // PART ----- ACCESS -----
+
+    abstract int cardinality();
+
+    abstract boolean contains(char value);
+
+    /**
+     * @return 不大于该值的元素数量
+     */
+    abstract int rank(char value);
+
+    /**
+     * @param index 序号，取值范围 [0, cardinality)
+     * @return 第 index 小的元素
+     */
+    abstract char select(int index);
+
+    abstract RoaringContainer add(char value);
+
+    abstract RoaringContainer remove(char value);
+
+    abstract RoaringContainer copy();
+
+    /**
+     * @param high 高 16 位，与低 16 位组合后传给 action
+     */
+    abstract void forEach(int high, IntConsumer action);
+
+    /**
+     * @return 低 16 位的迭代器
+     */
+    abstract PrimitiveIterator.OfInt iterator();
+
+    /**
+     * @return 位图表示；位图容器返回自身，其他容器返回新建的位图
+     */
+    abstract BitmapContainer toBitmap();
+
+    /**
+     * @return 连续区间的数量
+     */
+    abstract int runs();
+
+    /**
+     * @return 序列化后的字节数，不含类型与高位
+     */
+    abstract int serializedSize();
+
+    abstract void serialize(ByteBuffer buffer);
+
+    abstract byte type();
+
+    /**
+     * @return 数组、位图与行程编码中占用空间最小的表示
+     */
+    final RoaringContainer optimize()
+    {
+        var cardinality = cardinality();
+        var runs = runs();
+        var runSize = Character.BYTES + runs * 2 * Character.BYTES;
+        var otherSize = cardinality <= array_max_size ? cardinality * Character.BYTES : bitmap_words * Long.BYTES;
+        if (runSize < otherSize) return this instanceof RunContainer ? this : RunContainer.from(this, runs);
+        if (cardinality <= array_max_size) return this instanceof ArrayContainer ? this : ArrayContainer.from(this);
+        return toBitmap();
+    }
+
+    /**
+     * @param start 起始值（包含）
+     * @param end   结束值（不包含），最大为 2<sup>16</sup>
+     */
+    final BitmapContainer addRange(int start, int end)
+    {
+        var bitmap = toBitmap();
+        setRange(bitmap.words, start, end);
+        bitmap.recount();
+        return bitmap;
+    }
+
+    // PART ----- SET OPERATION -----
+
+    static RoaringContainer and(RoaringContainer a, RoaringContainer b)
+    {
+        if (a instanceof ArrayContainer array) return array.filter(b, true);
+        if (b instanceof ArrayContainer array) return array.filter(a, true);
+        var result = mutableBitmap(a);
+        var words = result.words;
+        var other = b.toBitmap().words;
+        for (int i = 0; i < bitmap_words; i++) words[i] &= other[i];
+        return result.normalize();
+    }
+
+    static RoaringContainer or(RoaringContainer a, RoaringContainer b)
+    {
+        if (a instanceof ArrayContainer x && b instanceof ArrayContainer y) return x.merge(y, false);
+        if (a instanceof ArrayContainer) return or(b, a);
+        var result = mutableBitmap(a);
+        var words = result.words;
+        switch (b)
+        {
+            case ArrayContainer array -> { for (int i = 0; i < array.size; i++) setBit(words, array.values[i]); }
+            case BitmapContainer bitmap -> { for (int i = 0; i < bitmap_words; i++) words[i] |= bitmap.words[i]; }
+            case RunContainer run ->
+            {
+                for (int i = 0; i < run.count; i++) setRange(words, run.start(i), run.end(i));
+            }
+        }
+        return result.normalize();
+    }
+
+    static RoaringContainer xor(RoaringContainer a, RoaringContainer b)
+    {
+        if (a instanceof ArrayContainer x && b instanceof ArrayContainer y) return x.merge(y, true);
+        if (a instanceof ArrayContainer) return xor(b, a);
+        var result = mutableBitmap(a);
+        var words = result.words;
+        switch (b)
+        {
+            case ArrayContainer array -> { for (int i = 0; i < array.size; i++) flipBit(words, array.values[i]); }
+            case BitmapContainer bitmap -> { for (int i = 0; i < bitmap_words; i++) words[i] ^= bitmap.words[i]; }
+            case RunContainer run ->
+            {
+                for (int i = 0; i < run.count; i++) flipRange(words, run.start(i), run.end(i));
+            }
+        }
+        return result.normalize();
+    }
+
+    static RoaringContainer andNot(RoaringContainer a, RoaringContainer b)
+    {
+        if (a instanceof ArrayContainer array) return array.filter(b, false);
+        var result = mutableBitmap(a);
+        var words = result.words;
+        switch (b)
+        {
+            case ArrayContainer array -> { for (int i = 0; i < array.size; i++) clearBit(words, array.values[i]); }
+            case BitmapContainer bitmap -> { for (int i = 0; i < bitmap_words; i++) words[i] &= ~bitmap.words[i]; }
+            case RunContainer run ->
+            {
+                for (int i = 0; i < run.count; i++) clearRange(words, run.start(i), run.end(i));
+            }
+        }
+        return result.normalize();
+    }
+
+    /**
+     * @return 两个容器交集的元素数量，不创建新容器
+     */
+    static int andCardinality(RoaringContainer a, RoaringContainer b)
+    {
+        if (a instanceof ArrayContainer array) return array.countIn(b);
+        if (b instanceof ArrayContainer array) return array.countIn(a);
+        long[] x = a.toBitmap().words, y = b.toBitmap().words;
+        var count = 0;
+        for (int i = 0; i < bitmap_words; i++) count += Long.bitCount(x[i] & y[i]);
+        return count;
+    }
+
+    /**
+     * @return 可以修改而不影响原容器的位图
+     */
+    private static BitmapContainer mutableBitmap(RoaringContainer container)
+    {
+        return container instanceof BitmapContainer bitmap ? bitmap.copy() : container.toBitmap();
+    }
+
+    static RoaringContainer deserialize(byte type, ByteBuffer buffer)
+    {
+        return switch (type)
+        {
+            case type_array -> ArrayContainer.deserialize(buffer);
+            case type_bitmap -> BitmapContainer.deserialize(buffer);
+            case type_run -> RunContainer.deserialize(buffer);
+            default -> throw new IllegalArgumentException(STR."unknown container type: [\{type}]");
+        };
+    }
+
+    // PART ----- WORDS -----
+
+    private static void setBit(long[] words, char value) { words[value >>> 6] |= 1L << value; }
+
+    private static void flipBit(long[] words, char value) { words[value >>> 6] ^= 1L << value; }
+
+    private static void clearBit(long[] words, char value) { words[value >>> 6] &= ~(1L << value); }
+
+    /**
+     * 区间为 [start, end)
+     */
+    static void setRange(long[] words, int start, int end)
+    {
+        if (start >= end) return;
+        int first = start >>> 6, last = (end - 1) >>> 6;
+        long firstMask = -1L << start, lastMask = -1L >>> -end;
+        if (first == last)
+        {
+            words[first] |= firstMask & lastMask;
+            return;
+        }
+        words[first] |= firstMask;
+        for (int i = first + 1; i < last; i++) words[i] = -1L;
+        words[last] |= lastMask;
+    }
+
+    private static void flipRange(long[] words, int start, int end)
+    {
+        if (start >= end) return;
+        int first = start >>> 6, last = (end - 1) >>> 6;
+        long firstMask = -1L << start, lastMask = -1L >>> -end;
+        if (first == last)
+        {
+            words[first] ^= firstMask & lastMask;
+            return;
+        }
+        words[first] ^= firstMask;
+        for (int i = first + 1; i < last; i++) words[i] = ~words[i];
+        words[last] ^= lastMask;
+    }
+
+    private static void clearRange(long[] words, int start, int end)
+    {
+        if (start >= end) return;
+        int first = start >>> 6, last = (end - 1) >>> 6;
+        long firstMask = -1L << start, lastMask = -1L >>> -end;
+        if (first == last)
+        {
+            words[first] &= ~(firstMask & lastMask);
+            return;
+        }
+        words[first] &= ~firstMask;
+        for (int i = first + 1; i < last; i++) words[i] = 0;
+        words[last] &= ~lastMask;
+    }
+
+    // PART ----- ARRAY -----
+
+    /**
+     * 有序的 char 数组，元素不超过 {@link #array_max_size} 个
+     */
+    static final class ArrayContainer extends RoaringContainer
+    {
+        char[] values;
+        int size;
+
+        ArrayContainer(char[] values, int size)
+        {
+            this.values = values;
+            this.size = size;
+        }
+
+        static ArrayContainer of(char value) { return new ArrayContainer(new char[]{value, 0, 0, 0}, 1); }
+
+        static ArrayContainer from(RoaringContainer container)
+        {
+            var values = new char[container.cardinality()];
+            var n = new int[1];
+            container.forEach(0, v -> values[n[0]++] = (char) v);
+            return new ArrayContainer(values, values.length);
+        }
+
+        static ArrayContainer deserialize(ByteBuffer buffer)
+        {
+            int size = buffer.getChar();
+            if (size == 0 || size > array_max_size) throw new IllegalArgumentException("corrupted array container");
+            var values = new char[size];
+            buffer.asCharBuffer().get(values);
+            buffer.position(buffer.position() + size * Character.BYTES);
+            for (int i = 1; i < size; i++)
+                if (values[i - 1] >= values[i]) throw new IllegalArgumentException("corrupted array container");
+            return new ArrayContainer(values, size);
+        }
+
+        @Override int cardinality() { return size; }
+
+        @Override boolean contains(char value) { return Arrays.binarySearch(values, 0, size, value) >= 0; }
+
+        @Override
+        int rank(char value)
+        {
+            var i = Arrays.binarySearch(values, 0, size, value);
+            return i >= 0 ? i + 1 : -i - 1;
+        }
+
+        @Override char select(int index) { return values[index]; }
+
+        @Override
+        RoaringContainer add(char value)
+        {
+            var i = Arrays.binarySearch(values, 0, size, value);
+            if (i >= 0) return this;
+            if (size == array_max_size) return toBitmap().add(value);
+            i = -i - 1;
+            if (size == values.length) values = Arrays.copyOf(values, Math.min(array_max_size, size + (size >> 1) + 4));
+            System.arraycopy(values, i, values, i + 1, size - i);
+            values[i] = value;
+            size++;
+            return this;
+        }
+
+        @Override
+        RoaringContainer remove(char value)
+        {
+            var i = Arrays.binarySearch(values, 0, size, value);
+            if (i < 0) return this;
+            System.arraycopy(values, i + 1, values, i, size - i - 1);
+            size--;
+            return this;
+        }
+
+        @Override ArrayContainer copy() { return new ArrayContainer(Arrays.copyOf(values, size), size); }
+
+        @Override
+        void forEach(int high, IntConsumer action)
+        {
+            var base = high << 16;
+            for (int i = 0; i < size; i++) action.accept(base | values[i]);
+        }
+
+        @Override
+        PrimitiveIterator.OfInt iterator()
+        {
+            return new PrimitiveIterator.OfInt()
+            {
+                private int cursor;
+
+                @Override public boolean hasNext() { return cursor < size; }
+
+                @Override
+                public int nextInt()
+                {
+                    if (cursor >= size) throw new NoSuchElementException();
+                    return values[cursor++];
+                }
+            };
+        }
+
+        @Override
+        BitmapContainer toBitmap()
+        {
+            var words = new long[bitmap_words];
+            for (int i = 0; i < size; i++) setBit(words, values[i]);
+            return new BitmapContainer(words, size);
+        }
+
+        @Override
+        int runs()
+        {
+            var runs = size == 0 ? 0 : 1;
+            for (int i = 1; i < size; i++) if (values[i] != values[i - 1] + 1) runs++;
+            return runs;
+        }
+
+        @Override int serializedSize() { return Character.BYTES + size * Character.BYTES; }
+
+        @Override
+        void serialize(ByteBuffer buffer)
+        {
+            buffer.putChar((char) size);
+            for (int i = 0; i < size; i++) buffer.putChar(values[i]);
+        }
+
+        @Override byte type() { return type_array; }
+
+        /**
+         * @param keep true 时保留在另一个容器中的元素，false 时保留不在其中的元素
+         */
+        ArrayContainer filter(RoaringContainer other, boolean keep)
+        {
+            if (other instanceof ArrayContainer array && keep) return intersect(array);
+            var result = new char[size];
+            var n = 0;
+            for (int i = 0; i < size; i++) if (other.contains(values[i]) == keep) result[n++] = values[i];
+            return new ArrayContainer(result, n);
+        }
+
+        /**
+         * 有序数组求交；两者大小悬殊时在较大的数组中二分查找
+         */
+        private ArrayContainer intersect(ArrayContainer other)
+        {
+            if (other.size < size) return other.intersect(this);
+            var result = new char[size];
+            var n = 0;
+            if (size * 32 < other.size)
+            {
+                for (int i = 0, from = 0; i < size && from < other.size; i++)
+                {
+                    var j = Arrays.binarySearch(other.values, from, other.size, values[i]);
+                    if (j >= 0) result[n++] = values[i];
+                    from = j >= 0 ? j + 1 : -j - 1;
+                }
+                return new ArrayContainer(result, n);
+            }
+            for (int i = 0, j = 0; i < size && j < other.size; )
+            {
+                char x = values[i], y = other.values[j];
+                if (x < y) i++;
+                else if (x > y) j++;
+                else
+                {
+                    result[n++] = x;
+                    i++;
+                    j++;
+                }
+            }
+            return new ArrayContainer(result, n);
+        }
+
+        private int countIn(RoaringContainer other)
+        {
+            if (other instanceof ArrayContainer array) return intersect(array).size;
+            var count = 0;
+            for (int i = 0; i < size; i++) if (other.contains(values[i])) count++;
+            return count;
+        }
+
+        /**
+         * 有序数组归并
+         *
+         * @param exclusive true 时求对称差，false 时求并集
+         */
+        RoaringContainer merge(ArrayContainer other, boolean exclusive)
+        {
+            var result = new char[size + other.size];
+            var n = 0;
+            int i = 0, j = 0;
+            while (i < size && j < other.size)
+            {
+                char x = values[i], y = other.values[j];
+                if (x < y)
+                {
+                    result[n++] = x;
+                    i++;
+                }
+                else if (x > y)
+                {
+                    result[n++] = y;
+                    j++;
+                }
+                else
+                {
+                    if (!exclusive) result[n++] = x;
+                    i++;
+                    j++;
+                }
+            }
+            while (i < size) result[n++] = values[i++];
+            while (j < other.size) result[n++] = other.values[j++];
+            var merged = new ArrayContainer(result, n);
+            return n > array_max_size ? merged.toBitmap() : merged;
+        }
+    }
+
+    // PART ----- BITMAP -----
+
+    /**
+     * 2<sup>16</sup> 位的位图，元素多于 {@link #array_max_size} 个
+     */
+    static final class BitmapContainer extends RoaringContainer
+    {
+        final long[] words;
+        int cardinality;
+
+        BitmapContainer(long[] words, int cardinality)
+        {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        static BitmapContainer deserialize(ByteBuffer buffer)
+        {
+            var words = new long[bitmap_words];
+            buffer.asLongBuffer().get(words);
+            buffer.position(buffer.position() + bitmap_words * Long.BYTES);
+            var bitmap = new BitmapContainer(words, 0);
+            bitmap.recount();
+            return bitmap;
+        }
+
+        void recount()
+        {
+            var count = 0;
+            for (var word : words) count += Long.bitCount(word);
+            cardinality = count;
+        }
+
+        /**
+         * @return 重新统计元素数量，元素较少时转换为数组容器
+         */
+        RoaringContainer normalize()
+        {
+            recount();
+            return cardinality <= array_max_size ? ArrayContainer.from(this) : this;
+        }
+
+        @Override int cardinality() { return cardinality; }
+
+        @Override boolean contains(char value) { return (words[value >>> 6] & 1L << value) != 0; }
+
+        @Override
+        int rank(char value)
+        {
+            var index = value >>> 6;
+            var count = 0;
+            for (int i = 0; i < index; i++) count += Long.bitCount(words[i]);
+            return count + Long.bitCount(words[index] & -1L >>> 63 - (value & 63));
+        }
+
+        @Override
+        char select(int index)
+        {
+            for (int i = 0; ; i++)
+            {
+                var bits = Long.bitCount(words[i]);
+                if (index < bits)
+                {
+                    var word = words[i];
+                    for (int k = 0; k < index; k++) word &= word - 1;
+                    return (char) (i << 6 | Long.numberOfTrailingZeros(word));
+                }
+                index -= bits;
+            }
+        }
+
+        @Override
+        RoaringContainer add(char value)
+        {
+            var mask = 1L << value;
+            if ((words[value >>> 6] & mask) == 0)
+            {
+                words[value >>> 6] |= mask;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        RoaringContainer remove(char value)
+        {
+            var mask = 1L << value;
+            if ((words[value >>> 6] & mask) == 0) return this;
+            words[value >>> 6] &= ~mask;
+            return --cardinality <= array_max_size ? ArrayContainer.from(this) : this;
+        }
+
+        @Override BitmapContainer copy() { return new BitmapContainer(words.clone(), cardinality); }
+
+        @Override
+        void forEach(int high, IntConsumer action)
+        {
+            var base = high << 16;
+            for (int i = 0; i < bitmap_words; i++)
+                for (var word = words[i]; word != 0; word &= word - 1)
+                    action.accept(base | i << 6 | Long.numberOfTrailingZeros(word));
+        }
+
+        @Override
+        PrimitiveIterator.OfInt iterator()
+        {
+            return new PrimitiveIterator.OfInt()
+            {
+                private int index = -1;
+                private long word;
+
+                @Override
+                public boolean hasNext()
+                {
+                    while (word == 0 && index + 1 < bitmap_words) word = words[++index];
+                    return word != 0;
+                }
+
+                @Override
+                public int nextInt()
+                {
+                    if (!hasNext()) throw new NoSuchElementException();
+                    var value = index << 6 | Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                    return value;
+                }
+            };
+        }
+
+        @Override BitmapContainer toBitmap() { return this; }
+
+        @Override
+        int runs()
+        {
+            var runs = 0;
+            var carry = 0L;
+            for (var word : words)
+            {
+                // 前一位为 0 的置位即为一个连续区间的起点
+                runs += Long.bitCount(word & ~(word << 1 | carry));
+                carry = word >>> 63;
+            }
+            return runs;
+        }
+
+        @Override int serializedSize() { return bitmap_words * Long.BYTES; }
+
+        @Override
+        void serialize(ByteBuffer buffer)
+        {
+            for (var word : words) buffer.putLong(word);
+        }
+
+        @Override byte type() { return type_bitmap; }
+    }
+
+    // PART ----- RUN -----
+
+    /**
+     * 行程编码：按起点有序、互不相邻的连续区间，每个区间保存起点与长度减一
+     */
+    static final class RunContainer extends RoaringContainer
+    {
+        final char[] runs;
+        final int count;
+        private final int cardinality;
+
+        private RunContainer(char[] runs, int count)
+        {
+            this.runs = runs;
+            this.count = count;
+            var cardinality = 0;
+            for (int i = 0; i < count; i++) cardinality += runs[2 * i + 1] + 1;
+            this.cardinality = cardinality;
+        }
+
+        /**
+         * @param start 起始值（包含）
+         * @param end   结束值（不包含），start &lt; end
+         */
+        static RunContainer ofRange(int start, int end)
+        {
+            return new RunContainer(new char[]{(char) start, (char) (end - start - 1)}, 1);
+        }
+
+        static RunContainer from(RoaringContainer container, int count)
+        {
+            var runs = new char[count * 2];
+            var state = new int[]{-1, -2};
+            container.forEach(0, v -> {
+                // state[0] 为当前区间的序号，state[1] 为上一个值
+                if (v != state[1] + 1) runs[2 * ++state[0]] = (char) v;
+                else runs[2 * state[0] + 1]++;
+                state[1] = v;
+            });
+            return new RunContainer(runs, count);
+        }
+
+        static RunContainer deserialize(ByteBuffer buffer)
+        {
+            int count = buffer.getChar();
+            var runs = new char[count * 2];
+            buffer.asCharBuffer().get(runs);
+            buffer.position(buffer.position() + runs.length * Character.BYTES);
+            for (int i = 0, previousEnd = -1; i < count; i++)
+            {
+                int start = runs[2 * i], end = start + runs[2 * i + 1] + 1;
+                if (start <= previousEnd || end > 1 << 16)
+                    throw new IllegalArgumentException("corrupted run container");
+                previousEnd = end;
+            }
+            if (count == 0) throw new IllegalArgumentException("corrupted run container");
+            return new RunContainer(runs, count);
+        }
+
+        int start(int i) { return runs[2 * i]; }
+
+        /**
+         * @return 第 i 个区间的结束值（不包含）
+         */
+        int end(int i) { return runs[2 * i] + runs[2 * i + 1] + 1; }
+
+        /**
+         * @return 起点不大于该值的最后一个区间，不存在时为 -1
+         */
+        private int floorRun(char value)
+        {
+            int low = 0, high = count - 1;
+            while (low <= high)
+            {
+                var mid = (low + high) >>> 1;
+                if (runs[2 * mid] <= value) low = mid + 1;
+                else high = mid - 1;
+            }
+            return high;
+        }
+
+        @Override int cardinality() { return cardinality; }
+
+        @Override
+        boolean contains(char value)
+        {
+            var i = floorRun(value);
+            return i >= 0 && value < end(i);
+        }
+
+        @Override
+        int rank(char value)
+        {
+            var i = floorRun(value);
+            var rank = 0;
+            for (int k = 0; k < i; k++) rank += runs[2 * k + 1] + 1;
+            return i < 0 ? 0 : rank + Math.min(value, end(i) - 1) - start(i) + 1;
+        }
+
+        @Override
+        char select(int index)
+        {
+            for (int i = 0; ; i++)
+            {
+                var length = runs[2 * i + 1] + 1;
+                if (index < length) return (char) (runs[2 * i] + index);
+                index -= length;
+            }
+        }
+
+        /**
+         * 行程编码不可原地修改，修改时转换为数组或位图
+         */
+        @Override
+        RoaringContainer add(char value) { return contains(value) ? this : expand().add(value); }
+
+        @Override
+        RoaringContainer remove(char value) { return contains(value) ? expand().remove(value) : this; }
+
+        private RoaringContainer expand()
+        {
+            return cardinality <= array_max_size ? ArrayContainer.from(this) : toBitmap();
+        }
+
+        @Override RunContainer copy() { return this; }
+
+        @Override
+        void forEach(int high, IntConsumer action)
+        {
+            var base = high << 16;
+            for (int i = 0; i < count; i++) for (int v = start(i), end = end(i); v < end; v++) action.accept(base | v);
+        }
+
+        @Override
+        PrimitiveIterator.OfInt iterator()
+        {
+            return new PrimitiveIterator.OfInt()
+            {
+                private int run;
+                private int next = count == 0 ? 0 : start(0);
+
+                @Override public boolean hasNext() { return run < count; }
+
+                @Override
+                public int nextInt()
+                {
+                    if (run >= count) throw new NoSuchElementException();
+                    var value = next++;
+                    if (next == end(run) && ++run < count) next = start(run);
+                    return value;
+                }
+            };
+        }
+
+        @Override
+        BitmapContainer toBitmap()
+        {
+            var words = new long[bitmap_words];
+            for (int i = 0; i < count; i++) setRange(words, start(i), end(i));
+            return new BitmapContainer(words, cardinality);
+        }
+
+        @Override int runs() { return count; }
+
+        @Override int serializedSize() { return Character.BYTES + count * 2 * Character.BYTES; }
+
+        @Override
+        void serialize(ByteBuffer buffer)
+        {
+            buffer.putChar((char) count);
+            for (int i = 0; i < count * 2; i++) buffer.putChar(runs[i]);
+        }
+
+        @Override byte type() { return type_run; }
+    }
+}
@@ -0,0 +1,8 @@
+/**
+ * <h2>原始类型集合包</h2>
+ *
+ * <p>以原始类型数组为底层存储的列表、集合与映射，读写与遍历均不装箱</p>
+ *
+ * @Date 2026-10-18 18:40
+ */
+package jruyi.util.collection;
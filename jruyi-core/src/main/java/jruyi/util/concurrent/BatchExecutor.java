@@ -0,0 +1,123 @@
+package jruyi.util.concurrent;
+
+import jruyi.util.Assert;
+import jruyi.util.CollectionUtil;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * <h2>虚拟线程批处理执行器</h2>
+ *
+ * <p>
+ * 把列表按 {@link CollectionUtil#partition(List, int)} 划分为不复制元素的批次视图，每批在一个虚拟线程中执行；
+ * 提交前先获取并发许可，同时存在的虚拟线程不超过并发上限，批次再多也不会无限制地创建线程
+ * </p>
+ *
+ * <p>
+ * 任意一批抛出异常时立即停止提交，中断仍在执行的批次，等待它们结束后抛出第一个异常；
+ * 全部成功时按批次顺序返回结果与每批的耗时
+ * </p>
+ *
+ * <p>执行器不持有线程，可以被多个线程同时使用，并发上限对每次调用分别生效</p>
+ *
+ * @Date 2026-10-18 22:30
+ */
+public final class BatchExecutor
+{
+    private final int concurrency;
+
+    private BatchExecutor(int concurrency) { this.concurrency = concurrency; }
+
+    /**
+     * @param concurrency 每次调用同时执行的最大批次数
+     */
+    public static BatchExecutor of(int concurrency)
+    {
+        Assert.asserts(concurrency > 0, STR."concurrency must be positive: [\{concurrency}]");
+        return new BatchExecutor(concurrency);
+    }
+
+    public int concurrency() { return concurrency; }
+
+    /**
+     * @param items     元素列表，执行期间不能被修改
+     * @param batchSize 每批的元素数量，最后一批可能不足
+     * @param task      批处理函数，参数为批次的只读视图
+     * @return 按批次顺序排列的结果与耗时
+     * @throws InterruptedException 等待期间当前线程被中断，已提交的批次会被中断
+     * @throws RuntimeException     第一个失败批次抛出的异常；运行时异常与 {@link Error} 原样抛出，
+     *                              其他异常包装为 {@link IllegalStateException}
+     */
+    public <T, R> BatchResult<R> execute(List<T> items, int batchSize, Function<? super List<T>, ? extends R> task)
+            throws InterruptedException
+    {
+        Assert.paramNotNull(task, "task");
+        var batches = CollectionUtil.partition(items, batchSize);
+        var results = new Object[batches.size()];
+        var elapsed = new Duration[batches.size()];
+        var permits = new Semaphore(concurrency);
+        var start = System.nanoTime();
+        var factory = Thread.ofVirtual().name("batch-executor-", 0).factory();
+        try (var scope = new StructuredTaskScope.ShutdownOnFailure("batch-executor", factory))
+        {
+            for (int i = 0; i < batches.size() && !scope.isShutdown(); i++)
+            {
+                permits.acquire();
+                if (scope.isShutdown())
+                {
+                    permits.release();
+                    break;
+                }
+                var index = i;
+                var batch = Collections.unmodifiableList(batches.get(i));
+                scope.fork(() -> {
+                    try
+                    {
+                        var begin = System.nanoTime();
+                        results[index] = task.apply(batch);
+                        elapsed[index] = Duration.ofNanos(System.nanoTime() - begin);
+                        return null;
+                    }
+                    finally { permits.release(); }
+                });
+            }
+            scope.join();
+            scope.throwIfFailed(BatchExecutor::rethrow);
+        }
+        @SuppressWarnings("unchecked")
+        var list = (List<R>) Collections.unmodifiableList(Arrays.asList(results));
+        return new BatchResult<>(list, List.of(elapsed), Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * @param items     元素列表，执行期间不能被修改
+     * @param batchSize 每批的元素数量，最后一批可能不足
+     * @param task      批处理函数，参数为批次的只读视图
+     * @return 每批的结果均为 null
+     * @see #execute(List, int, Function)
+     */
+    public <T> BatchResult<Void> run(List<T> items, int batchSize, Consumer<? super List<T>> task)
+            throws InterruptedException
+    {
+        Assert.paramNotNull(task, "task");
+        return execute(items, batchSize, batch -> {
+            task.accept(batch);
+            return null;
+        });
+    }
+
+    private static RuntimeException rethrow(Throwable e)
+    {
+        if (e instanceof Error error) throw error;
+        return e instanceof RuntimeException runtime ? runtime : new IllegalStateException(e);
+    }
+
+    @Override public String toString() { return STR."BatchExecutor[concurrency=\{concurrency}]"; }
+}
@@ -0,0 +1,23 @@
+package jruyi.util.concurrent;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * <h2>批处理结果</h2>
+ *
+ * @param results 每批的结果，顺序与批次顺序一致
+ * @param elapsed 每批的执行耗时，顺序与批次顺序一致，不含等待并发许可的时间
+ * @param total   从开始提交到所有批次完成的总耗时
+ * @param <R>     每批结果的类型
+ * @Date 2026-10-18 22:30
+ */
+public record BatchResult<R>(List<R> results, List<Duration> elapsed, Duration total)
+{
+    public int batches() { return results.size(); }
+
+    /**
+     * @return 耗时最长的一批的耗时，没有批次时为 0
+     */
+    public Duration slowest() { return elapsed.stream().max(Duration::compareTo).orElse(Duration.ZERO); }
+}
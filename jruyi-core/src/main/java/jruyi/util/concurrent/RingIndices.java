@@ -0,0 +1,45 @@
+package jruyi.util.concurrent;
+
+/**
+ * <h2>环形队列的头尾索引</h2>
+ *
+ * <p>
+ * 通过继承层次在头、尾索引前后插入填充字段，使两者位于不同的缓存行，
+ * 生产者与消费者更新各自的索引时不会互相使对方的缓存行失效；
+ * 继承顺序为 {@code RingIndices -> Head -> Pad1 -> Tail -> Padded}，环形队列继承 {@link Padded}
+ * </p>
+ *
+ * @Date 2026-10-18 19:50
+ */
+abstract class RingIndices
+{
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+
+    /**
+     * 消费者一侧：头索引，以及单消费者缓存的尾索引
+     */
+    abstract static class Head extends RingIndices
+    {
+        volatile long head;
+        long tailCache;
+    }
+
+    abstract static class Pad1 extends Head
+    {
+        long p10, p11, p12, p13, p14, p15, p16, p17;
+    }
+
+    /**
+     * 生产者一侧：尾索引，以及单生产者缓存的头索引
+     */
+    abstract static class Tail extends Pad1
+    {
+        volatile long tail;
+        long headCache;
+    }
+
+    abstract static class Padded extends Tail
+    {
+        long p30, p31, p32, p33, p34, p35, p36, p37;
+    }
+}
@@ -0,0 +1,381 @@
+package jruyi.util.concurrent;
+
+import jakarta.annotation.Nullable;
+import jruyi.util.Assert;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * <h2>无锁有界环形队列</h2>
+ *
+ * <p>
+ * 以 2 的幂长度的数组为存储的有界 FIFO 队列，不使用锁；头尾索引分别位于独立的缓存行；
+ * 根据生产者与消费者的数量选择实现，约束越强开销越低：
+ * {@link #mpmc(int)} 多生产者多消费者，{@link #mpsc(int)} 多生产者单消费者，{@link #spsc(int)} 单生产者单消费者；
+ * 违反单生产者或单消费者约束时行为不确定
+ * </p>
+ *
+ * <p>
+ * {@link #offer(Object)}、{@link #poll()} 不阻塞；{@link #put(Object)}、{@link #take()} 在队列满或空时
+ * 按创建时指定的 {@link WaitStrategy} 等待后重试；元素不能为 null
+ * </p>
+ *
+ * @param <E> 元素类型
+ * @Date 2026-10-18 20:00
+ */
+public abstract sealed class RingQueue<E> extends RingIndices.Padded
+        permits RingQueue.Mpmc, RingQueue.Spsc
+{
+    static final VarHandle head_handle;
+    static final VarHandle tail_handle;
+    static final VarHandle sequence_handle = MethodHandles.arrayElementVarHandle(long[].class);
+
+    static
+    {
+        try
+        {
+            var lookup = MethodHandles.lookup();
+            head_handle = lookup.findVarHandle(RingIndices.Head.class, "head", long.class);
+            tail_handle = lookup.findVarHandle(RingIndices.Tail.class, "tail", long.class);
+        }
+        catch (ReflectiveOperationException e) { throw new ExceptionInInitializerError(e); }
+    }
+
+    final Object[] buffer;
+    final int mask;
+    final WaitStrategy waitStrategy;
+
+    RingQueue(int capacity, WaitStrategy waitStrategy)
+    {
+        Assert.asserts(capacity >= 2 && capacity <= 1 << 30, STR."capacity must be in [2, 2^30]: [\{capacity}]");
+        Assert.paramNotNull(waitStrategy, "waitStrategy");
+        var size = Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new Object[size];
+        this.mask = size - 1;
+        this.waitStrategy = waitStrategy;
+    }
+
+    // PART ----- FACTORY -----
+
+    /**
+     * @param capacity 最小容量，实际容量向上取整为 2 的幂
+     * @return 多生产者多消费者队列，阻塞操作使用 {@link WaitStrategy#backoff()}
+     */
+    public static <E> RingQueue<E> mpmc(int capacity) { return new Mpmc<>(capacity, WaitStrategy.backoff()); }
+
+    public static <E> RingQueue<E> mpmc(int capacity, WaitStrategy waitStrategy)
+    {
+        return new Mpmc<>(capacity, waitStrategy);
+    }
+
+    /**
+     * @param capacity 最小容量，实际容量向上取整为 2 的幂
+     * @return 多生产者单消费者队列，阻塞操作使用 {@link WaitStrategy#backoff()}
+     */
+    public static <E> RingQueue<E> mpsc(int capacity) { return new Mpsc<>(capacity, WaitStrategy.backoff()); }
+
+    public static <E> RingQueue<E> mpsc(int capacity, WaitStrategy waitStrategy)
+    {
+        return new Mpsc<>(capacity, waitStrategy);
+    }
+
+    /**
+     * @param capacity 最小容量，实际容量向上取整为 2 的幂
+     * @return 单生产者单消费者队列，阻塞操作使用 {@link WaitStrategy#backoff()}
+     */
+    public static <E> RingQueue<E> spsc(int capacity) { return new Spsc<>(capacity, WaitStrategy.backoff()); }
+
+    public static <E> RingQueue<E> spsc(int capacity, WaitStrategy waitStrategy)
+    {
+        return new Spsc<>(capacity, waitStrategy);
+    }
+
+    // PART ----- OPERATION -----
+
+    /**
+     * @return 是否入队成功，队列满时返回 false
+     */
+    public abstract boolean offer(E e);
+
+    /**
+     * @return 队首元素，队列空时返回 null
+     */
+    @Nullable public abstract E poll();
+
+    /**
+     * 入队，队列满时等待
+     */
+    public void put(E e)
+    {
+        for (int attempt = 0; !offer(e); attempt = nextAttempt(attempt)) waitStrategy.idle(attempt);
+    }
+
+    /**
+     * 出队，队列空时等待
+     */
+    public E take()
+    {
+        E e;
+        for (int attempt = 0; (e = poll()) == null; attempt = nextAttempt(attempt)) waitStrategy.idle(attempt);
+        return e;
+    }
+
+    /**
+     * 取出当前可用的元素，不等待
+     *
+     * @param action 元素消费函数
+     * @param limit  最多取出的元素数量
+     * @return 取出的元素数量
+     */
+    public int drainTo(Consumer<? super E> action, int limit)
+    {
+        Assert.paramNotNull(action, "action");
+        var n = 0;
+        for (E e; n < limit && (e = poll()) != null; n++) action.accept(e);
+        return n;
+    }
+
+    /**
+     * 取出当前可用的所有元素，不等待
+     *
+     * @return 取出的元素数量
+     */
+    public int drainTo(Collection<? super E> target)
+    {
+        Assert.paramNotNull(target, "target");
+        return drainTo(target::add, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 尽可能多地入队，不等待
+     *
+     * @param elements 元素
+     * @param from     起始下标
+     * @param to       结束下标（不含）
+     * @return 入队的元素数量
+     */
+    public int offerAll(E[] elements, int from, int to)
+    {
+        Assert.paramNotNull(elements, "elements");
+        var n = from;
+        while (n < to && offer(elements[n])) n++;
+        return n - from;
+    }
+
+    // PART ----- STATE -----
+
+    public int capacity() { return buffer.length; }
+
+    /**
+     * @return 当前元素数量的估计值，并发修改时不精确
+     */
+    public int size()
+    {
+        // 先读 head 再读 tail，保证差值不为负；并发入队时可能超过容量
+        long h = (long) head_handle.getVolatile(this), t = (long) tail_handle.getVolatile(this);
+        return (int) Math.min(Math.max(t - h, 0), buffer.length);
+    }
+
+    public boolean isEmpty() { return (long) head_handle.getVolatile(this) >= (long) tail_handle.getVolatile(this); }
+
+    @Override
+    public String toString() { return STR."\{getClass().getSimpleName()}[size=\{size()}, capacity=\{capacity()}]"; }
+
+    static void checkElement(@Nullable Object e) { Assert.paramNotNull(e, "element"); }
+
+    /**
+     * 等待次数达到上限后保持不变，避免溢出为负数后等待策略重新开始自旋
+     */
+    static int nextAttempt(int attempt) { return attempt == Integer.MAX_VALUE ? attempt : attempt + 1; }
+
+    // PART ----- IMPLEMENTATION -----
+
+    /**
+     * Vyukov 式有界队列：每个槽位有一个序号，生产者等待序号等于入队位置，消费者等待序号等于出队位置 + 1，
+     * 双方只通过 CAS 争抢各自的索引
+     */
+    static sealed class Mpmc<E> extends RingQueue<E> permits Mpsc
+    {
+        final long[] sequences;
+
+        Mpmc(int capacity, WaitStrategy waitStrategy)
+        {
+            super(capacity, waitStrategy);
+            sequences = new long[buffer.length];
+            for (int i = 0; i < sequences.length; i++) sequences[i] = i;
+        }
+
+        @Override
+        public final boolean offer(E e)
+        {
+            checkElement(e);
+            var pos = (long) tail_handle.getVolatile(this);
+            for (; ; )
+            {
+                var index = (int) pos & mask;
+                var seq = (long) sequence_handle.getAcquire(sequences, index);
+                var diff = seq - pos;
+                if (diff == 0)
+                {
+                    if (tail_handle.weakCompareAndSet(this, pos, pos + 1))
+                    {
+                        buffer[index] = e;
+                        sequence_handle.setRelease(sequences, index, pos + 1);
+                        return true;
+                    }
+                }
+                else if (diff < 0) return false;
+                pos = (long) tail_handle.getVolatile(this);
+            }
+        }
+
+        @Override
+        @Nullable
+        @SuppressWarnings("unchecked")
+        public E poll()
+        {
+            var pos = (long) head_handle.getVolatile(this);
+            for (; ; )
+            {
+                var index = (int) pos & mask;
+                var seq = (long) sequence_handle.getAcquire(sequences, index);
+                var diff = seq - (pos + 1);
+                if (diff == 0)
+                {
+                    if (head_handle.weakCompareAndSet(this, pos, pos + 1))
+                    {
+                        var e = buffer[index];
+                        buffer[index] = null;
+                        sequence_handle.setRelease(sequences, index, pos + buffer.length);
+                        return (E) e;
+                    }
+                }
+                else if (diff < 0) return null;
+                pos = (long) head_handle.getVolatile(this);
+            }
+        }
+    }
+
+    /**
+     * 生产者与 {@link Mpmc} 相同，单个消费者不需要 CAS 头索引，批量出队时一次性推进
+     */
+    static final class Mpsc<E> extends Mpmc<E>
+    {
+        Mpsc(int capacity, WaitStrategy waitStrategy) { super(capacity, waitStrategy); }
+
+        @Override
+        @Nullable
+        @SuppressWarnings("unchecked")
+        public E poll()
+        {
+            var pos = (long) head_handle.getOpaque(this);
+            var index = (int) pos & mask;
+            if ((long) sequence_handle.getAcquire(sequences, index) != pos + 1) return null;
+            var e = buffer[index];
+            buffer[index] = null;
+            sequence_handle.setRelease(sequences, index, pos + buffer.length);
+            head_handle.setRelease(this, pos + 1);
+            return (E) e;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public int drainTo(Consumer<? super E> action, int limit)
+        {
+            Assert.paramNotNull(action, "action");
+            var pos = (long) head_handle.getOpaque(this);
+            var n = 0;
+            for (; n < limit; n++, pos++)
+            {
+                var index = (int) pos & mask;
+                if ((long) sequence_handle.getAcquire(sequences, index) != pos + 1) break;
+                var e = buffer[index];
+                buffer[index] = null;
+                sequence_handle.setRelease(sequences, index, pos + buffer.length);
+                head_handle.setRelease(this, pos + 1);
+                action.accept((E) e);
+            }
+            return n;
+        }
+    }
+
+    /**
+     * Lamport 式队列：双方各自缓存对方的索引，只在缓存显示满或空时才读取对方的索引，
+     * 元素通过索引的 release 写入与 acquire 读取发布
+     */
+    static final class Spsc<E> extends RingQueue<E>
+    {
+        Spsc(int capacity, WaitStrategy waitStrategy) { super(capacity, waitStrategy); }
+
+        @Override
+        public boolean offer(E e)
+        {
+            checkElement(e);
+            var pos = (long) tail_handle.getOpaque(this);
+            if (pos - headCache >= buffer.length)
+            {
+                headCache = (long) head_handle.getAcquire(this);
+                if (pos - headCache >= buffer.length) return false;
+            }
+            buffer[(int) pos & mask] = e;
+            tail_handle.setRelease(this, pos + 1);
+            return true;
+        }
+
+        @Override
+        @Nullable
+        @SuppressWarnings("unchecked")
+        public E poll()
+        {
+            var pos = (long) head_handle.getOpaque(this);
+            if (pos >= tailCache)
+            {
+                tailCache = (long) tail_handle.getAcquire(this);
+                if (pos >= tailCache) return null;
+            }
+            var index = (int) pos & mask;
+            var e = buffer[index];
+            buffer[index] = null;
+            head_handle.setRelease(this, pos + 1);
+            return (E) e;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public int drainTo(Consumer<? super E> action, int limit)
+        {
+            Assert.paramNotNull(action, "action");
+            var pos = (long) head_handle.getOpaque(this);
+            var available = (long) tail_handle.getAcquire(this) - pos;
+            var n = (int) Math.min(available, limit);
+            for (int i = 0; i < n; i++)
+            {
+                var index = (int) (pos + i) & mask;
+                var e = buffer[index];
+                buffer[index] = null;
+                head_handle.setRelease(this, pos + i + 1);
+                action.accept((E) e);
+            }
+            return Math.max(n, 0);
+        }
+
+        @Override
+        public int offerAll(E[] elements, int from, int to)
+        {
+            Assert.paramNotNull(elements, "elements");
+            var pos = (long) tail_handle.getOpaque(this);
+            var free = buffer.length - (pos - (long) head_handle.getAcquire(this));
+            var n = (int) Math.min(free, to - from);
+            for (int i = 0; i < n; i++)
+            {
+                checkElement(elements[from + i]);
+                buffer[(int) (pos + i) & mask] = elements[from + i];
+            }
+            if (n > 0) tail_handle.setRelease(this, pos + n);
+            return Math.max(n, 0);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package jruyi.util.concurrent;
+
+import jruyi.util.Assert;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <h2>等待策略</h2>
+ *
+ * <p>
+ * 阻塞式操作在条件不满足（队列满或空）时反复调用 {@link #idle(int)} 等待后重试；
+ * 自旋延迟最低但独占 CPU，让出与休眠依次降低 CPU 占用，代价是唤醒延迟
+ * </p>
+ *
+ * @Date 2026-10-18 19:50
+ */
+@FunctionalInterface
+public interface WaitStrategy
+{
+    /**
+     * @param attempt 本次等待前连续失败的次数，从 0 开始，达到 {@link Integer#MAX_VALUE} 后不再增加
+     */
+    void idle(int attempt);
+
+    /**
+     * @return 忙等策略，每次调用 {@link Thread#onSpinWait()}
+     */
+    static WaitStrategy spinning() { return _ -> Thread.onSpinWait(); }
+
+    /**
+     * @return 让出策略，每次调用 {@link Thread#yield()}
+     */
+    static WaitStrategy yielding() { return _ -> Thread.yield(); }
+
+    /**
+     * @param nanos 每次休眠的纳秒数
+     * @return 休眠策略，每次调用 {@link LockSupport#parkNanos(long)}
+     */
+    static WaitStrategy parking(long nanos)
+    {
+        Assert.asserts(nanos > 0, STR."park nanos must be positive: [\{nanos}]");
+        return _ -> LockSupport.parkNanos(nanos);
+    }
+
+    /**
+     * @return 退避策略：先自旋 100 次，再让出 100 次，之后每次休眠 50 微秒
+     */
+    static WaitStrategy backoff()
+    {
+        return attempt -> {
+            if (attempt < 100) Thread.onSpinWait();
+            else if (attempt < 200) Thread.yield();
+            else LockSupport.parkNanos(50_000);
+        };
+    }
+}
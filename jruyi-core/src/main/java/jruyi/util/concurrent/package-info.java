@@ -0,0 +1,6 @@
+/**
+ * <h2>并发工具包</h2>
+ *
+ * @Date 2026-10-18 19:50
+ */
+package jruyi.util.concurrent;
@@ -0,0 +1,135 @@
+package jruyi.util.reflect;
+
+import jakarta.annotation.Nullable;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h2>类名查找缓存</h2>
+ *
+ * <p>
+ * 按类加载器缓存 {@link Class#forName(String, boolean, ClassLoader)} 的查找结果，包括找不到类的结果；
+ * 类加载器与类均以弱引用持有，不会阻止类加载器卸载
+ * </p>
+ *
+ * @Date 2026-10-18 14:15
+ */
+final class ClassCache
+{
+    /**
+     * 表示找不到类的缓存值
+     */
+    private static final Object missing = new Object();
+
+    private static final ReferenceQueue<ClassLoader> queue = new ReferenceQueue<>();
+    private static final ConcurrentHashMap<Object, ConcurrentHashMap<String, Object>> loaders =
+            new ConcurrentHashMap<>();
+
+    private ClassCache() { }
+
+    /**
+     * 查找类，不初始化
+     *
+     * @param name   类名
+     * @param loader 类加载器
+     * @return 类，找不到时返回 null
+     */
+    @Nullable
+    static Class<?> find(String name, ClassLoader loader)
+    {
+        var classes = classesOf(loader);
+        var cached = classes.get(name);
+        if (cached == missing) return null;
+        if (cached instanceof WeakReference<?> ref && ref.get() instanceof Class<?> c) return c;
+
+        try
+        {
+            var result = Class.forName(name, false, loader);
+            classes.put(name, new WeakReference<>(result));
+            return result;
+        }
+        catch (ClassNotFoundException _)
+        {
+            classes.put(name, missing);
+            return null;
+        }
+    }
+
+    /**
+     * 清空所有缓存
+     */
+    static void clear()
+    {
+        loaders.clear();
+        expunge();
+    }
+
+    /**
+     * @param loader 类加载器
+     */
+    static void clear(ClassLoader loader)
+    {
+        loaders.remove(new LookupKey(loader));
+        expunge();
+    }
+
+    private static ConcurrentHashMap<String, Object> classesOf(ClassLoader loader)
+    {
+        var classes = loaders.get(new LookupKey(loader));
+        if (classes != null) return classes;
+
+        expunge();
+        classes = new ConcurrentHashMap<>();
+        var prev = loaders.putIfAbsent(new LoaderRef(loader), classes);
+        return prev != null ? prev : classes;
+    }
+
+    /**
+     * 移除已被回收的类加载器的缓存
+     */
+    private static void expunge()
+    {
+        for (Object ref; (ref = queue.poll()) != null; ) loaders.remove(ref);
+    }
+
+    /**
+     * 查找用的强引用 key，与引用同一类加载器的 {@link LoaderRef} 相等
+     */
+    private record LookupKey(ClassLoader loader)
+    {
+        @Override public int hashCode() { return System.identityHashCode(loader); }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            return o instanceof LoaderRef ref && ref.get() == loader || o instanceof LookupKey k && k.loader == loader;
+        }
+    }
+
+    /**
+     * 存储用的弱引用 key
+     */
+    private static final class LoaderRef extends WeakReference<ClassLoader>
+    {
+        private final int hash;
+
+        LoaderRef(ClassLoader loader)
+        {
+            super(loader, queue);
+            this.hash = System.identityHashCode(loader);
+        }
+
+        @Override public int hashCode() { return hash; }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o) return true;
+            var loader = get();
+            return loader != null && (o instanceof LoaderRef ref && ref.get() == loader
+                                      || o instanceof LookupKey k && k.loader == loader);
+        }
+    }
+}
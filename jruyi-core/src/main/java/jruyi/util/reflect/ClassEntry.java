@@ -0,0 +1,152 @@
+package jruyi.util.reflect;
+
+import jakarta.annotation.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+
+/**
+ * <h2>类文件摘要</h2>
+ *
+ * <p>直接解析类文件字节得到的类名、超类、接口与类注解信息，不加载类；类名均为 {@code java.lang.Object} 风格的二进制名</p>
+ *
+ * @param name        类名
+ * @param superName   超类名，{@code java.lang.Object} 与接口之外的根类型为 null
+ * @param interfaces  直接实现的接口名
+ * @param annotations 类上声明的注解类型名，包括运行时不可见的注解
+ * @Date 2026-10-18 14:50
+ */
+record ClassEntry(String name, @Nullable String superName, String[] interfaces, String[] annotations)
+{
+    private static final int magic = 0xCAFEBABE;
+
+    private static final String visible_annotations = "RuntimeVisibleAnnotations";
+    private static final String invisible_annotations = "RuntimeInvisibleAnnotations";
+
+    /**
+     * @param bytes 类文件字节
+     * @return 类文件摘要
+     * @throws IOException 类文件格式错误
+     */
+    static ClassEntry parse(byte[] bytes) throws IOException
+    {
+        var in = new DataInputStream(new ByteArrayInputStream(bytes));
+        if (in.readInt() != magic) throw new IOException("not a class file");
+        in.skipNBytes(4); // minor_version, major_version
+
+        // 常量池：只保留 Utf8 与 Class 条目
+        var count = in.readUnsignedShort();
+        var utf8 = new String[count];
+        var classes = new int[count];
+        for (int i = 1; i < count; i++)
+        {
+            var tag = in.readUnsignedByte();
+            switch (tag)
+            {
+                case 1 -> utf8[i] = in.readUTF();
+                case 7 -> classes[i] = in.readUnsignedShort();
+                case 8, 16, 19, 20 -> in.skipNBytes(2);
+                case 15 -> in.skipNBytes(3);
+                case 3, 4, 9, 10, 11, 12, 17, 18 -> in.skipNBytes(4);
+                case 5, 6 ->
+                {
+                    in.skipNBytes(8);
+                    i++;
+                }
+                default -> throw new IOException(STR."unknown constant pool tag \{tag}");
+            }
+        }
+
+        in.skipNBytes(2); // access_flags
+        var name = binaryName(utf8[classes[in.readUnsignedShort()]]);
+        var superIndex = in.readUnsignedShort();
+        var superName = superIndex == 0 ? null : binaryName(utf8[classes[superIndex]]);
+        var interfaces = new String[in.readUnsignedShort()];
+        for (int i = 0; i < interfaces.length; i++) interfaces[i] = binaryName(utf8[classes[in.readUnsignedShort()]]);
+
+        skipMembers(in); // fields
+        skipMembers(in); // methods
+
+        var annotations = new String[0];
+        for (int i = 0, n = in.readUnsignedShort(); i < n; i++)
+        {
+            var attribute = utf8[in.readUnsignedShort()];
+            var length = in.readInt();
+            if (visible_annotations.equals(attribute) || invisible_annotations.equals(attribute))
+                annotations = readAnnotations(in, utf8, annotations);
+            else in.skipNBytes(length);
+        }
+        return new ClassEntry(name, superName, interfaces, annotations);
+    }
+
+    private static void skipMembers(DataInputStream in) throws IOException
+    {
+        for (int i = 0, n = in.readUnsignedShort(); i < n; i++)
+        {
+            in.skipNBytes(6); // access_flags, name_index, descriptor_index
+            for (int j = 0, m = in.readUnsignedShort(); j < m; j++)
+            {
+                in.skipNBytes(2);
+                in.skipNBytes(Integer.toUnsignedLong(in.readInt()));
+            }
+        }
+    }
+
+    private static String[] readAnnotations(DataInputStream in, String[] utf8, String[] prev) throws IOException
+    {
+        var n = in.readUnsignedShort();
+        var result = new String[prev.length + n];
+        System.arraycopy(prev, 0, result, 0, prev.length);
+        for (int i = 0; i < n; i++)
+        {
+            result[prev.length + i] = descriptorName(utf8[in.readUnsignedShort()]);
+            skipElementValuePairs(in);
+        }
+        return result;
+    }
+
+    private static void skipElementValuePairs(DataInputStream in) throws IOException
+    {
+        for (int i = 0, n = in.readUnsignedShort(); i < n; i++)
+        {
+            in.skipNBytes(2); // element_name_index
+            skipElementValue(in);
+        }
+    }
+
+    private static void skipElementValue(DataInputStream in) throws IOException
+    {
+        var tag = in.readUnsignedByte();
+        switch (tag)
+        {
+            case 'B', 'C', 'D', 'F', 'I', 'J', 'S', 'Z', 's', 'c' -> in.skipNBytes(2);
+            case 'e' -> in.skipNBytes(4);
+            case '@' ->
+            {
+                in.skipNBytes(2);
+                skipElementValuePairs(in);
+            }
+            case '[' ->
+            {
+                for (int i = 0, n = in.readUnsignedShort(); i < n; i++) skipElementValue(in);
+            }
+            default -> throw new IOException(STR."unknown element value tag \{(char) tag}");
+        }
+    }
+
+    /**
+     * @param internalName 内部类名，例如 {@code java/lang/Object}
+     * @return 二进制类名，例如 {@code java.lang.Object}
+     */
+    private static String binaryName(String internalName) { return internalName.replace('/', '.'); }
+
+    /**
+     * @param descriptor 类型描述符，例如 {@code Ljava/lang/Deprecated;}
+     * @return 二进制类名
+     */
+    private static String descriptorName(String descriptor)
+    {
+        return binaryName(descriptor.substring(1, descriptor.length() - 1));
+    }
+}
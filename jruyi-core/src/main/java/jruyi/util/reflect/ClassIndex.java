@@ -0,0 +1,113 @@
+package jruyi.util.reflect;
+
+import jruyi.util.Assert;
+
+import java.lang.annotation.Annotation;
+import java.util.*;
+
+/**
+ * <h2>类索引</h2>
+ *
+ * <p>
+ * 由 {@link ClassScanner} 扫描类文件得到的不可变索引，记录注解到类、超类型到直接子类型的映射；
+ * 查询结果均为类名，不会加载类，需要时可通过 {@link ClassUtil#forName(String, ClassLoader)} 加载
+ * </p>
+ *
+ * @Date 2026-10-18 15:10
+ */
+public final class ClassIndex
+{
+    private final Set<String> classes;
+    private final Map<String, List<String>> annotated;
+    private final Map<String, List<String>> subtypes;
+
+    ClassIndex(Collection<ClassEntry> entries)
+    {
+        var classes = new HashSet<String>(entries.size());
+        var annotated = new HashMap<String, List<String>>();
+        var subtypes = new HashMap<String, List<String>>();
+        for (var e : entries)
+        {
+            classes.add(e.name());
+            for (var a : e.annotations()) annotated.computeIfAbsent(a, _ -> new ArrayList<>()).add(e.name());
+            if (e.superName() != null) subtypes.computeIfAbsent(e.superName(), _ -> new ArrayList<>()).add(e.name());
+            for (var i : e.interfaces()) subtypes.computeIfAbsent(i, _ -> new ArrayList<>()).add(e.name());
+        }
+        this.classes = Collections.unmodifiableSet(classes);
+        this.annotated = freeze(annotated);
+        this.subtypes = freeze(subtypes);
+    }
+
+    // PART ----- QUERY -----
+
+    /**
+     * @return 索引中的所有类名
+     */
+    public Set<String> classNames() { return classes; }
+
+    /**
+     * @param annotation 注解类型
+     * @return 直接声明了该注解的类名
+     */
+    public List<String> getAnnotated(Class<? extends Annotation> annotation)
+    {
+        Assert.paramNotNull(annotation, "annotation");
+        return getAnnotated(annotation.getName());
+    }
+
+    /**
+     * @param annotationName 注解类型名
+     * @return 直接声明了该注解的类名
+     */
+    public List<String> getAnnotated(String annotationName)
+    {
+        Assert.paramNotNull(annotationName, "annotationName");
+        return annotated.getOrDefault(annotationName, List.of());
+    }
+
+    /**
+     * @param type 超类型
+     * @return 索引中该类型的所有子类型（包括间接子类型）的类名
+     */
+    public Set<String> getSubtypes(Class<?> type)
+    {
+        Assert.paramNotNull(type, "type");
+        return getSubtypes(type.getName());
+    }
+
+    /**
+     * <p>只能沿索引中存在的类向下查找，中间类型不在索引中时（例如位于未扫描的 jar 中）会中断查找</p>
+     *
+     * @param typeName 超类型名
+     * @return 索引中该类型的所有子类型（包括间接子类型）的类名
+     */
+    public Set<String> getSubtypes(String typeName)
+    {
+        Assert.paramNotNull(typeName, "typeName");
+        var result = new LinkedHashSet<String>();
+        var pending = new ArrayDeque<String>();
+        pending.add(typeName);
+        for (String t; (t = pending.poll()) != null; )
+            for (var sub : subtypes.getOrDefault(t, List.of()))
+                if (result.add(sub)) pending.add(sub);
+        return result;
+    }
+
+    /**
+     * @param typeName 超类型名
+     * @return 直接继承或实现该类型的类名
+     */
+    public List<String> getDirectSubtypes(String typeName)
+    {
+        Assert.paramNotNull(typeName, "typeName");
+        return subtypes.getOrDefault(typeName, List.of());
+    }
+
+    @Override public String toString() { return STR."ClassIndex[classes=\{classes.size()}]"; }
+
+    private static Map<String, List<String>> freeze(Map<String, List<String>> map)
+    {
+        map.replaceAll((_, v) -> List.copyOf(v));
+        return Collections.unmodifiableMap(map);
+    }
+}
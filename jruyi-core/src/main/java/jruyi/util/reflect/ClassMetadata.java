@@ -0,0 +1,55 @@
+package jruyi.util.reflect;
+
+import jruyi.util.Assert;
+
+import java.util.List;
+
+/**
+ * <h2>类元数据</h2>
+ *
+ * <p>
+ * 类自身声明的字段与方法信息，对应 {@link Class#getDeclaredFields()} 与 {@link Class#getDeclaredMethods()}；
+ * 被 {@link Reflectable} 标记的类由 jruyi-processor 在编译时生成实现类，字段读写不经过反射
+ * </p>
+ *
+ * @Date 2026-10-18 16:10
+ */
+public interface ClassMetadata
+{
+    /**
+     * 生成的元数据类的类名后缀
+     */
+    String GENERATED_SUFFIX = "$$Metadata";
+
+    /**
+     * @return 元数据描述的类
+     */
+    Class<?> type();
+
+    /**
+     * @return 类自身声明的字段，不允许修改
+     */
+    List<FieldMetadata> fields();
+
+    /**
+     * @return 类自身声明的方法，不包括构造器与类初始化方法，不允许修改
+     */
+    List<MethodMetadata> methods();
+
+    /**
+     * @return 是否为编译时生成的元数据
+     */
+    default boolean isGenerated() { return true; }
+
+    /**
+     * <p>优先加载编译时生成的 {@code 类名$$Metadata} 类，找不到或无法实例化时使用反射构建，结果按类缓存</p>
+     *
+     * @param type 指定类
+     * @return 类元数据
+     */
+    static ClassMetadata of(Class<?> type)
+    {
+        Assert.paramNotNull(type, "type");
+        return MetadataCache.get(type);
+    }
+}
@@ -0,0 +1,357 @@
+package jruyi.util.reflect;
+
+import jakarta.annotation.Nullable;
+import jruyi.util.Assert;
+import jruyi.util.StringUtil;
+
+import java.io.*;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.ZipFile;
+
+/**
+ * <h2>类扫描器</h2>
+ *
+ * <p>
+ * 直接读取类文件字节构建 {@link ClassIndex}，不加载类；支持 jar 文件、类目录，
+ * 以及模块路径上包含多个模块的目录，多个 jar 并行解析；无法读取或格式错误的类文件会被跳过并记录警告日志
+ * </p>
+ *
+ * <p>
+ * 指定缓存文件时，jar 的扫描结果连同文件大小、修改时间与内容校验和写入紧凑的二进制文件；
+ * 下次扫描时大小与修改时间不变的 jar 直接使用缓存，否则计算校验和，只重新解析内容发生变化的 jar；
+ * 类目录内容经常变化，总是重新扫描
+ * </p>
+ *
+ * @Date 2026-10-18 15:30
+ */
+public abstract class ClassScanner
+{
+    private static final String class_suffix = ".class";
+    private static final String module_info = "module-info.class";
+    private static final String meta_inf = "META-INF/";
+
+    /**
+     * 缓存文件头魔数："JRCI"
+     */
+    private static final int cache_magic = 0x4A524349;
+    private static final int cache_version = 2;
+
+    private static final System.Logger logger = System.getLogger(ClassScanner.class.getName());
+
+    // PART ----- SCAN -----
+
+    /**
+     * 扫描类路径（{@code java.class.path}）与模块路径（{@code jdk.module.path}）
+     *
+     * @param cacheFile 缓存文件，为 null 时不使用缓存
+     * @return 类索引
+     * @throws IOException 读取 jar 文件或目录失败
+     */
+    public static ClassIndex scanClassPath(@Nullable Path cacheFile) throws IOException
+    {
+        var roots = new ArrayList<Path>();
+        for (var key : List.of("java.class.path", "jdk.module.path"))
+        {
+            var value = System.getProperty(key);
+            if (StringUtil.isBlank(value)) continue;
+            for (var p : value.split(File.pathSeparator))
+                if (StringUtil.notBlank(p)) roots.add(Path.of(p));
+        }
+        return scan(roots, cacheFile);
+    }
+
+    /**
+     * 扫描指定的 jar 文件或目录，不使用缓存
+     *
+     * @param roots jar 文件或目录
+     * @return 类索引
+     * @throws IOException 读取 jar 文件或目录失败
+     */
+    public static ClassIndex scan(Collection<Path> roots) throws IOException { return scan(roots, null); }
+
+    /**
+     * 扫描指定的 jar 文件或目录，不存在的路径会被忽略
+     *
+     * @param roots     jar 文件或目录
+     * @param cacheFile 缓存文件，为 null 时不使用缓存
+     * @return 类索引
+     * @throws IOException 读取 jar 文件或目录、写入缓存文件失败
+     */
+    public static ClassIndex scan(Collection<Path> roots, @Nullable Path cacheFile) throws IOException
+    {
+        Assert.paramNotNull(roots, "roots");
+        var sources = new LinkedHashSet<Path>();
+        for (var root : roots) expand(root.toAbsolutePath().normalize(), sources);
+
+        var cached = cacheFile != null ? readCache(cacheFile) : Map.<String, Source>of();
+        List<Source> scanned;
+        try
+        {
+            scanned = sources.parallelStream().map(p -> {
+                try { return scanSource(p, cached.get(p.toString())); }
+                catch (IOException e) { throw new UncheckedIOException(e); }
+            }).toList();
+        }
+        catch (UncheckedIOException e) { throw e.getCause(); }
+
+        if (cacheFile != null) writeCache(cacheFile, scanned);
+
+        var entries = new ArrayList<ClassEntry>();
+        for (var s : scanned) Collections.addAll(entries, s.classes);
+        return new ClassIndex(entries);
+    }
+
+    /**
+     * 展开模块路径风格的目录：目录中不含类文件而含有 jar 或模块目录时，将这些子项作为扫描源
+     */
+    private static void expand(Path root, Set<Path> sources) throws IOException
+    {
+        if (Files.isRegularFile(root)) sources.add(root);
+        if (!Files.isDirectory(root)) return;
+        if (Files.exists(root.resolve(module_info)) || hasClassFile(root))
+        {
+            sources.add(root);
+            return;
+        }
+        try (var children = Files.list(root))
+        {
+            var modules = children.filter(p -> isJar(p) || Files.exists(p.resolve(module_info))).sorted().toList();
+            if (modules.isEmpty()) sources.add(root);
+            else sources.addAll(modules);
+        }
+    }
+
+    private static boolean hasClassFile(Path dir) throws IOException
+    {
+        try (var children = Files.list(dir))
+        {
+            return children.anyMatch(p -> p.getFileName().toString().endsWith(class_suffix));
+        }
+    }
+
+    private static boolean isJar(Path p)
+    {
+        var name = p.getFileName().toString();
+        return Files.isRegularFile(p) && (name.endsWith(".jar") || name.endsWith(".zip"));
+    }
+
+    /**
+     * @param path   jar 文件或目录
+     * @param cached 该路径的缓存，大小与修改时间一致时直接使用，否则校验和一致时使用
+     * @return 扫描结果
+     */
+    private static Source scanSource(Path path, @Nullable Source cached) throws IOException
+    {
+        if (Files.isDirectory(path)) return new Source(path.toString(), 0, 0, 0, scanDirectory(path));
+        var attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        var size = attributes.size();
+        var modified = attributes.lastModifiedTime().toMillis();
+        if (cached != null && cached.size == size && cached.modified == modified) return cached;
+        // 大小或修改时间变化，例如文件被重新复制，内容未变时仍复用缓存的类信息
+        var checksum = checksum(path);
+        var classes = cached != null && cached.checksum == checksum ? cached.classes : scanJar(path);
+        return new Source(path.toString(), size, modified, checksum, classes);
+    }
+
+    private static ClassEntry[] scanJar(Path jar) throws IOException
+    {
+        var result = new ArrayList<ClassEntry>();
+        try (var zip = new ZipFile(jar.toFile()))
+        {
+            var entries = zip.entries();
+            while (entries.hasMoreElements())
+            {
+                var e = entries.nextElement();
+                if (e.isDirectory() || !isClassFile(e.getName())) continue;
+                try (var in = zip.getInputStream(e)) { result.add(ClassEntry.parse(in.readAllBytes())); }
+                catch (IOException | RuntimeException ex) { skip(STR."\{jar}!/\{e.getName()}", ex); }
+            }
+        }
+        return result.toArray(ClassEntry[]::new);
+    }
+
+    private static ClassEntry[] scanDirectory(Path dir) throws IOException
+    {
+        try (Stream<Path> files = Files.walk(dir))
+        {
+            var result = new ArrayList<ClassEntry>();
+            for (var p : (Iterable<Path>) files::iterator)
+            {
+                var name = dir.relativize(p).toString().replace(File.separatorChar, '/');
+                if (!Files.isRegularFile(p) || !isClassFile(name)) continue;
+                try { result.add(ClassEntry.parse(Files.readAllBytes(p))); }
+                catch (IOException | RuntimeException e) { skip(p.toString(), e); }
+            }
+            return result.toArray(ClassEntry[]::new);
+        }
+    }
+
+    private static boolean isClassFile(String name)
+    {
+        return name.endsWith(class_suffix) && !name.startsWith(meta_inf) && !name.endsWith(module_info)
+               && !name.endsWith("package-info.class");
+    }
+
+    private static void skip(String location, Exception e)
+    {
+        logger.log(System.Logger.Level.WARNING, STR."Skipped unreadable class file [\{location}]: \{e}");
+    }
+
+    private static long checksum(Path file) throws IOException
+    {
+        var crc = new CRC32C();
+        try (var in = new CheckedInputStream(Files.newInputStream(file), crc))
+        {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return crc.getValue();
+    }
+
+    // PART ----- CACHE -----
+
+    /**
+     * <p>
+     * 缓存文件格式：魔数、版本、字符串表，随后是各扫描源的路径、大小、修改时间、校验和与类信息；
+     * 所有类名通过字符串表下标引用，整数使用变长编码
+     * </p>
+     *
+     * @return 路径到扫描源的映射，缓存文件不存在或格式不符时返回空映射
+     */
+    private static Map<String, Source> readCache(Path file)
+    {
+        if (!Files.isRegularFile(file)) return Map.of();
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file))))
+        {
+            if (in.readInt() != cache_magic || in.readInt() != cache_version) return Map.of();
+            var strings = new String[readVarInt(in)];
+            for (int i = 0; i < strings.length; i++) strings[i] = in.readUTF();
+
+            var result = new HashMap<String, Source>();
+            for (int i = 0, n = readVarInt(in); i < n; i++)
+            {
+                var path = in.readUTF();
+                var size = in.readLong();
+                var modified = in.readLong();
+                var checksum = in.readLong();
+                var classes = new ClassEntry[readVarInt(in)];
+                for (int j = 0; j < classes.length; j++)
+                {
+                    var name = strings[readVarInt(in)];
+                    var superIndex = readVarInt(in);
+                    var interfaces = readStrings(in, strings);
+                    var annotations = readStrings(in, strings);
+                    var superName = superIndex == 0 ? null : strings[superIndex - 1];
+                    classes[j] = new ClassEntry(name, superName, interfaces, annotations);
+                }
+                result.put(path, new Source(path, size, modified, checksum, classes));
+            }
+            return result;
+        }
+        catch (IOException | RuntimeException _)
+        {
+            // 缓存文件损坏时重新扫描
+            return Map.of();
+        }
+    }
+
+    private static void writeCache(Path file, List<Source> sources) throws IOException
+    {
+        // 目录总是重新扫描，不写入缓存
+        var jars = sources.stream().filter(s -> !Files.isDirectory(Path.of(s.path))).toList();
+
+        var table = new LinkedHashMap<String, Integer>();
+        for (var s : jars)
+            for (var c : s.classes)
+            {
+                table.putIfAbsent(c.name(), table.size());
+                if (c.superName() != null) table.putIfAbsent(c.superName(), table.size());
+                for (var i : c.interfaces()) table.putIfAbsent(i, table.size());
+                for (var a : c.annotations()) table.putIfAbsent(a, table.size());
+            }
+
+        var parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        var temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try
+        {
+            try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp))))
+            {
+                out.writeInt(cache_magic);
+                out.writeInt(cache_version);
+                writeVarInt(out, table.size());
+                for (var s : table.keySet()) out.writeUTF(s);
+
+                writeVarInt(out, jars.size());
+                for (var s : jars)
+                {
+                    out.writeUTF(s.path);
+                    out.writeLong(s.size);
+                    out.writeLong(s.modified);
+                    out.writeLong(s.checksum);
+                    writeVarInt(out, s.classes.length);
+                    for (var c : s.classes)
+                    {
+                        writeVarInt(out, table.get(c.name()));
+                        writeVarInt(out, c.superName() == null ? 0 : table.get(c.superName()) + 1);
+                        writeStrings(out, c.interfaces(), table);
+                        writeStrings(out, c.annotations(), table);
+                    }
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        finally { Files.deleteIfExists(temp); }
+    }
+
+    private static String[] readStrings(DataInputStream in, String[] table) throws IOException
+    {
+        var result = new String[readVarInt(in)];
+        for (int i = 0; i < result.length; i++) result[i] = table[readVarInt(in)];
+        return result;
+    }
+
+    private static void writeStrings(DataOutputStream out, String[] values, Map<String, Integer> table)
+            throws IOException
+    {
+        writeVarInt(out, values.length);
+        for (var v : values) writeVarInt(out, table.get(v));
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException
+    {
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 7)
+        {
+            var b = in.readUnsignedByte();
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return result;
+        }
+        throw new UTFDataFormatException("malformed var int");
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException
+    {
+        while ((value & ~0x7F) != 0)
+        {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * 扫描源及其扫描结果
+     *
+     * @param path     jar 文件或目录的绝对路径
+     * @param size     jar 文件大小，目录为 0
+     * @param modified jar 文件修改时间的毫秒数，目录为 0
+     * @param checksum jar 文件内容的 CRC32C 校验和，目录为 0
+     * @param classes  类文件摘要
+     */
+    private record Source(String path, long size, long modified, long checksum, ClassEntry[] classes) { }
+}
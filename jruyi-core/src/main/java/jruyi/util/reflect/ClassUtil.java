@@ -55,7 +55,7 @@ public abstract class ClassUtil
      * @param name       类名，支持使用数组后缀（{@code java.lang.Object[]}）风格类名
      * @param initialize 是否初始化类
      * @param loader     类加载器，加载规则参考：{@link #getDefaultClassLoader()}
-     * @return 类，找不到名称对应的类时返回 null
+     * @return 类，找不到名称对应的类时返回 null，查找结果会被缓存，参考 {@link #clearCache()}
      * @throws IllegalArgumentException 类名为无效字符串
      * @see Class#forName(String, boolean, ClassLoader)
      */
@@ -77,8 +77,10 @@ public abstract class ClassUtil
 
         if (loader == null) loader = getDefaultClassLoader();
 
-        // 通过 Class#forName 获取
-        try { return Class.forName(name, initialize, loader); }
+        // 通过缓存获取，缓存未命中时调用 Class#forName
+        result = ClassCache.find(name, loader);
+        if (result == null || !initialize) return result;
+        try { return Class.forName(name, true, loader); }
         catch (ClassNotFoundException _) { return null; }
     }
 
@@ -90,11 +92,30 @@ public abstract class ClassUtil
     public static Class<?> getPrimitive(String name)
     {
         Assert.paramNotNull(name, "name");
-        if (name.length() >= 8) return null;
-        for (var t : PrimitiveType.values())
-            if (t.primitiveName().equals(name))
-                return t.primitive();
-        return null;
+        var type = PrimitiveType.ofPrimitiveName(name);
+        return type != null ? type.primitive() : null;
+    }
+
+    // PART ----- CACHE -----
+
+    /**
+     * <p>
+     * {@link #forName(String, boolean, ClassLoader)} 按类加载器缓存查找结果，包括找不到类的结果，
+     * 类加载器能够加载此前不存在的类时（例如动态添加了类路径）需调用该方法清除缓存
+     * </p>
+     */
+    public static void clearCache() { ClassCache.clear(); }
+
+    /**
+     * 清除指定类加载器的类查找缓存
+     *
+     * @param loader 类加载器
+     * @see #clearCache()
+     */
+    public static void clearCache(ClassLoader loader)
+    {
+        Assert.paramNotNull(loader, "loader");
+        ClassCache.clear(loader);
     }
 
     // PART ----- CLASS_LOADER -----
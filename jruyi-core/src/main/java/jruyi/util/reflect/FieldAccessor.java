@@ -0,0 +1,323 @@
+package jruyi.util.reflect;
+
+import jakarta.annotation.Nullable;
+import jruyi.util.Assert;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h2>字段访问器</h2>
+ *
+ * <p>
+ * 将 {@link Field} 转换为基于 {@link MethodHandle} 的 getter/setter，
+ * 访问检查只在创建时进行一次，原始类型字段通过 {@code getInt}、{@code setLong} 等方法访问时不装箱
+ * </p>
+ *
+ * <p>
+ * 访问器按字段缓存，同一字段多次调用 {@link #of(Field)} 返回同一实例；
+ * 静态字段的访问器忽略目标对象参数
+ * </p>
+ *
+ * @param <T> 字段所属类型
+ * @param <V> 字段值类型
+ * @Date 2026-10-18 13:05
+ */
+public final class FieldAccessor<T, V>
+{
+    private static final ClassValue<ConcurrentHashMap<String, FieldAccessor<?, ?>>> cache = new ClassValue<>()
+    {
+        @Override
+        protected ConcurrentHashMap<String, FieldAccessor<?, ?>> computeValue(Class<?> type)
+        {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final MethodType object_getter = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType object_setter = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+    /**
+     * 类型为 {@code (Object)Object} 的 getter
+     */
+    private final MethodHandle getter;
+    /**
+     * 类型为 {@code (Object, Object)void} 的 setter，final 字段为 null
+     */
+    @Nullable private final MethodHandle setter;
+    /**
+     * 按 {@link PrimitiveType#ordinal()} 索引的原始类型 getter/setter，字段类型无法拓宽到该原始类型时为 null
+     */
+    private final MethodHandle[] primitiveGetters, primitiveSetters;
+
+    private FieldAccessor(Field field)
+    {
+        this.field = field;
+        try
+        {
+            // 不修改字段的可访问标记，字段可能是 MemberCache 中共享的对象
+            var lookup = MemberUtil.lookup(field);
+            var isStatic = Modifier.isStatic(field.getModifiers());
+
+            var rawGetter = lookup.unreflectGetter(field);
+            if (isStatic) rawGetter = MethodHandles.dropArguments(rawGetter, 0, Object.class);
+            else rawGetter = rawGetter.asType(rawGetter.type().changeParameterType(0, Object.class));
+
+            // final 字段统一按不可写处理
+            MethodHandle rawSetter = null;
+            if (!Modifier.isFinal(field.getModifiers()))
+            {
+                rawSetter = lookup.unreflectSetter(field);
+                if (isStatic) rawSetter = MethodHandles.dropArguments(rawSetter, 0, Object.class);
+                else rawSetter = rawSetter.asType(rawSetter.type().changeParameterType(0, Object.class));
+            }
+
+            this.getter = rawGetter.asType(object_getter);
+            this.setter = rawSetter == null ? null : rawSetter.asType(object_setter);
+
+            var types = PrimitiveType.values();
+            this.primitiveGetters = new MethodHandle[types.length];
+            this.primitiveSetters = new MethodHandle[types.length];
+            if (field.getType().isPrimitive())
+                for (var t : types)
+                {
+                    if (t == PrimitiveType.VOID) continue;
+                    primitiveGetters[t.ordinal()] = adapt(rawGetter, MethodType.methodType(t.primitive(), Object.class));
+                    if (rawSetter != null)
+                        primitiveSetters[t.ordinal()] = adapt(
+                                rawSetter, MethodType.methodType(void.class, Object.class, t.primitive())
+                        );
+                }
+        }
+        catch (IllegalAccessException e)
+        {
+            throw new IllegalStateException(STR."Not allowed to access field [\{field.getName()}]: \{e}");
+        }
+    }
+
+    /**
+     * @param field 字段
+     * @param <T>   字段所属类型
+     * @param <V>   字段值类型
+     * @return 字段访问器
+     * @throws IllegalStateException 字段不可访问，例如所在包未向本模块开放
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, V> FieldAccessor<T, V> of(Field field)
+    {
+        Assert.paramNotNull(field, "field");
+        return (FieldAccessor<T, V>) cache.get(field.getDeclaringClass())
+                                          .computeIfAbsent(field.getName(), _ -> new FieldAccessor<>(field));
+    }
+
+    /**
+     * @param type      字段所属类型
+     * @param name      字段名
+     * @param valueType 字段值类型，原始类型字段使用对应的包装类型
+     * @param <T>       字段所属类型
+     * @param <V>       字段值类型
+     * @return 字段访问器
+     * @throws IllegalArgumentException 指定类中不存在该字段或字段类型不匹配
+     * @throws IllegalStateException    字段不可访问
+     */
+    public static <T, V> FieldAccessor<T, V> of(Class<T> type, String name, Class<V> valueType)
+    {
+        Assert.paramNotNull(type, "type");
+        Assert.paramNotNull(name, "name");
+        Assert.paramNotNull(valueType, "valueType");
+        for (var f : FieldUtil.getFields(type))
+            if (f.getName().equals(name))
+            {
+                var fieldType = f.getType().isPrimitive() ? PrimitiveType.of(f.getType()).wrapper() : f.getType();
+                Assert.isSuper(fieldType, valueType);
+                return of(f);
+            }
+        throw new IllegalArgumentException(STR."field [\{name}] not found in class [\{type.getName()}]");
+    }
+
+    // PART ----- OBJECT -----
+
+    /**
+     * @param target 目标对象，静态字段时忽略
+     * @return 字段值，原始类型字段返回包装对象
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V get(@Nullable T target)
+    {
+        try { return (V) getter.invokeExact((Object) target); }
+        catch (Throwable e) { throw MemberUtil.unchecked(e); }
+    }
+
+    /**
+     * @param target 目标对象，静态字段时忽略
+     * @param value  字段值
+     * @throws IllegalStateException 字段为 final
+     */
+    public void set(@Nullable T target, @Nullable V value)
+    {
+        try { writable(setter).invokeExact((Object) target, (Object) value); }
+        catch (Throwable e) { throw MemberUtil.unchecked(e); }
+    }
+
+    // PART ----- PRIMITIVE -----
+
+    public boolean getBoolean(@Nullable T target)
+    {
+        try { return (boolean) readable(PrimitiveType.BOOLEAN).invokeExact((Object) target); }
+        catch (Throwable e) { throw MemberUtil.unchecked(e); }
+    }
+
+    public byte getByte(@Nullable T target)
+    {
+        try { return (byte) readable(PrimitiveType.BYTE).invokeExact((Object) target); }
+        catch (Throwable e) { throw MemberUtil.unchecked(e); }
+    }
+
+    public char getChar(@Nullable T target)
+    {
+        try { return (char) readable(PrimitiveType.CHAR).invokeExact((Object) target); }
+        catch (Throwable e) { throw MemberUtil.unchecked(e); }
+    }
+
+    public short getShort(@Nullable T target)
+    {
+        try { return (short) readable(PrimitiveType.SHORT).invokeExact((Object) target); }
+        catch (Throwable e) { throw MemberUtil.unchecked(e); }
+    }
+
+    public int getInt(@Nullable T target)
+    {
+        try { return (int) readable(PrimitiveType.INTEGER).invokeExact((Object) target); }
+        catch (Throwable e) { throw MemberUtil.unchecked(e); }
+    }
+
+    public long getLong(@Nullable T target)
+    {
+        try { return (long) readable(PrimitiveType.LONG).invokeExact((Object) target); }
+        catch (Throwable e) { throw MemberUtil.unchecked(e); }
+    }
+
+    public float getFloat(@Nullable T target)
+    {
+        try { return (float) readable(PrimitiveType.FLOAT).invokeExact((Object) target); }
+        catch (Throwable e) { throw MemberUtil.unchecked(e); }
+    }
+
+    public double getDouble(@Nullable T target)
+    {
+        try { return (double) readable(PrimitiveType.DOUBLE).invokeExact((Object) target); }
+        catch (Throwable e) { throw MemberUtil.unchecked(e); }
+    }
+
+    public void setBoolean(@Nullable T target, boolean value)
+    {
+        try { writable(PrimitiveType.BOOLEAN).invokeExact((Object) target, value); }
+        catch (Throwable e) { throw MemberUtil.unchecked(e); }
+    }
+
+    public void setByte(@Nullable T target, byte value)
+    {
+        try { writable(PrimitiveType.BYTE).invokeExact((Object) target, value); }
+        catch (Throwable e) { throw MemberUtil.unchecked(e); }
+    }
+
+    public void setChar(@Nullable T target, char value)
+    {
+        try { writable(PrimitiveType.CHAR).invokeExact((Object) target, value); }
+        catch (Throwable e) { throw MemberUtil.unchecked(e); }
+    }
+
+    public void setShort(@Nullable T target, short value)
+    {
+        try { writable(PrimitiveType.SHORT).invokeExact((Object) target, value); }
+        catch (Throwable e) { throw MemberUtil.unchecked(e); }
+    }
+
+    public void setInt(@Nullable T target, int value)
+    {
+        try { writable(PrimitiveType.INTEGER).invokeExact((Object) target, value); }
+        catch (Throwable e) { throw MemberUtil.unchecked(e); }
+    }
+
+    public void setLong(@Nullable T target, long value)
+    {
+        try { writable(PrimitiveType.LONG).invokeExact((Object) target, value); }
+        catch (Throwable e) { throw MemberUtil.unchecked(e); }
+    }
+
+    public void setFloat(@Nullable T target, float value)
+    {
+        try { writable(PrimitiveType.FLOAT).invokeExact((Object) target, value); }
+        catch (Throwable e) { throw MemberUtil.unchecked(e); }
+    }
+
+    public void setDouble(@Nullable T target, double value)
+    {
+        try { writable(PrimitiveType.DOUBLE).invokeExact((Object) target, value); }
+        catch (Throwable e) { throw MemberUtil.unchecked(e); }
+    }
+
+    // PART ----- INFO -----
+
+    /**
+     * @return 被访问的字段
+     */
+    public Field field() { return field; }
+
+    /**
+     * @return 字段是否可写
+     */
+    public boolean isWritable() { return setter != null; }
+
+    @Override public String toString() { return STR."FieldAccessor[\{field}]"; }
+
+    // PART ----- INTERNAL -----
+
+    /**
+     * 按原始类型拓宽规则适配方法句柄，例如 int 字段可通过 {@code getLong} 读取、通过 {@code setByte} 写入
+     *
+     * @return 无法适配时返回 null
+     */
+    @Nullable
+    private static MethodHandle adapt(MethodHandle handle, MethodType type)
+    {
+        try { return handle.asType(type); }
+        catch (WrongMethodTypeException _) { return null; }
+    }
+
+    private MethodHandle readable(PrimitiveType type)
+    {
+        var handle = primitiveGetters[type.ordinal()];
+        if (handle == null)
+            throw new IllegalArgumentException(
+                    STR."field [\{field.getName()}] of type [\{field.getType()}] cannot be read as \{type.primitiveName()}"
+            );
+        return handle;
+    }
+
+    private MethodHandle writable(PrimitiveType type)
+    {
+        var handle = primitiveSetters[type.ordinal()];
+        if (handle == null)
+        {
+            writable(setter);
+            throw new IllegalArgumentException(
+                    STR."field [\{field.getName()}] of type [\{field.getType()}] cannot be set as \{type.primitiveName()}"
+            );
+        }
+        return handle;
+    }
+
+    private MethodHandle writable(@Nullable MethodHandle handle)
+    {
+        if (handle == null) throw new IllegalStateException(STR."field [\{field.getName()}] is final");
+        return handle;
+    }
+}
@@ -0,0 +1,61 @@
+package jruyi.util.reflect;
+
+import jakarta.annotation.Nullable;
+
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * <h2>字段元数据</h2>
+ *
+ * @param declaringClass 声明该字段的类
+ * @param name           字段名
+ * @param type           字段类型，泛型字段为擦除后的类型
+ * @param modifiers      修饰符，参考 {@link Modifier}
+ * @param getter         读取字段值的函数，静态字段忽略目标对象参数；为 null 时通过 {@link FieldAccessor} 读取
+ * @param setter         写入字段值的函数，静态字段忽略目标对象参数；为 null 时非 final 字段通过 {@link FieldAccessor} 写入
+ * @Date 2026-10-18 16:05
+ */
+public record FieldMetadata(
+        Class<?> declaringClass, String name, Class<?> type, int modifiers,
+        @Nullable Function<Object, Object> getter, @Nullable BiConsumer<Object, Object> setter
+)
+{
+    /**
+     * @param target 目标对象，静态字段时忽略
+     * @return 字段值
+     * @throws IllegalStateException 字段不可访问
+     */
+    @Nullable
+    public Object get(@Nullable Object target)
+    {
+        return getter != null ? getter.apply(target) : accessor().get(target);
+    }
+
+    /**
+     * @param target 目标对象，静态字段时忽略
+     * @param value  字段值
+     * @throws IllegalStateException 字段为 final 或不可访问
+     */
+    public void set(@Nullable Object target, @Nullable Object value)
+    {
+        if (setter != null) setter.accept(target, value);
+        else accessor().set(target, value);
+    }
+
+    /**
+     * @return 是否为静态字段
+     */
+    public boolean isStatic() { return Modifier.isStatic(modifiers); }
+
+    /**
+     * 生成的元数据不能直接访问 private 字段，此时回退到反射访问器，访问器按字段缓存
+     */
+    private FieldAccessor<Object, Object> accessor()
+    {
+        for (var f : MemberCache.fields(declaringClass).declared())
+            if (f.getName().equals(name)) return FieldAccessor.of(f);
+        throw new IllegalStateException(STR."field [\{name}] not found in class [\{declaringClass.getName()}]");
+    }
+}
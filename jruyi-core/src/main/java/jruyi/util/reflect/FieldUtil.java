@@ -4,34 +4,58 @@ import jakarta.annotation.Nullable;
 import jruyi.util.Assert;
 
 import java.lang.reflect.Field;
-import java.util.Collections;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * <h2>{@link Field} 工具</h2>
  *
+ * <p>
+ * 返回或回调 {@link Field} 的方法只能通过反射取得字段对象，始终使用按类缓存的反射结果；
+ * 只需要字段信息时使用 {@link #getFieldMetadata(Class)}，被 {@link Reflectable} 标记的类使用编译时生成的元数据
+ * </p>
+ *
  * @Date 2024-02-21 15:39
  */
 public abstract class FieldUtil extends MemberUtil
 {
     /**
+     * <p>返回缓存的共享数组，不允许修改</p>
+     *
      * @param type 指定类
      * @return 指定类及其原型链上的所有类的所有字段的数组
      */
-    public static Field[] getFields(Class<?> type) { return getFieldList(type).toArray(Field[]::new); }
+    public static Field[] getFields(Class<?> type)
+    {
+        Assert.paramNotNull(type, "type");
+        return MemberCache.fields(type).all();
+    }
 
     /**
+     * <p>返回缓存的不可修改列表</p>
+     *
      * @param type 指定类
      * @return 指定类及其原型链上的所有类的所有字段的列表
      */
     public static List<Field> getFieldList(Class<?> type)
     {
         Assert.paramNotNull(type, "type");
-        var fields = new LinkedList<Field>();
-        for (var target = type; target != null; target = target.getSuperclass())
-            Collections.addAll(fields, type.getDeclaredFields());
-        return fields;
+        return MemberCache.fields(type).allList();
+    }
+
+    /**
+     * <p>优先使用编译时生成的元数据，参考 {@link ClassMetadata#of(Class)}，不包括 {@link Object} 声明的字段</p>
+     *
+     * @param type 指定类
+     * @return 指定类及其原型链上的所有类的所有字段的元数据，子类字段在前
+     */
+    public static List<FieldMetadata> getFieldMetadata(Class<?> type)
+    {
+        Assert.paramNotNull(type, "type");
+        var result = new ArrayList<FieldMetadata>();
+        for (var target = type; target != null && target != Object.class; target = target.getSuperclass())
+            result.addAll(ClassMetadata.of(target).fields());
+        return result;
     }
 
     /**
@@ -54,7 +78,7 @@ public abstract class FieldUtil extends MemberUtil
     {
         Assert.paramNotNull(type, "type");
         Assert.paramNotNull(consumer, "consumer");
-        for (var f : type.getDeclaredFields())
+        for (var f : MemberCache.fields(type).declared())
             if (filter == null || filter.apply(f))
                 try { consumer.accept(f); }
                 catch (IllegalAccessException e)
@@ -87,7 +111,7 @@ public abstract class FieldUtil extends MemberUtil
         Assert.paramNotNull(type, "type");
         Assert.paramNotNull(consumer, "consumer");
         for (var target = type; target != null && target != Object.class; target = target.getSuperclass())
-            for (var f : target.getDeclaredFields())
+            for (var f : MemberCache.fields(target).declared())
                 if (filter == null || filter.apply(f))
                     try { consumer.accept(f); }
                     catch (IllegalAccessException e)
@@ -0,0 +1,74 @@
+package jruyi.util.reflect;
+
+import jakarta.annotation.Nullable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * <h2>类成员缓存</h2>
+ *
+ * <p>
+ * 使用 {@link ClassValue} 按类缓存反射得到的成员，缓存随类卸载而释放；
+ * 缓存的数组在多个调用方之间共享，不允许修改
+ * </p>
+ *
+ * @param declared 类自身声明的成员
+ * @param all      类及其原型链上的所有类声明的成员，子类成员在前
+ * @param allList  {@code all} 的不可修改列表视图
+ * @param <M>      类成员类型
+ * @Date 2026-10-18 12:30
+ */
+record MemberCache<M extends Member>(M[] declared, M[] all, List<M> allList)
+{
+    private static final ClassValue<MemberCache<Field>> fields = new ClassValue<>()
+    {
+        @Override
+        protected MemberCache<Field> computeValue(Class<?> type)
+        {
+            var superclass = type.getSuperclass();
+            return of(type.getDeclaredFields(), superclass == null ? null : fields(superclass).all, Field[]::new);
+        }
+    };
+
+    private static final ClassValue<MemberCache<Method>> methods = new ClassValue<>()
+    {
+        @Override
+        protected MemberCache<Method> computeValue(Class<?> type)
+        {
+            var superclass = type.getSuperclass();
+            return of(type.getDeclaredMethods(), superclass == null ? null : methods(superclass).all, Method[]::new);
+        }
+    };
+
+    /**
+     * @param type 指定类
+     * @return 指定类的字段缓存
+     */
+    static MemberCache<Field> fields(Class<?> type) { return fields.get(type); }
+
+    /**
+     * @param type 指定类
+     * @return 指定类的方法缓存
+     */
+    static MemberCache<Method> methods(Class<?> type) { return methods.get(type); }
+
+    private static <M extends Member> MemberCache<M> of(M[] declared, @Nullable M[] inherited, IntFunction<M[]> generator)
+    {
+        M[] all;
+        if (inherited == null || inherited.length == 0) all = declared;
+        else if (declared.length == 0) all = inherited;
+        else
+        {
+            all = generator.apply(declared.length + inherited.length);
+            System.arraycopy(declared, 0, all, 0, declared.length);
+            System.arraycopy(inherited, 0, all, declared.length, inherited.length);
+        }
+        return new MemberCache<>(declared, all, Collections.unmodifiableList(Arrays.asList(all)));
+    }
+}
@@ -1,5 +1,6 @@
 package jruyi.util.reflect;
 
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Member;
 import java.lang.reflect.Modifier;
 
@@ -24,6 +25,38 @@ public abstract class MemberUtil
      */
     public static boolean isAccessible(Member m) { return !m.isSynthetic() && Modifier.isPublic(m.getModifiers()); }
 
+    /**
+     * <p>
+     * 取得用于转换指定成员的方法句柄查找对象，不修改成员的可访问标记，
+     * 成员可能是 {@link MemberCache} 中共享的对象，修改后会影响其他使用者
+     * </p>
+     *
+     * @param member 类成员
+     * @return 成员所在的包向本模块开放时为具有私有访问权限的查找对象，否则为只能访问公共成员的查找对象
+     */
+    static MethodHandles.Lookup lookup(Member member)
+    {
+        var type = member.getDeclaringClass();
+        // 具名模块默认不读取其他模块（包括未命名模块），查找对象的访问检查要求本模块可读取成员所在的模块
+        MemberUtil.class.getModule().addReads(type.getModule());
+        var lookup = MethodHandles.lookup();
+        try { return MethodHandles.privateLookupIn(type, lookup); }
+        catch (IllegalAccessException _) { return lookup; }
+    }
+
+    /**
+     * 将方法句柄调用抛出的异常转换为非受检异常，{@link Error} 直接抛出
+     *
+     * @param e 调用异常
+     * @return 运行时异常本身，或包装了受检异常的 {@link IllegalStateException}
+     */
+    static RuntimeException unchecked(Throwable e)
+    {
+        if (e instanceof RuntimeException re) return re;
+        if (e instanceof Error err) throw err;
+        return new IllegalStateException(e);
+    }
+
     /**
      * <h2>成员对象消费函数</h2>
      *
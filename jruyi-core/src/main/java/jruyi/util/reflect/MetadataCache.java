@@ -0,0 +1,69 @@
+package jruyi.util.reflect;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <h2>类元数据缓存</h2>
+ *
+ * <p>按类缓存 {@link ClassMetadata}，优先使用编译时生成的元数据类，找不到时回退到基于 {@link MemberCache} 的反射实现</p>
+ *
+ * @Date 2026-10-18 16:15
+ */
+final class MetadataCache
+{
+    private static final ClassValue<ClassMetadata> cache = new ClassValue<>()
+    {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type)
+        {
+            var generated = ClassUtil.forName(type.getName() + ClassMetadata.GENERATED_SUFFIX, type.getClassLoader());
+            if (generated != null && ClassMetadata.class.isAssignableFrom(generated))
+                try
+                {
+                    var metadata = (ClassMetadata) generated.getConstructor().newInstance();
+                    if (metadata.type() == type) return metadata;
+                }
+                catch (ReflectiveOperationException | RuntimeException _)
+                {
+                    // 生成类不可访问时回退到反射
+                }
+            return reflect(type);
+        }
+    };
+
+    private MetadataCache() { }
+
+    static ClassMetadata get(Class<?> type) { return cache.get(type); }
+
+    private static ClassMetadata reflect(Class<?> type)
+    {
+        var fields = new ArrayList<FieldMetadata>();
+        for (var f : MemberCache.fields(type).declared())
+        {
+            var modifiers = f.getModifiers();
+            fields.add(new FieldMetadata(
+                    type, f.getName(), f.getType(), modifiers,
+                    target -> FieldAccessor.of(f).get(target),
+                    Modifier.isFinal(modifiers) ? null : (target, value) -> FieldAccessor.of(f).set(target, value)
+            ));
+        }
+
+        var methods = new ArrayList<MethodMetadata>();
+        for (var m : MemberCache.methods(type).declared())
+            methods.add(new MethodMetadata(type, m.getName(), m.getParameterTypes(), m.getReturnType(), m.getModifiers()));
+
+        return new Reflected(type, Collections.unmodifiableList(fields), Collections.unmodifiableList(methods));
+    }
+
+    /**
+     * 基于反射构建的类元数据
+     */
+    private record Reflected(Class<?> type, List<FieldMetadata> fields, List<MethodMetadata> methods)
+            implements ClassMetadata
+    {
+        @Override public boolean isGenerated() { return false; }
+    }
+}
@@ -0,0 +1,338 @@
+package jruyi.util.reflect;
+
+import jakarta.annotation.Nullable;
+import jruyi.util.Assert;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h2>方法调用器</h2>
+ *
+ * <p>
+ * 按（类，方法名，参数类型）解析最具体的重载方法并缓存，解析结果绑定为 {@link MethodHandle}，
+ * 调用时不再进行访问检查；0 ~ 4 个参数的调用通过定长的 {@code invoke} 方法进行，不创建 {@code Object[]}
+ * </p>
+ *
+ * <p>静态方法的调用器忽略目标对象参数，返回值为 void 的方法调用后返回 null</p>
+ *
+ * @Date 2026-10-18 13:40
+ */
+public final class MethodInvoker
+{
+    private static final int max_fixed_arity = 4;
+
+    private static final ClassValue<ConcurrentHashMap<Object, MethodInvoker>> cache = new ClassValue<>()
+    {
+        @Override
+        protected ConcurrentHashMap<Object, MethodInvoker> computeValue(Class<?> type)
+        {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Method method;
+    private final int arity;
+    /**
+     * 类型为 {@code (Object, Object * arity)Object} 的方法句柄
+     */
+    private final MethodHandle handle;
+    /**
+     * 类型为 {@code (Object, Object[])Object} 的方法句柄
+     */
+    private final MethodHandle spreader;
+
+    private MethodInvoker(Method method)
+    {
+        this.method = method;
+        this.arity = method.getParameterCount();
+        try
+        {
+            var raw = MemberUtil.lookup(method).unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) raw = MethodHandles.dropArguments(raw, 0, Object.class);
+            // 变长参数方法按定长方法处理，变长部分需传入数组
+            raw = raw.asFixedArity();
+            this.handle = raw.asType(MethodType.genericMethodType(1 + arity));
+            this.spreader = handle.asSpreader(Object[].class, arity);
+        }
+        catch (IllegalAccessException e)
+        {
+            throw new IllegalStateException(STR."Not allowed to access method [\{method.getName()}]: \{e}");
+        }
+    }
+
+    /**
+     * @param method 方法
+     * @return 方法调用器
+     * @throws IllegalStateException 方法不可访问
+     */
+    public static MethodInvoker of(Method method)
+    {
+        Assert.paramNotNull(method, "method");
+        return cache.get(method.getDeclaringClass()).computeIfAbsent(method, _ -> new MethodInvoker(method));
+    }
+
+    /**
+     * <p>
+     * 从指定类及其原型链上的类、实现的接口中查找名称匹配、参数可接收指定参数类型的方法，
+     * 存在多个时选择最具体的方法；与编译器相同，只有不经装箱、拆箱找不到方法时才考虑装箱与拆箱转换
+     * </p>
+     *
+     * @param type     指定类
+     * @param name     方法名
+     * @param argTypes 参数类型，元素为 null 表示实参为 null，可匹配任意引用类型
+     * @return 方法调用器
+     * @throws IllegalArgumentException 找不到匹配的方法或存在多个同样具体的方法
+     * @throws IllegalStateException    方法不可访问
+     */
+    public static MethodInvoker of(Class<?> type, String name, Class<?>... argTypes)
+    {
+        Assert.paramNotNull(type, "type");
+        Assert.notBlank(name, "method name must be valid");
+        Assert.paramNotNull(argTypes, "argTypes");
+        var key = new Signature(name, Arrays.asList(argTypes.clone()));
+        var invokers = cache.get(type);
+        var cached = invokers.get(key);
+        if (cached != null) return cached;
+        // of(Method) 可能在同一个映射上写入，不能放在 computeIfAbsent 的映射函数中执行
+        var invoker = of(resolve(type, name, argTypes));
+        var previous = invokers.putIfAbsent(key, invoker);
+        return previous != null ? previous : invoker;
+    }
+
+    // PART ----- INVOKE -----
+
+    /**
+     * @param target 目标对象，静态方法时忽略
+     * @return 方法返回值
+     * @throws IllegalArgumentException 参数数量不匹配
+     */
+    @Nullable
+    public Object invoke(@Nullable Object target)
+    {
+        checkArity(0);
+        try { return handle.invokeExact(target); }
+        catch (Throwable e) { throw MemberUtil.unchecked(e); }
+    }
+
+    /**
+     * @param target 目标对象，静态方法时忽略
+     * @return 方法返回值
+     * @throws IllegalArgumentException 参数数量不匹配
+     */
+    @Nullable
+    public Object invoke(@Nullable Object target, @Nullable Object a0)
+    {
+        checkArity(1);
+        try { return handle.invokeExact(target, a0); }
+        catch (Throwable e) { throw MemberUtil.unchecked(e); }
+    }
+
+    /**
+     * @param target 目标对象，静态方法时忽略
+     * @return 方法返回值
+     * @throws IllegalArgumentException 参数数量不匹配
+     */
+    @Nullable
+    public Object invoke(@Nullable Object target, @Nullable Object a0, @Nullable Object a1)
+    {
+        checkArity(2);
+        try { return handle.invokeExact(target, a0, a1); }
+        catch (Throwable e) { throw MemberUtil.unchecked(e); }
+    }
+
+    /**
+     * @param target 目标对象，静态方法时忽略
+     * @return 方法返回值
+     * @throws IllegalArgumentException 参数数量不匹配
+     */
+    @Nullable
+    public Object invoke(@Nullable Object target, @Nullable Object a0, @Nullable Object a1, @Nullable Object a2)
+    {
+        checkArity(3);
+        try { return handle.invokeExact(target, a0, a1, a2); }
+        catch (Throwable e) { throw MemberUtil.unchecked(e); }
+    }
+
+    /**
+     * @param target 目标对象，静态方法时忽略
+     * @return 方法返回值
+     * @throws IllegalArgumentException 参数数量不匹配
+     */
+    @Nullable
+    public Object invoke(
+            @Nullable Object target, @Nullable Object a0, @Nullable Object a1, @Nullable Object a2, @Nullable Object a3
+    )
+    {
+        checkArity(max_fixed_arity);
+        try { return handle.invokeExact(target, a0, a1, a2, a3); }
+        catch (Throwable e) { throw MemberUtil.unchecked(e); }
+    }
+
+    /**
+     * 任意数量参数的调用，参数较少时优先使用定长的 {@code invoke} 方法
+     *
+     * @param target 目标对象，静态方法时忽略
+     * @param args   参数数组
+     * @return 方法返回值
+     * @throws IllegalArgumentException 参数数量不匹配
+     */
+    @Nullable
+    public Object invokeWithArguments(@Nullable Object target, Object... args)
+    {
+        checkArity(args.length);
+        try { return spreader.invokeExact(target, args); }
+        catch (Throwable e) { throw MemberUtil.unchecked(e); }
+    }
+
+    // PART ----- INFO -----
+
+    /**
+     * @return 被调用的方法
+     */
+    public Method method() { return method; }
+
+    /**
+     * @return 参数数量
+     */
+    public int arity() { return arity; }
+
+    @Override public String toString() { return STR."MethodInvoker[\{method}]"; }
+
+    // PART ----- RESOLVE -----
+
+    private void checkArity(int count)
+    {
+        if (count != arity)
+            throw new IllegalArgumentException(
+                    STR."method [\{method.getName()}] requires \{arity} arguments, but \{count} were given"
+            );
+    }
+
+    private static Method resolve(Class<?> type, String name, Class<?>[] argTypes)
+    {
+        // 与 JLS 15.12.2 一致：先只允许子类型与拓宽原始类型转换，找不到时才允许装箱与拆箱
+        var candidates = collect(type, name, argTypes, false);
+        if (candidates.isEmpty()) candidates = collect(type, name, argTypes, true);
+
+        if (candidates.isEmpty())
+            throw new IllegalArgumentException(
+                    STR."no method [\{name}] applicable to \{Arrays.toString(argTypes)} in class [\{type.getName()}]"
+            );
+
+        var best = new ArrayList<Method>();
+        for (var m : candidates)
+        {
+            var dominated = false;
+            for (var other : candidates)
+                if (other != m && isMoreSpecific(other, m) && !isMoreSpecific(m, other))
+                {
+                    dominated = true;
+                    break;
+                }
+            if (!dominated) best.add(m);
+        }
+        if (best.size() > 1)
+            throw new IllegalArgumentException(STR."ambiguous method [\{name}] in class [\{type.getName()}]: \{best}");
+        return best.getFirst();
+    }
+
+    /**
+     * @param boxing 是否允许装箱与拆箱转换
+     * @return 可接收指定参数的方法
+     */
+    private static List<Method> collect(Class<?> type, String name, Class<?>[] argTypes, boolean boxing)
+    {
+        var candidates = new ArrayList<Method>();
+        collect(candidates, MethodUtil.getMethods(type), name, argTypes, boxing);
+        // 补充接口中的公共方法，例如默认方法
+        collect(candidates, type.getMethods(), name, argTypes, boxing);
+        return candidates;
+    }
+
+    /**
+     * 收集可接收指定参数的方法，参数列表相同的方法只保留先出现的（即子类中的）方法
+     */
+    private static void collect(
+            List<Method> candidates, Method[] methods, String name, Class<?>[] argTypes, boolean boxing
+    )
+    {
+        outer:
+        for (var m : methods)
+        {
+            if (m.isBridge() || !m.getName().equals(name) || m.getParameterCount() != argTypes.length) continue;
+            var params = m.getParameterTypes();
+            for (int i = 0; i < params.length; i++)
+                if (!(boxing ? isLooseApplicable(params[i], argTypes[i]) : isApplicable(params[i], argTypes[i])))
+                    continue outer;
+            for (var c : candidates)
+                if (Arrays.equals(c.getParameterTypes(), params)) continue outer;
+            candidates.add(m);
+        }
+    }
+
+    /**
+     * 两个阶段都只按子类型关系比较，原始类型之间的拓宽视为子类型（JLS 4.10.1）
+     *
+     * @return 方法 a 的每个参数类型都是方法 b 对应参数类型的子类型
+     */
+    private static boolean isMoreSpecific(Method a, Method b)
+    {
+        var pa = a.getParameterTypes();
+        var pb = b.getParameterTypes();
+        for (int i = 0; i < pa.length; i++)
+            if (!isApplicable(pb[i], pa[i])) return false;
+        return true;
+    }
+
+    /**
+     * 严格调用上下文：只允许恒等、引用类型的拓宽与拓宽原始类型转换
+     *
+     * @param param 形参类型
+     * @param arg   实参类型，为 null 表示实参为 null
+     * @return 形参能否接收实参
+     */
+    private static boolean isApplicable(Class<?> param, @Nullable Class<?> arg)
+    {
+        if (arg == null) return !param.isPrimitive();
+        if (param.isAssignableFrom(arg)) return true;
+        return param.isPrimitive() && arg.isPrimitive() && arg != void.class
+               && PrimitiveType.of(arg).canWidenTo(PrimitiveType.of(param));
+    }
+
+    /**
+     * 宽松调用上下文：在严格调用上下文的基础上允许装箱、拆箱后再拓宽
+     *
+     * @param param 形参类型
+     * @param arg   实参类型，为 null 表示实参为 null
+     * @return 形参能否接收实参
+     */
+    private static boolean isLooseApplicable(Class<?> param, @Nullable Class<?> arg)
+    {
+        if (isApplicable(param, arg)) return true;
+        if (arg == null) return false;
+        if (param.isPrimitive())
+        {
+            // 拆箱后拓宽，例如 Integer -> int -> long
+            var from = PrimitiveType.of(arg);
+            return !arg.isPrimitive() && from != null && from.canWidenTo(PrimitiveType.of(param));
+        }
+        // 装箱后拓宽引用类型，例如 int -> Integer -> Number
+        return arg.isPrimitive() && arg != void.class && param.isAssignableFrom(PrimitiveType.of(arg).wrapper());
+    }
+
+    /**
+     * 方法解析缓存的 key
+     *
+     * @param name     方法名
+     * @param argTypes 参数类型
+     */
+    private record Signature(String name, List<Class<?>> argTypes) { }
+}
@@ -0,0 +1,23 @@
+package jruyi.util.reflect;
+
+import java.lang.reflect.Modifier;
+
+/**
+ * <h2>方法元数据</h2>
+ *
+ * @param declaringClass 声明该方法的类
+ * @param name           方法名
+ * @param parameterTypes 参数类型，泛型参数为擦除后的类型，不允许修改
+ * @param returnType     返回值类型
+ * @param modifiers      修饰符，参考 {@link Modifier}
+ * @Date 2026-10-18 16:05
+ */
+public record MethodMetadata(
+        Class<?> declaringClass, String name, Class<?>[] parameterTypes, Class<?> returnType, int modifiers
+)
+{
+    /**
+     * @return 是否为静态方法
+     */
+    public boolean isStatic() { return Modifier.isStatic(modifiers); }
+}
@@ -4,34 +4,58 @@ import jakarta.annotation.Nullable;
 import jruyi.util.Assert;
 
 import java.lang.reflect.Method;
-import java.util.Collections;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * <h2>{@link Method} 工具</h2>
  *
+ * <p>
+ * 返回或回调 {@link Method} 的方法只能通过反射取得方法对象，始终使用按类缓存的反射结果；
+ * 只需要方法信息时使用 {@link #getMethodMetadata(Class)}，被 {@link Reflectable} 标记的类使用编译时生成的元数据
+ * </p>
+ *
  * @Date 2024-03-21 11:18
  */
 public abstract class MethodUtil extends MemberUtil
 {
     /**
+     * <p>返回缓存的共享数组，不允许修改</p>
+     *
      * @param type 指定类
      * @return 指定类及其原型链上的所有类的所有方法的数组
      */
-    public static Method[] getMethods(Class<?> type) { return getMethodList(type).toArray(Method[]::new); }
+    public static Method[] getMethods(Class<?> type)
+    {
+        Assert.paramNotNull(type, "type");
+        return MemberCache.methods(type).all();
+    }
 
     /**
+     * <p>返回缓存的不可修改列表</p>
+     *
      * @param type 指定类
      * @return 指定类及其原型链上的所有类的所有方法的列表
      */
     public static List<Method> getMethodList(Class<?> type)
     {
         Assert.paramNotNull(type, "type");
-        var methods = new LinkedList<Method>();
-        for (var target = type; target != null; target = target.getSuperclass())
-            Collections.addAll(methods, type.getDeclaredMethods());
-        return methods;
+        return MemberCache.methods(type).allList();
+    }
+
+    /**
+     * <p>优先使用编译时生成的元数据，参考 {@link ClassMetadata#of(Class)}，不包括 {@link Object} 声明的方法</p>
+     *
+     * @param type 指定类
+     * @return 指定类及其原型链上的所有类的所有方法的元数据，子类方法在前
+     */
+    public static List<MethodMetadata> getMethodMetadata(Class<?> type)
+    {
+        Assert.paramNotNull(type, "type");
+        var result = new ArrayList<MethodMetadata>();
+        for (var target = type; target != null && target != Object.class; target = target.getSuperclass())
+            result.addAll(ClassMetadata.of(target).methods());
+        return result;
     }
 
     /**
@@ -59,7 +83,7 @@ public abstract class MethodUtil extends MemberUtil
     {
         Assert.paramNotNull(type, "type");
         Assert.paramNotNull(consumer, "consumer");
-        for (var m : type.getDeclaredMethods())
+        for (var m : MemberCache.methods(type).declared())
             if (filter == null || filter.apply(m))
                 try { consumer.accept(m); }
                 catch (IllegalAccessException e)
@@ -94,7 +118,7 @@ public abstract class MethodUtil extends MemberUtil
         Assert.paramNotNull(type, "type");
         Assert.paramNotNull(consumer, "consumer");
         for (var target = type; target != null && target != Object.class; target = target.getSuperclass())
-            for (var m : target.getDeclaredMethods())
+            for (var m : MemberCache.methods(target).declared())
                 if (filter == null || filter.apply(m))
                     try { consumer.accept(m); }
                     catch (IllegalAccessException e)
@@ -2,7 +2,10 @@ package jruyi.util.reflect;
 
 import jakarta.annotation.Nullable;
 import jruyi.util.Assert;
-import jruyi.util.StringUtil;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 
 /**
  * <h2>原始类型枚举</h2>
@@ -44,11 +47,45 @@ public enum PrimitiveType
     static PrimitiveType of(String name)
     {
         Assert.paramNotNull(name, "primitiveName");
-        if (!StringUtil.hasText(name)) return null;
-        for (var v : values())
-            if (v.primitiveName.equals(name) || v.wrapperName.equals(name))
-                return v;
-        return null;
+        var result = ofPrimitiveName(name);
+        if (result != null) return result;
+        return switch (name)
+        {
+            case "java.lang.Byte" -> BYTE;
+            case "java.lang.Short" -> SHORT;
+            case "java.lang.Integer" -> INTEGER;
+            case "java.lang.Long" -> LONG;
+            case "java.lang.Float" -> FLOAT;
+            case "java.lang.Double" -> DOUBLE;
+            case "java.lang.Character" -> CHAR;
+            case "java.lang.Boolean" -> BOOLEAN;
+            case "java.lang.Void" -> VOID;
+            default -> null;
+        };
+    }
+
+    /**
+     * 仅通过原始类型名获取
+     *
+     * @param name 原始类型名
+     * @return 原始类型枚举
+     */
+    @Nullable
+    static PrimitiveType ofPrimitiveName(String name)
+    {
+        return switch (name)
+        {
+            case "byte" -> BYTE;
+            case "short" -> SHORT;
+            case "int" -> INTEGER;
+            case "long" -> LONG;
+            case "float" -> FLOAT;
+            case "double" -> DOUBLE;
+            case "char" -> CHAR;
+            case "boolean" -> BOOLEAN;
+            case "void" -> VOID;
+            default -> null;
+        };
     }
 
     /**
@@ -64,10 +101,92 @@ public enum PrimitiveType
     static PrimitiveType of(Class<?> type)
     {
         Assert.paramNotNull(type, "type");
-        for (var v : values())
-            if (v.primitive == type || v.wrapper == type)
-                return v;
-        return null;
+        return Lookup.classes.get(type);
+    }
+
+    /**
+     * 判断该类型能否通过恒等或拓宽原始类型转换（JLS 5.1.2）转换为目标类型
+     *
+     * @param target 目标类型
+     * @return 能否转换
+     */
+    public boolean canWidenTo(PrimitiveType target)
+    {
+        Assert.paramNotNull(target, "target");
+        if (this == target) return true;
+        return switch (this)
+        {
+            case BYTE -> target == SHORT || target == INTEGER || target == LONG || target == FLOAT || target == DOUBLE;
+            case SHORT, CHAR -> target == INTEGER || target == LONG || target == FLOAT || target == DOUBLE;
+            case INTEGER -> target == LONG || target == FLOAT || target == DOUBLE;
+            case LONG -> target == FLOAT || target == DOUBLE;
+            case FLOAT -> target == DOUBLE;
+            case DOUBLE, BOOLEAN, VOID -> false;
+        };
+    }
+
+    // PART ----- CONVERSION -----
+
+    /**
+     * @return 类型为 {@code (primitive)wrapper} 的装箱方法句柄
+     * @throws UnsupportedOperationException 该类型为 {@link #VOID}
+     */
+    public MethodHandle boxing() { return Conversions.boxing[checkValue(this).ordinal()]; }
+
+    /**
+     * @return 类型为 {@code (wrapper)primitive} 的拆箱方法句柄，参数为 null 时抛出 {@link NullPointerException}
+     * @throws UnsupportedOperationException 该类型为 {@link #VOID}
+     */
+    public MethodHandle unboxing() { return Conversions.unboxing[checkValue(this).ordinal()]; }
+
+    /**
+     * <p>
+     * 获取两个原始类型之间的转换方法句柄，类型为 {@code (from.primitive)to.primitive}，
+     * 执行恒等、拓宽或窄化原始类型转换（JLS 5.5 强制类型转换）
+     * </p>
+     *
+     * @param from 源类型
+     * @param to   目标类型
+     * @return 转换方法句柄
+     * @throws IllegalArgumentException      boolean 与数值类型之间转换
+     * @throws UnsupportedOperationException 任意类型为 {@link #VOID}
+     */
+    public static MethodHandle converter(PrimitiveType from, PrimitiveType to)
+    {
+        return checkConvertible(Conversions.primitive, from, to);
+    }
+
+    /**
+     * <p>
+     * 获取两个原始类型的包装类型之间的转换方法句柄，类型为 {@code (Object)Object}，
+     * 依次执行拆箱、{@link #converter(PrimitiveType, PrimitiveType)} 转换、装箱，参数为 null 时抛出 {@link NullPointerException}
+     * </p>
+     *
+     * @param from 源类型
+     * @param to   目标类型
+     * @return 转换方法句柄
+     * @throws IllegalArgumentException      boolean 与数值类型之间转换
+     * @throws UnsupportedOperationException 任意类型为 {@link #VOID}
+     */
+    public static MethodHandle boxedConverter(PrimitiveType from, PrimitiveType to)
+    {
+        return checkConvertible(Conversions.boxed, from, to);
+    }
+
+    private static PrimitiveType checkValue(PrimitiveType type)
+    {
+        if (type == VOID) throw new UnsupportedOperationException("void has no value to convert");
+        return type;
+    }
+
+    private static MethodHandle checkConvertible(MethodHandle[][] table, PrimitiveType from, PrimitiveType to)
+    {
+        Assert.paramNotNull(from, "from");
+        Assert.paramNotNull(to, "to");
+        var handle = table[checkValue(from).ordinal()][checkValue(to).ordinal()];
+        if (handle == null)
+            throw new IllegalArgumentException(STR."cannot convert \{from.primitiveName} to \{to.primitiveName}");
+        return handle;
     }
 
     public String primitiveName() { return primitiveName; }
@@ -77,4 +196,62 @@ public enum PrimitiveType
     public Class<?> primitive() { return primitive; }
 
     public Class<?> wrapper() { return wrapper; }
-}
\ No newline at end of file
+
+    /**
+     * 类型查找表，枚举常量初始化完成后才能创建
+     */
+    private static final class Lookup
+    {
+        static final ClassValue<PrimitiveType> classes = new ClassValue<>()
+        {
+            @Override
+            @Nullable
+            protected PrimitiveType computeValue(Class<?> type)
+            {
+                for (var v : values())
+                    if (v.primitive == type || v.wrapper == type)
+                        return v;
+                return null;
+            }
+        };
+    }
+
+    /**
+     * 预先计算的转换方法句柄表，按 {@link #ordinal()} 索引，{@link #VOID} 与不可转换的位置为 null
+     */
+    private static final class Conversions
+    {
+        static final MethodHandle[] boxing, unboxing;
+        static final MethodHandle[][] primitive, boxed;
+
+        static
+        {
+            var types = values();
+            boxing = new MethodHandle[types.length];
+            unboxing = new MethodHandle[types.length];
+            primitive = new MethodHandle[types.length][types.length];
+            boxed = new MethodHandle[types.length][types.length];
+
+            for (var t : types)
+            {
+                if (t == VOID) continue;
+                var identity = MethodHandles.identity(t.primitive);
+                boxing[t.ordinal()] = identity.asType(MethodType.methodType(t.wrapper, t.primitive));
+                unboxing[t.ordinal()] = identity.asType(MethodType.methodType(t.primitive, t.wrapper));
+            }
+
+            for (var from : types)
+                for (var to : types)
+                {
+                    if (from == VOID || to == VOID || (from == BOOLEAN) != (to == BOOLEAN)) continue;
+                    var cast = MethodHandles.explicitCastArguments(
+                            MethodHandles.identity(from.primitive), MethodType.methodType(to.primitive, from.primitive)
+                    );
+                    primitive[from.ordinal()][to.ordinal()] = cast;
+                    boxed[from.ordinal()][to.ordinal()] = MethodHandles.filterReturnValue(
+                            MethodHandles.filterArguments(cast, 0, unboxing[from.ordinal()]), boxing[to.ordinal()]
+                    ).asType(MethodType.genericMethodType(1));
+                }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package jruyi.util.reflect;
+
+import java.lang.annotation.*;
+
+/**
+ * <h2>生成反射元数据</h2>
+ *
+ * <p>
+ * 标记的类在编译时由 jruyi-processor 生成 {@code 类名$$Metadata} 元数据类，
+ * 运行时 {@link ClassMetadata#of(Class)} 优先使用生成的元数据，找不到时回退到反射
+ * </p>
+ *
+ * @Date 2026-10-18 16:05
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface Reflectable { }
@@ -0,0 +1,290 @@
+package jruyi.util.sketch;
+
+import jruyi.util.Assert;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteOrder;
+
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+import static java.lang.foreign.ValueLayout.JAVA_LONG_UNALIGNED;
+
+/**
+ * <h2>分块布隆过滤器</h2>
+ *
+ * <p>
+ * 位数组被划分为 512 位（一个缓存行）的块，每个元素只落在一个块内，一次查询只访问一个缓存行；
+ * 块内的各个位置取自对哈希值再次散列得到的独立位段；块的数量按泊松分布下分块过滤器的实际误判率计算，
+ * 而不是按普通布隆过滤器的公式，保证误判率不超过指定值
+ * </p>
+ *
+ * <p>
+ * 位数组默认在堆上分配；通过 {@link #create(Arena, long, double)} 可以在堆外分配并按缓存行对齐，
+ * 其生命周期由 Arena 管理；相同参数创建的过滤器可以 {@link #merge(BloomFilter) 合并}
+ * </p>
+ *
+ * <p>非线程安全：多线程写入时每个线程使用各自的过滤器，再合并到一起</p>
+ *
+ * @Date 2026-10-18 21:50
+ */
+public final class BloomFilter
+{
+    private static final int block_bits = 512;
+    private static final int block_words = block_bits / Long.SIZE;
+    private static final long block_bytes = block_bits / Byte.SIZE;
+    private static final int max_hashes = 16;
+
+    private final MemorySegment words;
+    private final long blocks;
+    private final int hashes;
+
+    private BloomFilter(MemorySegment words, long blocks, int hashes)
+    {
+        this.words = words;
+        this.blocks = blocks;
+        this.hashes = hashes;
+    }
+
+    // PART ----- FACTORY -----
+
+    /**
+     * @param expectedInsertions 预期插入的元素数量
+     * @param fpp                插入预期数量的元素后允许的误判率，取值范围 (0, 1)
+     * @return 在堆上分配的过滤器
+     */
+    public static BloomFilter create(long expectedInsertions, double fpp)
+    {
+        var hashes = hashes(fpp);
+        var blocks = blocks(expectedInsertions, fpp, hashes);
+        Assert.asserts(
+                blocks <= Integer.MAX_VALUE / block_words,
+                STR."filter is too large for the heap, allocate it off-heap: [\{blocks}] blocks"
+        );
+        return new BloomFilter(MemorySegment.ofArray(new long[(int) blocks * block_words]), blocks, hashes);
+    }
+
+    /**
+     * @param arena              内存来源，需要支持过滤器被访问的线程
+     * @param expectedInsertions 预期插入的元素数量
+     * @param fpp                插入预期数量的元素后允许的误判率，取值范围 (0, 1)
+     * @return 在堆外分配、按缓存行对齐的过滤器
+     */
+    public static BloomFilter create(Arena arena, long expectedInsertions, double fpp)
+    {
+        Assert.paramNotNull(arena, "arena");
+        var hashes = hashes(fpp);
+        var blocks = blocks(expectedInsertions, fpp, hashes);
+        return new BloomFilter(arena.allocate(blocks * block_bytes, block_bytes), blocks, hashes);
+    }
+
+    /**
+     * @param bytes {@link #toByteArray()} 的结果
+     * @return 在堆上分配的过滤器
+     */
+    public static BloomFilter fromByteArray(byte[] bytes)
+    {
+        var buffer = Sketches.reader(bytes, Sketches.type_bloom);
+        var hashes = buffer.getInt();
+        var blocks = buffer.getLong();
+        checkShape(blocks, hashes);
+        Assert.asserts(blocks <= Integer.MAX_VALUE / block_words, "filter is too large for the heap");
+        Sketches.checkRemaining(buffer, blocks * block_bytes);
+        var filter = new BloomFilter(MemorySegment.ofArray(new long[(int) blocks * block_words]), blocks, hashes);
+        filter.readWords(bytes, buffer.position());
+        return filter;
+    }
+
+    /**
+     * @param arena 内存来源
+     * @param bytes {@link #toByteArray()} 的结果
+     * @return 在堆外分配的过滤器
+     */
+    public static BloomFilter fromByteArray(Arena arena, byte[] bytes)
+    {
+        Assert.paramNotNull(arena, "arena");
+        var buffer = Sketches.reader(bytes, Sketches.type_bloom);
+        var hashes = buffer.getInt();
+        var blocks = buffer.getLong();
+        checkShape(blocks, hashes);
+        Sketches.checkRemaining(buffer, blocks * block_bytes);
+        var filter = new BloomFilter(arena.allocate(blocks * block_bytes, block_bytes), blocks, hashes);
+        filter.readWords(bytes, buffer.position());
+        return filter;
+    }
+
+    private static void checkShape(long blocks, int hashes)
+    {
+        Assert.asserts(
+                blocks > 0 && hashes > 0 && hashes <= max_hashes,
+                "serialized bloom filter is truncated or corrupted"
+        );
+    }
+
+    /**
+     * @return 按普通布隆过滤器的最优值确定的块内哈希次数
+     */
+    private static int hashes(double fpp)
+    {
+        Assert.asserts(fpp > 0 && fpp < 1, STR."false positive probability must be in (0, 1): [\{fpp}]");
+        var bitsPerKey = -Math.log(fpp) / (Math.log(2) * Math.log(2));
+        return Math.clamp(Math.round(bitsPerKey * Math.log(2)), 1, max_hashes);
+    }
+
+    /**
+     * 从普通布隆过滤器所需的位数开始，逐步增加块的数量直至分块后的误判率不超过指定值
+     */
+    private static long blocks(long expectedInsertions, double fpp, int hashes)
+    {
+        Assert.asserts(
+                expectedInsertions >= 0,
+                STR."expected insertions must not be negative: [\{expectedInsertions}]"
+        );
+        var bitsPerKey = -Math.log(fpp) / (Math.log(2) * Math.log(2));
+        var blocks = Math.max(1, (long) Math.ceil(expectedInsertions * bitsPerKey / block_bits));
+        while (falsePositiveRate(expectedInsertions, blocks, hashes) > fpp) blocks += (blocks >> 5) + 1;
+        Assert.asserts(blocks <= Long.MAX_VALUE / block_bytes, "expected insertions is too large");
+        return blocks;
+    }
+
+    /**
+     * 每个块内的元素数量服从均值为 n / blocks 的泊松分布，误判率为各负载下块内误判率的期望
+     */
+    private static double falsePositiveRate(long insertions, long blocks, int hashes)
+    {
+        var mean = (double) insertions / blocks;
+        var limit = (long) Math.ceil(mean + 12 * Math.sqrt(mean) + 20);
+        var bitMiss = 1 - 1.0 / block_bits;
+        var probability = Math.exp(-mean);
+        var rate = 0.0;
+        for (long i = 0; i <= limit; i++)
+        {
+            if (i > 0) probability *= mean / i;
+            rate += probability * Math.pow(1 - Math.pow(bitMiss, (double) i * hashes), hashes);
+        }
+        return rate;
+    }
+
+    // PART ----- OPERATION -----
+
+    /**
+     * @return 是否有位被改变；返回 false 时元素可能已经存在
+     */
+    public boolean put(long value) { return putHash(Sketches.hash(value)); }
+
+    public boolean put(byte[] bytes) { return putHash(Sketches.hash(bytes)); }
+
+    public boolean put(CharSequence chars) { return putHash(Sketches.hash(chars)); }
+
+    /**
+     * @return 元素是否可能存在；返回 false 时一定不存在
+     */
+    public boolean mightContain(long value) { return containsHash(Sketches.hash(value)); }
+
+    public boolean mightContain(byte[] bytes) { return containsHash(Sketches.hash(bytes)); }
+
+    public boolean mightContain(CharSequence chars) { return containsHash(Sketches.hash(chars)); }
+
+    private boolean putHash(long hash)
+    {
+        var base = Math.unsignedMultiplyHigh(hash, blocks) * block_bytes;
+        var h = hash;
+        var changed = false;
+        for (int i = 0; i < hashes; i++)
+        {
+            // 每个 64 位哈希值提供 7 个 9 位的块内位置，用完后再次散列
+            if (i % 7 == 0) h = Sketches.hash(h);
+            var bit = (int) (h >>> i % 7 * 9) & block_bits - 1;
+            var offset = base + (long) (bit >>> 6) * Long.BYTES;
+            var word = words.get(JAVA_LONG, offset);
+            var updated = word | 1L << bit;
+            if (updated != word)
+            {
+                words.set(JAVA_LONG, offset, updated);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private boolean containsHash(long hash)
+    {
+        var base = Math.unsignedMultiplyHigh(hash, blocks) * block_bytes;
+        var h = hash;
+        for (int i = 0; i < hashes; i++)
+        {
+            if (i % 7 == 0) h = Sketches.hash(h);
+            var bit = (int) (h >>> i % 7 * 9) & block_bits - 1;
+            if ((words.get(JAVA_LONG, base + (long) (bit >>> 6) * Long.BYTES) & 1L << bit) == 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * 把另一个过滤器中的元素合并到当前过滤器
+     *
+     * @param other 以相同参数创建的过滤器
+     * @return 当前过滤器
+     */
+    public BloomFilter merge(BloomFilter other)
+    {
+        Assert.paramNotNull(other, "other");
+        Assert.asserts(
+                other.blocks == blocks && other.hashes == hashes,
+                "bloom filters must be created with the same parameters to be merged"
+        );
+        for (long offset = 0, size = words.byteSize(); offset < size; offset += Long.BYTES)
+            words.set(JAVA_LONG, offset, words.get(JAVA_LONG, offset) | other.words.get(JAVA_LONG, offset));
+        return this;
+    }
+
+    public void clear() { words.fill((byte) 0); }
+
+    // PART ----- STATE -----
+
+    public long bitSize() { return blocks * block_bits; }
+
+    public int hashes() { return hashes; }
+
+    /**
+     * @return 按当前置位比例估计的误判率
+     */
+    public double expectedFpp()
+    {
+        var set = 0L;
+        for (long offset = 0, size = words.byteSize(); offset < size; offset += Long.BYTES)
+            set += Long.bitCount(words.get(JAVA_LONG, offset));
+        return Math.pow((double) set / bitSize(), hashes);
+    }
+
+    public boolean isOffHeap() { return words.isNative(); }
+
+    // PART ----- SERIALIZATION -----
+
+    /**
+     * @return 小端序的序列化数据，可在不同平台间传递
+     */
+    public byte[] toByteArray()
+    {
+        var buffer = Sketches.writer(Sketches.type_bloom, Integer.BYTES + Long.BYTES + words.byteSize());
+        buffer.putInt(hashes).putLong(blocks);
+        var bytes = buffer.array();
+        MemorySegment.copy(
+                words, JAVA_LONG, 0,
+                MemorySegment.ofArray(bytes), JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN), buffer.position(),
+                words.byteSize() / Long.BYTES
+        );
+        return bytes;
+    }
+
+    private void readWords(byte[] bytes, int offset)
+    {
+        MemorySegment.copy(
+                MemorySegment.ofArray(bytes), JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN), offset,
+                words, JAVA_LONG, 0,
+                words.byteSize() / Long.BYTES
+        );
+    }
+
+    @Override
+    public String toString() { return STR."BloomFilter[bits=\{bitSize()}, hashes=\{hashes}]"; }
+}
@@ -0,0 +1,249 @@
+package jruyi.util.sketch;
+
+import jruyi.util.Assert;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteOrder;
+
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+import static java.lang.foreign.ValueLayout.JAVA_LONG_UNALIGNED;
+
+/**
+ * <h2>Count-Min 频率估计</h2>
+ *
+ * <p>
+ * depth 行、每行 width 个计数器，元素在每行落入一个计数器，估计值取各行计数的最小值：
+ * 估计值不会小于真实值，以 1 - δ 的概率不超过真实值 + ε × 总数，其中 width = ⌈e / ε⌉，depth = ⌈ln(1 / δ)⌉；
+ * 结合 {@link #isHeavyHitter(long, double)} 可以在不保存元素的情况下识别高频元素
+ * </p>
+ *
+ * <p>
+ * 计数器默认在堆上分配，通过 {@link #create(Arena, double, double)} 可以在堆外分配；
+ * 相同参数创建的实例可以 {@link #merge(CountMinSketch) 合并}，结果等价于把所有计数加入同一个实例
+ * </p>
+ *
+ * <p>非线程安全：多线程写入时每个线程使用各自的实例，再合并到一起</p>
+ *
+ * @Date 2026-10-18 21:50
+ */
+public final class CountMinSketch
+{
+    private static final int max_depth = 32;
+
+    private final MemorySegment counters;
+    private final int width;
+    private final int depth;
+    private long totalCount;
+
+    private CountMinSketch(MemorySegment counters, int width, int depth)
+    {
+        this.counters = counters;
+        this.width = width;
+        this.depth = depth;
+    }
+
+    // PART ----- FACTORY -----
+
+    /**
+     * @param epsilon    相对于总数的误差上限，取值范围 (0, 1)
+     * @param confidence 估计值不超过误差上限的概率，取值范围 (0, 1)
+     * @return 在堆上分配的实例
+     */
+    public static CountMinSketch create(double epsilon, double confidence)
+    {
+        var width = width(epsilon);
+        var depth = depth(confidence);
+        Assert.asserts(
+                (long) width * depth <= Integer.MAX_VALUE - 8,
+                STR."sketch is too large for the heap, allocate it off-heap: [\{width} x \{depth}]"
+        );
+        return new CountMinSketch(MemorySegment.ofArray(new long[width * depth]), width, depth);
+    }
+
+    /**
+     * @param arena      内存来源，需要支持实例被访问的线程
+     * @param epsilon    相对于总数的误差上限，取值范围 (0, 1)
+     * @param confidence 估计值不超过误差上限的概率，取值范围 (0, 1)
+     * @return 在堆外分配的实例
+     */
+    public static CountMinSketch create(Arena arena, double epsilon, double confidence)
+    {
+        Assert.paramNotNull(arena, "arena");
+        var width = width(epsilon);
+        var depth = depth(confidence);
+        return new CountMinSketch(arena.allocate((long) width * depth * Long.BYTES, Long.BYTES), width, depth);
+    }
+
+    /**
+     * @param bytes {@link #toByteArray()} 的结果
+     * @return 在堆上分配的实例
+     */
+    public static CountMinSketch fromByteArray(byte[] bytes)
+    {
+        var buffer = Sketches.reader(bytes, Sketches.type_count_min);
+        Assert.asserts(buffer.remaining() >= 2 * Integer.BYTES + Long.BYTES, "serialized sketch is truncated");
+        var width = buffer.getInt();
+        var depth = buffer.getInt();
+        var total = buffer.getLong();
+        Assert.asserts(
+                width > 0 && depth > 0 && depth <= max_depth && total >= 0,
+                "serialized count-min sketch is corrupted"
+        );
+        Sketches.checkRemaining(buffer, (long) width * depth * Long.BYTES);
+        var sketch = new CountMinSketch(MemorySegment.ofArray(new long[width * depth]), width, depth);
+        sketch.totalCount = total;
+        MemorySegment.copy(
+                MemorySegment.ofArray(bytes), JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN), buffer.position(),
+                sketch.counters, JAVA_LONG, 0,
+                (long) width * depth
+        );
+        return sketch;
+    }
+
+    private static int width(double epsilon)
+    {
+        Assert.asserts(epsilon > 0 && epsilon < 1, STR."epsilon must be in (0, 1): [\{epsilon}]");
+        var width = Math.ceil(Math.E / epsilon);
+        Assert.asserts(width <= Integer.MAX_VALUE, STR."epsilon is too small: [\{epsilon}]");
+        return (int) width;
+    }
+
+    private static int depth(double confidence)
+    {
+        Assert.asserts(confidence > 0 && confidence < 1, STR."confidence must be in (0, 1): [\{confidence}]");
+        return Math.clamp((long) Math.ceil(-Math.log(1 - confidence)), 1, max_depth);
+    }
+
+    // PART ----- OPERATION -----
+
+    /**
+     * @param count 增加的计数，不能为负数
+     * @return 增加后的估计值
+     */
+    public long add(long value, long count) { return addHash(Sketches.hash(value), count); }
+
+    public long add(byte[] bytes, long count) { return addHash(Sketches.hash(bytes), count); }
+
+    public long add(CharSequence chars, long count) { return addHash(Sketches.hash(chars), count); }
+
+    /**
+     * @return 计数的估计值，不小于真实值
+     */
+    public long estimate(long value) { return estimateHash(Sketches.hash(value)); }
+
+    public long estimate(byte[] bytes) { return estimateHash(Sketches.hash(bytes)); }
+
+    public long estimate(CharSequence chars) { return estimateHash(Sketches.hash(chars)); }
+
+    /**
+     * @param fraction 占总数的比例，取值范围 (0, 1]
+     * @return 元素的估计计数是否达到总数的该比例；估计值偏大，可能把低频元素误判为高频元素
+     */
+    public boolean isHeavyHitter(long value, double fraction)
+    {
+        Assert.asserts(fraction > 0 && fraction <= 1, STR."fraction must be in (0, 1]: [\{fraction}]");
+        return estimate(value) >= fraction * totalCount;
+    }
+
+    private long addHash(long hash, long count)
+    {
+        Assert.asserts(count >= 0, STR."count must not be negative: [\{count}]");
+        int h1 = (int) hash, h2 = (int) (hash >>> 32);
+        var min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++)
+        {
+            var offset = offset(row, h1 + row * h2);
+            var updated = saturatedAdd(counters.get(JAVA_LONG, offset), count);
+            counters.set(JAVA_LONG, offset, updated);
+            min = Math.min(min, updated);
+        }
+        totalCount = saturatedAdd(totalCount, count);
+        return min;
+    }
+
+    private long estimateHash(long hash)
+    {
+        int h1 = (int) hash, h2 = (int) (hash >>> 32);
+        var min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) min = Math.min(min, counters.get(JAVA_LONG, offset(row, h1 + row * h2)));
+        return min;
+    }
+
+    /**
+     * @param h 行内的哈希值，按乘法映射到 [0, width)
+     */
+    private long offset(int row, int h)
+    {
+        var column = (h & 0xFFFFFFFFL) * width >>> 32;
+        return ((long) row * width + column) * Long.BYTES;
+    }
+
+    private static long saturatedAdd(long a, long b)
+    {
+        var sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    /**
+     * 把另一个实例的计数合并到当前实例
+     *
+     * @param other 以相同参数创建的实例
+     * @return 当前实例
+     */
+    public CountMinSketch merge(CountMinSketch other)
+    {
+        Assert.paramNotNull(other, "other");
+        Assert.asserts(
+                other.width == width && other.depth == depth,
+                "count-min sketches must be created with the same parameters to be merged"
+        );
+        for (long offset = 0, size = counters.byteSize(); offset < size; offset += Long.BYTES)
+        {
+            var sum = saturatedAdd(counters.get(JAVA_LONG, offset), other.counters.get(JAVA_LONG, offset));
+            counters.set(JAVA_LONG, offset, sum);
+        }
+        totalCount = saturatedAdd(totalCount, other.totalCount);
+        return this;
+    }
+
+    public void clear()
+    {
+        counters.fill((byte) 0);
+        totalCount = 0;
+    }
+
+    // PART ----- STATE -----
+
+    /**
+     * @return 所有计数的总和
+     */
+    public long totalCount() { return totalCount; }
+
+    public int width() { return width; }
+
+    public int depth() { return depth; }
+
+    public boolean isOffHeap() { return counters.isNative(); }
+
+    // PART ----- SERIALIZATION -----
+
+    /**
+     * @return 小端序的序列化数据，可在不同平台间传递
+     */
+    public byte[] toByteArray()
+    {
+        var buffer = Sketches.writer(Sketches.type_count_min, 2 * Integer.BYTES + Long.BYTES + counters.byteSize());
+        buffer.putInt(width).putInt(depth).putLong(totalCount);
+        var bytes = buffer.array();
+        MemorySegment.copy(
+                counters, JAVA_LONG, 0,
+                MemorySegment.ofArray(bytes), JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN), buffer.position(),
+                counters.byteSize() / Long.BYTES
+        );
+        return bytes;
+    }
+
+    @Override
+    public String toString() { return STR."CountMinSketch[width=\{width}, depth=\{depth}, total=\{totalCount}]"; }
+}
@@ -0,0 +1,286 @@
+package jruyi.util.sketch;
+
+import jakarta.annotation.Nullable;
+import jruyi.util.Assert;
+
+import java.util.Arrays;
+
+/**
+ * <h2>HyperLogLog 基数估计</h2>
+ *
+ * <p>
+ * 以 2<sup>p</sup> 个寄存器估计不同元素的数量，标准误差约为 1.04 / √2<sup>p</sup>；
+ * 元素较少时使用稀疏编码，只保存非零寄存器的「下标与秩」，每项 4 字节，并按线性计数估计；
+ * 非零寄存器超过 2<sup>p</sup> / 4 个后转换为每个寄存器 1 字节的稠密编码，之后不再转换回稀疏编码
+ * </p>
+ *
+ * <p>
+ * 相同精度的实例可以 {@link #merge(HyperLogLog) 合并}，结果等价于把所有元素加入同一个实例；
+ * 稠密编码最多占用 256 KiB，总在堆上分配
+ * </p>
+ *
+ * <p>非线程安全：多线程写入时每个线程使用各自的实例，再合并到一起</p>
+ *
+ * @Date 2026-10-18 21:50
+ */
+public final class HyperLogLog
+{
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 18;
+    public static final int DEFAULT_PRECISION = 14;
+
+    private static final byte sparse_encoding = 0;
+    private static final byte dense_encoding = 1;
+
+    private final int precision;
+
+    /**
+     * 稠密编码的寄存器，稀疏编码时为 null
+     */
+    @Nullable private byte[] registers;
+
+    /**
+     * 稀疏编码的条目：下标 &lt;&lt; 8 | 秩；前 {@link #sorted} 个有序且下标不重复，之后为未整理的新条目
+     */
+    private int[] sparse;
+    private int sparseSize;
+    private int sorted;
+
+    private HyperLogLog(int precision)
+    {
+        this.precision = precision;
+        this.sparse = new int[16];
+    }
+
+    // PART ----- FACTORY -----
+
+    /**
+     * @return 精度为 {@value #DEFAULT_PRECISION}，标准误差约 0.81% 的实例
+     */
+    public static HyperLogLog create() { return new HyperLogLog(DEFAULT_PRECISION); }
+
+    /**
+     * @param precision 精度 p，寄存器数量为 2<sup>p</sup>，取值范围 [{@value #MIN_PRECISION}, {@value #MAX_PRECISION}]
+     */
+    public static HyperLogLog create(int precision)
+    {
+        Assert.asserts(
+                precision >= MIN_PRECISION && precision <= MAX_PRECISION,
+                STR."precision must be in [\{MIN_PRECISION}, \{MAX_PRECISION}]: [\{precision}]"
+        );
+        return new HyperLogLog(precision);
+    }
+
+    /**
+     * @param bytes {@link #toByteArray()} 的结果
+     */
+    public static HyperLogLog fromByteArray(byte[] bytes)
+    {
+        var buffer = Sketches.reader(bytes, Sketches.type_hyper_log_log);
+        var corrupted = "serialized hyper log log is truncated or corrupted";
+        Assert.asserts(buffer.remaining() >= 2, corrupted);
+        var precision = (int) buffer.get();
+        var encoding = buffer.get();
+        Assert.asserts(precision >= MIN_PRECISION && precision <= MAX_PRECISION, corrupted);
+        var hll = new HyperLogLog(precision);
+        var maxRank = 65 - precision;
+        if (encoding == dense_encoding)
+        {
+            Sketches.checkRemaining(buffer, 1L << precision);
+            var registers = new byte[1 << precision];
+            buffer.get(registers);
+            for (var r : registers) Assert.asserts(r >= 0 && r <= maxRank, corrupted);
+            hll.registers = registers;
+            return hll;
+        }
+        Assert.asserts(encoding == sparse_encoding && buffer.remaining() >= Integer.BYTES, corrupted);
+        var size = buffer.getInt();
+        Assert.asserts(size >= 0 && size <= 1 << precision, corrupted);
+        Sketches.checkRemaining(buffer, (long) size * Integer.BYTES);
+        hll.sparse = new int[Math.max(size, 16)];
+        for (int i = 0; i < size; i++)
+        {
+            var entry = buffer.getInt();
+            Assert.asserts(entry >>> 8 < 1 << precision && (entry & 0xFF) > 0 && (entry & 0xFF) <= maxRank, corrupted);
+            hll.sparse[i] = entry;
+        }
+        hll.sparseSize = size;
+        hll.compact();
+        return hll;
+    }
+
+    // PART ----- OPERATION -----
+
+    public void add(long value) { addHash(Sketches.hash(value)); }
+
+    public void add(byte[] bytes) { addHash(Sketches.hash(bytes)); }
+
+    public void add(CharSequence chars) { addHash(Sketches.hash(chars)); }
+
+    private void addHash(long hash)
+    {
+        var index = (int) (hash >>> (64 - precision));
+        var rank = Long.numberOfLeadingZeros(hash << precision | 1L << (precision - 1)) + 1;
+        update(index, rank);
+    }
+
+    private void update(int index, int rank)
+    {
+        var registers = this.registers;
+        if (registers != null)
+        {
+            if (registers[index] < rank) registers[index] = (byte) rank;
+            return;
+        }
+        if (sparseSize == sparse.length)
+        {
+            compact();
+            if (this.registers != null)
+            {
+                update(index, rank);
+                return;
+            }
+            // 条目数量不超过 2^p / 4，稀疏数组不需要更大
+            if (sparseSize * 2 > sparse.length)
+                sparse = Arrays.copyOf(sparse, Math.min(sparse.length * 2, (1 << precision) / 4 + 1));
+        }
+        sparse[sparseSize++] = index << 8 | rank;
+    }
+
+    /**
+     * 整理稀疏条目：排序后每个下标只保留最大的秩；条目过多时转换为稠密编码
+     */
+    private void compact()
+    {
+        if (sorted == sparseSize) return;
+        Arrays.sort(sparse, 0, sparseSize);
+        var n = 0;
+        for (int i = 0; i < sparseSize; i++)
+        {
+            // 同一下标的条目按秩升序相邻，保留最后一个
+            if (n > 0 && sparse[n - 1] >>> 8 == sparse[i] >>> 8) sparse[n - 1] = sparse[i];
+            else sparse[n++] = sparse[i];
+        }
+        sparseSize = sorted = n;
+        if (n > (1 << precision) / 4) toDense();
+    }
+
+    private void toDense()
+    {
+        var registers = new byte[1 << precision];
+        for (int i = 0; i < sparseSize; i++)
+        {
+            var entry = sparse[i];
+            var rank = (byte) entry;
+            if (registers[entry >>> 8] < rank) registers[entry >>> 8] = rank;
+        }
+        this.registers = registers;
+        sparse = new int[0];
+        sparseSize = sorted = 0;
+    }
+
+    /**
+     * 把另一个实例中的元素合并到当前实例
+     *
+     * @param other 相同精度的实例
+     * @return 当前实例
+     */
+    public HyperLogLog merge(HyperLogLog other)
+    {
+        Assert.paramNotNull(other, "other");
+        Assert.asserts(
+                other.precision == precision,
+                STR."precision mismatch: [\{precision}] and [\{other.precision}]"
+        );
+        if (other == this) return this;
+        var source = other.registers;
+        if (source == null)
+        {
+            for (int i = 0; i < other.sparseSize; i++) update(other.sparse[i] >>> 8, other.sparse[i] & 0xFF);
+            return this;
+        }
+        if (registers == null) toDense();
+        var registers = this.registers;
+        for (int i = 0; i < registers.length; i++) if (registers[i] < source[i]) registers[i] = source[i];
+        return this;
+    }
+
+    // PART ----- ESTIMATE -----
+
+    /**
+     * @return 不同元素数量的估计值
+     */
+    public long cardinality()
+    {
+        var m = 1 << precision;
+        var registers = this.registers;
+        if (registers == null)
+        {
+            compact();
+            registers = this.registers;
+            if (registers == null) return Math.round(linearCounting(m, m - sparseSize));
+        }
+        var sum = 0.0;
+        var zeros = 0;
+        for (var r : registers)
+        {
+            sum += Double.longBitsToDouble((1023L - r) << 52);
+            if (r == 0) zeros++;
+        }
+        var estimate = alpha(m) * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) estimate = linearCounting(m, zeros);
+        return Math.round(estimate);
+    }
+
+    private static double linearCounting(int m, int zeros) { return m * Math.log((double) m / zeros); }
+
+    private static double alpha(int m)
+    {
+        return switch (m)
+        {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / m);
+        };
+    }
+
+    // PART ----- STATE -----
+
+    public int precision() { return precision; }
+
+    /**
+     * @return 估计值的标准误差
+     */
+    public double relativeError() { return 1.04 / Math.sqrt(1 << precision); }
+
+    public boolean isSparse() { return registers == null; }
+
+    // PART ----- SERIALIZATION -----
+
+    /**
+     * @return 小端序的序列化数据，稀疏编码时只包含非零寄存器
+     */
+    public byte[] toByteArray()
+    {
+        var registers = this.registers;
+        if (registers != null)
+        {
+            var buffer = Sketches.writer(Sketches.type_hyper_log_log, 2 + registers.length);
+            return buffer.put((byte) precision).put(dense_encoding).put(registers).array();
+        }
+        compact();
+        if (this.registers != null) return toByteArray();
+        var bodySize = 2 + Integer.BYTES + (long) sparseSize * Integer.BYTES;
+        var buffer = Sketches.writer(Sketches.type_hyper_log_log, bodySize);
+        buffer.put((byte) precision).put(sparse_encoding).putInt(sparseSize);
+        for (int i = 0; i < sparseSize; i++) buffer.putInt(sparse[i]);
+        return buffer.array();
+    }
+
+    @Override
+    public String toString()
+    {
+        return STR."HyperLogLog[precision=\{precision}, encoding=\{isSparse() ? "sparse" : "dense"}]";
+    }
+}
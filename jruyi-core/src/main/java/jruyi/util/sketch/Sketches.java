@@ -0,0 +1,117 @@
+package jruyi.util.sketch;
+
+import jruyi.util.Assert;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * <h2>概率数据结构公共方法</h2>
+ *
+ * <p>64 位哈希函数与序列化格式；序列化数据统一为小端序，以 4 字节魔数、1 字节类型与 1 字节版本开头</p>
+ *
+ * @Date 2026-10-18 21:50
+ */
+abstract class Sketches
+{
+    /**
+     * 序列化魔数："JRSK"
+     */
+    private static final int magic = 0x4A52534B;
+    private static final byte version = 1;
+    static final int header_size = 6;
+
+    static final byte type_bloom = 1;
+    static final byte type_hyper_log_log = 2;
+    static final byte type_count_min = 3;
+
+    private static final VarHandle long_handle =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    // PART ----- HASH -----
+
+    /**
+     * @return 雪崩充分的 64 位哈希值（Stafford variant 13）
+     */
+    static long hash(long value)
+    {
+        var h = (value ^ 0x9E3779B97F4A7C15L) + 0x632BE59BD9B4E019L;
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+
+    static long hash(byte[] bytes)
+    {
+        Assert.paramNotNull(bytes, "bytes");
+        var h = (long) bytes.length;
+        var i = 0;
+        for (; i + Long.BYTES <= bytes.length; i += Long.BYTES) h = hash(h ^ (long) long_handle.get(bytes, i));
+        var tail = 0L;
+        for (int shift = 0; i < bytes.length; i++, shift += 8) tail |= (bytes[i] & 0xFFL) << shift;
+        return hash(h ^ tail);
+    }
+
+    static long hash(CharSequence chars)
+    {
+        Assert.paramNotNull(chars, "chars");
+        var length = chars.length();
+        var h = (long) length;
+        var i = 0;
+        for (; i + 4 <= length; i += 4)
+        {
+            var word = chars.charAt(i) | (long) chars.charAt(i + 1) << 16
+                       | (long) chars.charAt(i + 2) << 32 | (long) chars.charAt(i + 3) << 48;
+            h = hash(h ^ word);
+        }
+        var tail = 0L;
+        for (int shift = 0; i < length; i++, shift += 16) tail |= (long) chars.charAt(i) << shift;
+        return hash(h ^ tail);
+    }
+
+    // PART ----- FORMAT -----
+
+    /**
+     * @param type     类型
+     * @param bodySize 头部之后的字节数
+     * @return 已写入头部的缓冲区
+     */
+    static ByteBuffer writer(byte type, long bodySize)
+    {
+        Assert.asserts(
+                bodySize <= Integer.MAX_VALUE - 8 - header_size,
+                STR."sketch is too large for a byte array: [\{bodySize}] bytes"
+        );
+        var buffer = ByteBuffer.allocate(header_size + (int) bodySize).order(ByteOrder.LITTLE_ENDIAN);
+        return buffer.putInt(magic).put(type).put(version);
+    }
+
+    /**
+     * @param bytes 序列化数据
+     * @param type  期望的类型
+     * @return 位于头部之后的缓冲区
+     * @throws IllegalArgumentException 数据不是期望类型的序列化数据
+     */
+    static ByteBuffer reader(byte[] bytes, byte type)
+    {
+        Assert.paramNotNull(bytes, "bytes");
+        var buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        Assert.asserts(
+                bytes.length >= header_size && buffer.getInt() == magic && buffer.get() == type,
+                "bytes are not a serialized sketch of the expected type"
+        );
+        var v = buffer.get();
+        Assert.asserts(v == version, STR."unsupported sketch version: [\{v}]");
+        return buffer;
+    }
+
+    /**
+     * @throws IllegalArgumentException 剩余字节数与期望不一致
+     */
+    static void checkRemaining(ByteBuffer buffer, long expected)
+    {
+        Assert.asserts(buffer.remaining() == expected, "serialized sketch is truncated or corrupted");
+    }
+}
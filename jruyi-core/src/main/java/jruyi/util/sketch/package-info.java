@@ -0,0 +1,6 @@
+/**
+ * <h2>概率数据结构包</h2>
+ *
+ * @Date 2026-10-18 21:50
+ */
+package jruyi.util.sketch;
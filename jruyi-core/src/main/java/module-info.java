@@ -6,8 +6,13 @@
 module jruyi.core
 {
     requires transitive jakarta.annotation;
+    requires static jdk.incubator.vector;
 
     exports jruyi.util;
     exports jruyi.util.reflect;
+    exports jruyi.util.collection;
+    exports jruyi.util.concurrent;
+    exports jruyi.util.cache;
+    exports jruyi.util.sketch;
     exports jruyi.core.mutable;
 }
\ No newline at end of file
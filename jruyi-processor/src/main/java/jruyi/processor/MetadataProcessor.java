@@ -0,0 +1,202 @@
+package jruyi.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * <h2>类元数据注解处理器</h2>
+ *
+ * <p>
+ * 为被 {@code jruyi.util.reflect.Reflectable} 标记的类生成同包下的 {@code 类名$$Metadata} 类，
+ * 实现 {@code jruyi.util.reflect.ClassMetadata}，包含类自身声明的字段与方法信息；
+ * 非 private 字段的读写通过生成的 lambda 直接访问；private 字段的 getter/setter 为 null，由 FieldMetadata 通过反射访问器读写
+ * </p>
+ *
+ * @Date 2026-10-18 16:25
+ */
+@SupportedAnnotationTypes(MetadataProcessor.REFLECTABLE)
+public class MetadataProcessor extends AbstractProcessor
+{
+    public static final String REFLECTABLE = "jruyi.util.reflect.Reflectable";
+    public static final String GENERATED_SUFFIX = "$$Metadata";
+
+    private static final String reflect_package = "jruyi.util.reflect";
+    private static final String field_list = "java.util.List<" + reflect_package + ".FieldMetadata>";
+    private static final String method_list = "java.util.List<" + reflect_package + ".MethodMetadata>";
+
+    @Override public SourceVersion getSupportedSourceVersion() { return SourceVersion.latestSupported(); }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+    {
+        for (var annotation : annotations)
+            for (var type : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(annotation)))
+            {
+                if (!isReachable(type))
+                {
+                    processingEnv.getMessager().printMessage(
+                            Diagnostic.Kind.WARNING,
+                            "private or local class is not accessible from generated metadata, skipped",
+                            type
+                    );
+                    continue;
+                }
+                try { generate(type); }
+                catch (IOException e)
+                {
+                    processingEnv.getMessager().printMessage(
+                            Diagnostic.Kind.ERROR, "failed to generate metadata: " + e.getMessage(), type
+                    );
+                }
+            }
+        return true;
+    }
+
+    /**
+     * @param type 被标记的类
+     * @return 该类能否在同包的顶层类中被引用
+     */
+    private static boolean isReachable(TypeElement type)
+    {
+        for (Element e = type; e instanceof TypeElement t; e = t.getEnclosingElement())
+            if (t.getModifiers().contains(Modifier.PRIVATE) || t.getNestingKind() == NestingKind.LOCAL
+                || t.getNestingKind() == NestingKind.ANONYMOUS)
+                return false;
+        return true;
+    }
+
+    private void generate(TypeElement type) throws IOException
+    {
+        var elements = processingEnv.getElementUtils();
+        var packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        var binaryName = elements.getBinaryName(type).toString();
+        var simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                         + GENERATED_SUFFIX;
+        var qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        var typeName = type.getQualifiedName().toString();
+
+        var file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+        try (var out = new PrintWriter(file.openWriter()))
+        {
+            if (!packageName.isEmpty()) out.println("package " + packageName + ";");
+            out.println();
+            out.println("/**");
+            out.println(" * <h2>" + type.getSimpleName() + " 的类元数据</h2>");
+            out.println(" *");
+            out.println(" * <p>由 " + MetadataProcessor.class.getName() + " 生成，请勿修改</p>");
+            out.println(" */");
+            out.println("@SuppressWarnings({\"rawtypes\", \"unchecked\"})");
+            out.println("public final class " + simpleName + " implements " + reflect_package + ".ClassMetadata");
+            out.println("{");
+
+            out.println("    private static final " + field_list + " fields = java.util.List.of(");
+            var joiner = new StringJoiner(",\n", "", "\n");
+            joiner.setEmptyValue("");
+            for (var f : ElementFilter.fieldsIn(type.getEnclosedElements())) joiner.add(field(typeName, f));
+            out.print(joiner);
+            out.println("    );");
+            out.println();
+
+            out.println("    private static final " + method_list + " methods = java.util.List.of(");
+            joiner = new StringJoiner(",\n", "", "\n");
+            joiner.setEmptyValue("");
+            for (var m : ElementFilter.methodsIn(type.getEnclosedElements())) joiner.add(method(typeName, m));
+            out.print(joiner);
+            out.println("    );");
+            out.println();
+
+            out.println("    public " + simpleName + "() { }");
+            out.println();
+            out.println("    @Override public Class<?> type() { return " + typeName + ".class; }");
+            out.println();
+            out.println("    @Override public " + field_list + " fields() { return fields; }");
+            out.println();
+            out.println("    @Override public " + method_list + " methods() { return methods; }");
+            out.println("}");
+        }
+    }
+
+    private String field(String typeName, VariableElement f)
+    {
+        var name = f.getSimpleName().toString();
+        var modifiers = f.getModifiers();
+        var literal = literal(f.asType());
+        var target = modifiers.contains(Modifier.STATIC) ? typeName : "((" + typeName + ") t)";
+
+        String getter = "null", setter = "null";
+        if (!modifiers.contains(Modifier.PRIVATE))
+        {
+            getter = "t -> " + target + "." + name;
+            if (!modifiers.contains(Modifier.FINAL))
+                setter = "(t, v) -> " + target + "." + name + " = (" + literal + ") v";
+        }
+        return "            new " + reflect_package + ".FieldMetadata(" + typeName + ".class, \"" + name + "\", "
+               + literal + ".class, " + modifiers(modifiers) + ", " + getter + ", " + setter + ")";
+    }
+
+    private String method(String typeName, ExecutableElement m)
+    {
+        var params = new StringJoiner(", ", "new Class<?>[]{", "}");
+        for (var p : m.getParameters()) params.add(literal(p.asType()) + ".class");
+        return "            new " + reflect_package + ".MethodMetadata(" + typeName + ".class, \"" + m.getSimpleName()
+               + "\", " + params + ", " + literal(m.getReturnType()) + ".class, " + modifiers(m.getModifiers()) + ")";
+    }
+
+    /**
+     * @param type 类型
+     * @return 擦除泛型与类型注解后的类字面量名（不含 {@code .class}）
+     */
+    private String literal(TypeMirror type)
+    {
+        return switch (type.getKind())
+        {
+            case BOOLEAN, BYTE, SHORT, INT, LONG, CHAR, FLOAT, DOUBLE, VOID ->
+                    type.getKind().name().toLowerCase(Locale.ROOT);
+            case ARRAY -> literal(((ArrayType) type).getComponentType()) + "[]";
+            case DECLARED -> ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+            case TYPEVAR -> literal(processingEnv.getTypeUtils().erasure(((TypeVariable) type).getUpperBound()));
+            case INTERSECTION -> literal(processingEnv.getTypeUtils().erasure(type));
+            default -> "java.lang.Object";
+        };
+    }
+
+    /**
+     * @param modifiers 修饰符集合
+     * @return 与 {@link java.lang.reflect.Modifier} 一致的修饰符位
+     */
+    private static int modifiers(Set<Modifier> modifiers)
+    {
+        var result = 0;
+        for (var m : modifiers)
+            result |= switch (m)
+            {
+                case PUBLIC -> java.lang.reflect.Modifier.PUBLIC;
+                case PRIVATE -> java.lang.reflect.Modifier.PRIVATE;
+                case PROTECTED -> java.lang.reflect.Modifier.PROTECTED;
+                case STATIC -> java.lang.reflect.Modifier.STATIC;
+                case FINAL -> java.lang.reflect.Modifier.FINAL;
+                case SYNCHRONIZED -> java.lang.reflect.Modifier.SYNCHRONIZED;
+                case VOLATILE -> java.lang.reflect.Modifier.VOLATILE;
+                case TRANSIENT -> java.lang.reflect.Modifier.TRANSIENT;
+                case NATIVE -> java.lang.reflect.Modifier.NATIVE;
+                case ABSTRACT -> java.lang.reflect.Modifier.ABSTRACT;
+                case STRICTFP -> java.lang.reflect.Modifier.STRICT;
+                default -> 0;
+            };
+        return result;
+    }
+}
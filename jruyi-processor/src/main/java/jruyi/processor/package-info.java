@@ -0,0 +1,6 @@
+/**
+ * <h2>注解处理器包</h2>
+ *
+ * @Date 2026-10-18 16:20
+ */
+package jruyi.processor;
@@ -0,0 +1,13 @@
+/**
+ * <h2>Jade-Ruyi 注解处理器模块</h2>
+ *
+ * @Date 2026-10-18 16:20
+ */
+module jruyi.processor
+{
+    requires java.compiler;
+
+    exports jruyi.processor;
+
+    provides javax.annotation.processing.Processor with jruyi.processor.MetadataProcessor;
+}